@@ -5,10 +5,14 @@ import ca.corbett.forms.fields.ComboField;
 import ca.corbett.forms.fields.LabelField;
 import ca.corbett.forms.fields.NumberField;
 import ca.corbett.forms.fields.PanelField;
+import ca.corbett.forms.fields.TextField;
+import ca.corbett.forms.fonts.FontCache;
+import ca.corbett.forms.fonts.FontCatalog;
+import ca.corbett.forms.fonts.FontListModel;
+import ca.corbett.forms.fonts.FontPreviewRenderer;
 
 import javax.swing.AbstractAction;
 import javax.swing.BorderFactory;
-import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
@@ -16,7 +20,6 @@ import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.ListSelectionModel;
-import javax.swing.SwingUtilities;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
@@ -24,12 +27,10 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.Frame;
-import java.awt.GraphicsEnvironment;
 import java.awt.Window;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -42,12 +43,13 @@ import java.util.List;
  */
 public final class FontDialog extends JDialog {
 
-    public static final Font INITIAL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
-    private DefaultListModel<String> fontListModel;
+    public static final Font INITIAL_FONT = FontCache.get(Font.SANS_SERIF, Font.PLAIN, 12);
+    private FontListModel fontListModel;
     private JList<String> fontList;
     private boolean wasOkayed;
 
     private ComboField typeField;
+    private TextField searchField;
     private ComboField styleField;
     private NumberField sizeField;
     private boolean showSizeField = true;
@@ -55,6 +57,8 @@ public final class FontDialog extends JDialog {
     private ColorField textColorField;
     private ColorField bgColorField;
     private Font selectedFont;
+    private final Window ownerWindow;
+    private boolean isPooled; // true if created by acquire(), and so free to be reused by it
 
     /**
      * Creates a new FontDialog with a default initial font and with foreground/background
@@ -93,9 +97,85 @@ public final class FontDialog extends JDialog {
      * @param owner The owning component (for dialog positioning purposes).
      */
     public FontDialog(Component owner, Font initialFont, Color textColor, Color bgColor) {
-        super((getParentObject(owner) instanceof Window) ? (Window) getParentObject(owner) : (Frame) null, "Choose font");
+        super(FormDialog.getOwnerWindow(owner) == null ? (Frame) null : FormDialog.getOwnerWindow(owner), "Choose font");
+        ownerWindow = FormDialog.getOwnerWindow(owner);
         initComponents(initialFont == null ? INITIAL_FONT : initialFont, textColor, bgColor);
-        setLocationRelativeTo((Component) getParentObject(owner));
+        setLocationRelativeTo(ownerWindow);
+    }
+
+    /**
+     * Returns a FontDialog ready to be shown with the given initial font and colors.
+     * <p>
+     * Building a FontDialog is expensive, so rather than constructing a new one every time,
+     * this looks for a hidden FontDialog that was created earlier by acquire() for the same
+     * owner window with the same color options, and resets it. Only if there is no such dialog
+     * is a new one created. Dialogs that the application constructed itself are never handed
+     * out. Call this immediately before showing the dialog.
+     * </p>
+     * <p>
+     * Reused dialogs stay in memory until their owner window is disposed (or, without an
+     * owner, for the life of the application), so there is at most one idle dialog per owner
+     * window and color option combination.
+     * </p>
+     *
+     * @param owner       The owning component (for dialog positioning purposes).
+     * @param initialFont The font to select, or null for INITIAL_FONT.
+     * @param textColor   If not null, text color selection is enabled and starts at this color.
+     * @param bgColor     If not null, background color selection is enabled and starts at this color.
+     * @return A FontDialog that is not currently visible.
+     */
+    public static FontDialog acquire(Component owner, Font initialFont, Color textColor, Color bgColor) {
+        final Window window = FormDialog.getOwnerWindow(owner);
+        FontDialog dialog = FormDialog.findIdleDialog(FontDialog.class, candidate ->
+                candidate.isPooled
+                        && candidate.ownerWindow == window
+                        && (candidate.textColorField != null) == (textColor != null)
+                        && (candidate.bgColorField != null) == (bgColor != null));
+        if (dialog == null) {
+            dialog = new FontDialog(owner, initialFont, textColor, bgColor);
+            dialog.isPooled = true;
+            return dialog;
+        }
+        dialog.reset(initialFont, textColor, bgColor);
+        dialog.setLocationRelativeTo(window);
+        return dialog;
+    }
+
+    /**
+     * Resets this dialog so it can be shown again: selects the given font and colors,
+     * clears the search box, shows the size field and forgets whether it was okayed.
+     * Color selection can't be added to or removed from an existing dialog, so a color
+     * must be given exactly when this dialog was created with one.
+     *
+     * @param initialFont The font to select, or null for INITIAL_FONT.
+     * @param textColor   The text color to select, if text color selection is enabled.
+     * @param bgColor     The background color to select, if background color selection is enabled.
+     * @throws IllegalArgumentException If the colors don't match this dialog's color options.
+     */
+    public void reset(Font initialFont, Color textColor, Color bgColor) {
+        if ((textColor != null) != (textColorField != null)) {
+            throw new IllegalArgumentException("Text color selection is "
+                                                       + (textColorField == null ? "disabled" : "enabled")
+                                                       + " for this dialog.");
+        }
+        if ((bgColor != null) != (bgColorField != null)) {
+            throw new IllegalArgumentException("Background color selection is "
+                                                       + (bgColorField == null ? "disabled" : "enabled")
+                                                       + " for this dialog.");
+        }
+        wasOkayed = false;
+        setShowSizeField(true);
+        searchField.setText("");
+        populateUIFromFont(initialFont == null ? INITIAL_FONT : initialFont);
+        fontTypeChanged();
+        fontChanged();
+        if (textColorField != null) {
+            textColorField.setColor(textColor);
+        }
+        if (bgColorField != null) {
+            bgColorField.setColor(bgColor);
+        }
+        colorChanged();
     }
 
     /**
@@ -176,11 +256,11 @@ public final class FontDialog extends JDialog {
             default:
                 style = Font.PLAIN;
         }
-        selectedFont = new Font(fontFamily, style, size);
+        selectedFont = FontCache.get(fontFamily, style, size);
 
         String labelText = fontFamily.length() > 11 ? fontFamily.substring(0, 11) + "..." : fontFamily;
         sampleLabel.setText(labelText);
-        sampleLabel.setFont(new Font(fontFamily, style, 14));
+        sampleLabel.setFont(FontCache.get(fontFamily, style, 14));
     }
 
     /**
@@ -197,27 +277,47 @@ public final class FontDialog extends JDialog {
      * </ol>
      */
     private void fontTypeChanged() {
-        fontListModel.clear();
         switch (typeField.getSelectedIndex()) {
             case 0:
-                fontListModel.addAll(List.of(Font.SERIF, Font.SANS_SERIF, Font.MONOSPACED, Font.DIALOG, Font.DIALOG_INPUT));
+                fontListModel.setFamilies(FontCatalog.BUILT_IN_FAMILIES);
 
                 // Not guaranteed that the selected font will exist in this list:
-                if (!isBuiltInFont(selectedFont)) {
+                if (!FontCatalog.isBuiltIn(selectedFont) && fontListModel.getSize() > 0) {
                     fontList.setSelectedIndex(0);
                     fontChanged();
                 }
-
-                // Now we can select it:
-                fontList.setSelectedValue(selectedFont.getFamily(), true);
                 break;
             case 1:
-                fontListModel.addAll(Arrays.asList(GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames()));
-
-                // Guaranteed that the selected font will exist in this list, so select it:
-                fontList.setSelectedValue(selectedFont.getFamily(), true);
+                fontListModel.setFamilies(FontCatalog.getSystemFamilies());
                 break;
         }
+
+        // Guaranteed to exist now, unless the search filter hides it:
+        selectCurrentFamily();
+    }
+
+    /**
+     * Invoked internally as the user types in the search box, to filter the font list.
+     * The current selection is kept if it still matches the filter.
+     */
+    private void searchChanged() {
+        fontListModel.setFilter(searchField.getText());
+        selectCurrentFamily();
+    }
+
+    /**
+     * Invoked internally to select and scroll to the selected font's family in the list,
+     * or clear the list selection if the family isn't visible.
+     */
+    private void selectCurrentFamily() {
+        int row = fontListModel.indexOf(selectedFont.getFamily());
+        if (row == -1) {
+            fontList.clearSelection();
+        }
+        else if (fontList.getSelectedIndex() != row) {
+            fontList.setSelectedIndex(row);
+            fontList.ensureIndexIsVisible(row);
+        }
     }
 
     /**
@@ -240,7 +340,7 @@ public final class FontDialog extends JDialog {
      */
     private void populateUIFromFont(Font font) {
         selectedFont = font;
-        typeField.setSelectedIndex(isBuiltInFont(selectedFont) ? 0 : 1);
+        typeField.setSelectedIndex(FontCatalog.isBuiltIn(selectedFont) ? 0 : 1);
         fontList.setSelectedValue(font.getFamily(), true);
         sizeField.setCurrentValue(font.getSize());
         switch (font.getStyle()) {
@@ -268,7 +368,7 @@ public final class FontDialog extends JDialog {
     private void initComponents(Font initialFont, Color textColor, Color bgColor) {
         selectedFont = initialFont;
         setModalityType(ModalityType.APPLICATION_MODAL);
-        int startingHeight = 380;
+        int startingHeight = 410;
         if (textColor != null) {
             startingHeight += 22;
         }
@@ -316,12 +416,22 @@ public final class FontDialog extends JDialog {
         });
         formPanel.addFormField(typeField);
 
+        searchField = new TextField("Search:", 15, 1, true);
+        searchField.addValueChangedAction(new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                searchChanged();
+            }
+        });
+        formPanel.addFormField(searchField);
+
         PanelField panelField = new PanelField();
         JPanel panel = panelField.getPanel();
         panel.setLayout(new BorderLayout());
-        fontListModel = new DefaultListModel<>();
+        fontListModel = new FontListModel();
         fontList = new JList<>(fontListModel);
         fontList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        FontPreviewRenderer.install(fontList);
         fontList.addListSelectionListener(e -> fontChanged());
         JScrollPane scrollPane = new JScrollPane(fontList);
         scrollPane.getVerticalScrollBar().setUnitIncrement(20);
@@ -342,7 +452,7 @@ public final class FontDialog extends JDialog {
         formPanel.addFormField(sizeField);
 
         sampleLabel = new LabelField("Sample:", "Sample text");
-        sampleLabel.setFont(INITIAL_FONT.deriveFont(16f));
+        sampleLabel.setFont(FontCache.derive(INITIAL_FONT, INITIAL_FONT.getStyle(), 16f));
         formPanel.addFormField(sampleLabel);
 
         if (textColor != null) {
@@ -412,37 +522,4 @@ public final class FontDialog extends JDialog {
         button.addActionListener(action);
         return button;
     }
-
-    /**
-     * The JRE guarantees us that certain font families will exist, no matter what kind of system
-     * we're running on. These are the "safe" fonts that we can always count on, as opposed to the
-     * list of system-installed fonts, which can vary wildly from system to system.
-     *
-     * @param font Any candidate Font object.
-     * @return True if the given font is a java built-in font.
-     */
-    private boolean isBuiltInFont(Font font) {
-        return (font.getFamily().equals(Font.DIALOG) ||
-                font.getFamily().equals(Font.SANS_SERIF) ||
-                font.getFamily().equals(Font.SERIF) ||
-                font.getFamily().equals(Font.DIALOG_INPUT) ||
-                font.getFamily().equals(Font.MONOSPACED));
-    }
-
-    /**
-     * Given any Component, try to find a Frame or a Window in its hierarchy.
-     * This is a little ugly, but the FormField won't be reasonably able to supply
-     * us with the containing Frame, which we need to position this dialog on startup.
-     * Without this, our dialog might appear quite far away from the owning
-     * frame, which is ugly.
-     *
-     * @param component Any Component
-     * @return A Frame or Window that contains that component. WARNING: might be null if we can't find one.
-     */
-    private static Object getParentObject(Component component) {
-        if (component instanceof Window) {
-            return component;
-        }
-        return SwingUtilities.getAncestorOfClass(Window.class, component);
-    }
 }
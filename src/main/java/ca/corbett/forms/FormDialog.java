@@ -0,0 +1,209 @@
+package ca.corbett.forms;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Frame;
+import java.awt.Window;
+import java.awt.event.ActionListener;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A modal OK/Cancel dialog that shows a FormPanel, and that is reused rather than rebuilt
+ * every time it is shown.
+ * <p>
+ * Building a dialog means building its form: every FormField, every Swing component and a
+ * full render(). FormDialog does that once. Use acquire() to get a dialog for a FormPanel:
+ * the first call for a given panel and owner creates the dialog, and every later call
+ * hands back the same one, as long as it isn't already showing. To show it, pass the
+ * values to edit to showDialog(), which loads them with FormPanel.setFieldValues() -
+ * no components are created and nothing is re-rendered, so the second and later opens
+ * are nearly instant. Read the edited values back with getFieldValues().
+ * </p>
+ * <pre>
+ * FormDialog dialog = FormDialog.acquire(this, "Edit contact", contactForm);
+ * if (dialog.showDialog(contact.toMap())) {
+ *     contact.update(dialog.getFieldValues());
+ * }
+ * </pre>
+ * <p>
+ * Only fields with an identifier take part in showDialog() and getFieldValues(). The OK
+ * button validates the form, and only closes the dialog if the form is valid.
+ * </p>
+ * <p>
+ * A FormDialog (and its form) stays in memory until its owner window is disposed, or for
+ * the life of the application if it has no owner. Call dispose() on it to release it sooner.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FormDialog extends JDialog {
+
+    private final Window ownerWindow;
+    private FormPanel formPanel;
+    private boolean wasOkayed;
+
+    private FormDialog(Window ownerWindow, String title, FormPanel formPanel) {
+        super(ownerWindow == null ? (Frame) null : ownerWindow, title);
+        this.ownerWindow = ownerWindow;
+        this.formPanel = formPanel;
+        setModalityType(ModalityType.APPLICATION_MODAL);
+        setLayout(new BorderLayout());
+        formPanel.render();
+        add(formPanel, BorderLayout.CENTER);
+        add(buildButtonPanel(), BorderLayout.SOUTH);
+        pack();
+    }
+
+    /**
+     * Returns an idle FormDialog showing the given FormPanel, creating one if necessary.
+     * A FormPanel can only be in one dialog at a time: if it was last shown for a different
+     * owner, or its dialog has since been disposed, it is moved into a new dialog for this
+     * owner and the old dialog is disposed and let go of.
+     *
+     * @param owner     The owning component (for dialog positioning purposes). May be null.
+     * @param title     The title to show on the dialog.
+     * @param formPanel The form to show. It is rendered when the dialog is created.
+     * @return A FormDialog that is not currently visible.
+     * @throws IllegalStateException If the form is already showing in another dialog.
+     */
+    public static FormDialog acquire(Component owner, String title, FormPanel formPanel) {
+        Window window = getOwnerWindow(owner);
+        Window ancestor = SwingUtilities.getWindowAncestor(formPanel);
+        FormDialog dialog = ancestor instanceof FormDialog ? (FormDialog) ancestor : null;
+        if (dialog != null && dialog.isVisible()) {
+            throw new IllegalStateException("This form is already showing in a dialog.");
+        }
+        if (dialog != null && (dialog.ownerWindow != window || !dialog.isDisplayable())) {
+            dialog.remove(formPanel);
+            dialog.formPanel = null;
+            dialog.dispose();
+            dialog = null;
+        }
+        if (dialog == null) {
+            dialog = new FormDialog(window, title, formPanel);
+        }
+        dialog.setTitle(title);
+        dialog.setLocationRelativeTo(window);
+        return dialog;
+    }
+
+    /**
+     * Returns the FormPanel shown in this dialog.
+     *
+     * @return Our FormPanel.
+     */
+    public FormPanel getFormPanel() {
+        return formPanel;
+    }
+
+    /**
+     * Loads the given values into the form, shows the dialog, and blocks until the user
+     * closes it. Fields whose identifiers aren't in the map keep whatever value they had.
+     *
+     * @param values A map of field identifier to initial field value. May be empty.
+     * @return True if the user clicked OK on a valid form.
+     */
+    public boolean showDialog(Map<String, ?> values) {
+        if (formPanel == null) {
+            throw new IllegalStateException("This dialog's form has moved to another dialog; use acquire().");
+        }
+        formPanel.setFieldValues(values);
+        wasOkayed = false;
+        setVisible(true);
+        return wasOkayed;
+    }
+
+    /**
+     * Reports whether the dialog was okayed by the user the last time it was shown.
+     *
+     * @return True if the user hit OK, false if the dialog was closed any other way.
+     */
+    public boolean wasOkayed() {
+        return wasOkayed;
+    }
+
+    /**
+     * Returns the current value of every identified field in the form.
+     * See FormPanel.getFieldValues().
+     *
+     * @return A map of field identifier to current field value, in form order.
+     */
+    public Map<String, Object> getFieldValues() {
+        return formPanel.getFieldValues();
+    }
+
+    /**
+     * Searches all of the application's windows for a hidden dialog of the given type that
+     * satisfies the given test. This is how reusable dialogs find each other without a
+     * separate registry.
+     * <p>
+     * Note that a dialog that has been shown keeps its native resources, and with them a
+     * reference to its owner, until it is disposed, so idle dialogs are not garbage collected
+     * on their own. Disposing an owner window disposes the dialogs it owns, so a reused dialog
+     * lives exactly as long as its owner window is open; dialogs with no owner live as long as
+     * the application does. Callers should only reuse dialogs that they created for reuse.
+     * </p>
+     *
+     * @param type    The dialog class to look for.
+     * @param matches A test for a suitable dialog.
+     * @return A matching hidden dialog, or null if there is none.
+     */
+    static <T extends Window> T findIdleDialog(Class<T> type, Predicate<? super T> matches) {
+        for (Window window : Window.getWindows()) {
+            if (type.isInstance(window) && !window.isVisible()) {
+                T dialog = type.cast(window);
+                if (matches.test(dialog)) {
+                    return dialog;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Given any Component, find the Window that contains it, so we can position our dialog
+     * over it.
+     *
+     * @param component Any Component, or null.
+     * @return The containing Window, or null if there isn't one.
+     */
+    static Window getOwnerWindow(Component component) {
+        if (component == null || component instanceof Window) {
+            return (Window) component;
+        }
+        return SwingUtilities.getWindowAncestor(component);
+    }
+
+    private void closeDialog(boolean okayed) {
+        if (okayed && !formPanel.isFormValid()) {
+            return;
+        }
+        wasOkayed = okayed;
+        setVisible(false);
+    }
+
+    private JPanel buildButtonPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new FlowLayout(FlowLayout.RIGHT));
+        panel.add(buildButton("OK", e -> closeDialog(true)));
+        panel.add(buildButton("Cancel", e -> closeDialog(false)));
+        panel.setBorder(BorderFactory.createRaisedBevelBorder());
+        return panel;
+    }
+
+    private JButton buildButton(String label, ActionListener action) {
+        JButton button = new JButton(label);
+        button.setPreferredSize(new Dimension(90, 23));
+        button.addActionListener(action);
+        return button;
+    }
+}
@@ -10,7 +10,9 @@ import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This FormPanel wraps a collection of FormField instances and provides an
@@ -27,6 +29,12 @@ import java.util.List;
  * any time, though you will have to re-render the FormPanel if you change
  * this property after the FormPanel has already been rendered.
  * </p>
+ * <p>
+ * A rendered FormPanel can be reused for many different records: getFieldValues()
+ * and setFieldValues() read and load all identified fields at once, without
+ * rebuilding any components. If you need several independent copies of the same
+ * form on screen at once, describe the form with a FormTemplate and stamp() it.
+ * </p>
  *
  * @author scorbo2
  * @since 2019-11-24
@@ -168,6 +176,47 @@ public final class FormPanel extends JPanel {
         return formFields.size();
     }
 
+    /**
+     * Returns the current value of every field in this panel that has an identifier,
+     * keyed by identifier. Values are as reported by FormField.getFieldValue().
+     * Fields without an identifier are not included.
+     *
+     * @return A map of field identifier to current field value, in form order.
+     */
+    public Map<String, Object> getFieldValues() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (FormField field : formFields) {
+            if (field.getIdentifier() != null) {
+                values.put(field.getIdentifier(), field.getFieldValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Loads a new set of values into this panel's fields, matching map keys to field
+     * identifiers. Fields whose identifier is not in the map are left alone. Any
+     * previous validation results are cleared.
+     * <p>
+     * This is the cheap way to reuse one form for many records (for example, one
+     * detail form for every row of a master-detail screen): the form is built and
+     * rendered once, and switching records is just one value update per field,
+     * with no component construction and no re-render. Value changed actions on
+     * the fields will fire as usual.
+     * </p>
+     *
+     * @param values A map of field identifier to new field value.
+     */
+    public void setFieldValues(Map<String, ?> values) {
+        for (FormField field : formFields) {
+            String identifier = field.getIdentifier();
+            if (identifier != null && values.containsKey(identifier)) {
+                field.setFieldValue(values.get(identifier));
+            }
+        }
+        clearValidationResults();
+    }
+
     /**
      * Invoke this to clear the validation label off any previously validated field.
      * Useful for when resetting a form to its initial state.
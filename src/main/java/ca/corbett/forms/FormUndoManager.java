@@ -0,0 +1,555 @@
+package ca.corbett.forms;
+
+import ca.corbett.forms.fields.FormField;
+
+import javax.swing.AbstractAction;
+import javax.swing.InputMap;
+import javax.swing.JComponent;
+import javax.swing.KeyStroke;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.UndoableEditListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import javax.swing.undo.CompoundEdit;
+import javax.swing.undo.UndoableEdit;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Provides undo and redo across all the fields of a FormPanel. Every edit made to any
+ * attached field is recorded in a single, form-wide history, so "undo" always reverts
+ * the most recent change, no matter which field it was made in.
+ * <p>
+ * Memory use is bounded: the history lives in a fixed-capacity ring buffer, and in
+ * addition to the maximum number of entries, each manager has a budget for the total
+ * amount of text held in its history. Once either limit is reached, the oldest entries
+ * are discarded to make room for new ones.
+ * </p>
+ * <p>
+ * Fields whose component is a text component (TextField, FileField) are tracked
+ * through their Document, so each history entry holds only the text that was actually
+ * inserted or removed and never a full copy of the field contents. Consecutive typing
+ * (or backspacing) in the same field is merged into a single entry, and the removal and
+ * insertion that make up a single replace (setText(), pasting or typing over a selection)
+ * are always combined, so one undo never stops halfway through. All other fields
+ * are tracked through their value changed actions, and each entry holds the old and
+ * new values as reported by FormField.getFieldValue().
+ * </p>
+ * <p>
+ * Typical usage:
+ * </p>
+ * <blockquote><pre>
+ * FormUndoManager undoManager = new FormUndoManager(formPanel);
+ * undoManager.installKeyBindings(formPanel); // ctrl+Z / ctrl+Y
+ * </pre></blockquote>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FormUndoManager {
+
+    /**
+     * The default maximum number of entries in the undo history.
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * The default maximum number of characters of text held in the undo history.
+     */
+    public static final long DEFAULT_MAX_CHARS = 1_000_000;
+
+    /**
+     * Consecutive keystrokes in the same field are merged if they arrive within this many millis.
+     */
+    private static final long MERGE_WINDOW_MS = 1500;
+
+    private final Entry[] history;
+    private final long maxChars;
+    private int start;     // ring index of the oldest entry
+    private int size;      // total entries in the ring (undoable + redoable)
+    private int cursor;    // number of entries that can currently be undone
+    private long totalChars;
+    private boolean isApplying;
+
+    private final Map<FormField, Object> lastValues = new IdentityHashMap<>();
+    private final Map<FormField, UndoableEditListener> editListeners = new IdentityHashMap<>();
+    private final AbstractAction valueChangedAction = new AbstractAction() {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            valueChanged((FormField) e.getSource());
+        }
+    };
+
+    /**
+     * Creates a FormUndoManager with default limits, attached to all fields currently
+     * in the given FormPanel.
+     *
+     * @param formPanel The FormPanel whose fields should be tracked.
+     */
+    public FormUndoManager(FormPanel formPanel) {
+        this(formPanel, DEFAULT_CAPACITY, DEFAULT_MAX_CHARS);
+    }
+
+    /**
+     * Creates a FormUndoManager with the given limits, attached to all fields currently
+     * in the given FormPanel. Fields added to the form later can be tracked with attach().
+     *
+     * @param formPanel The FormPanel whose fields should be tracked.
+     * @param capacity  The maximum number of entries to keep in the undo history.
+     * @param maxChars  The maximum number of characters of text to keep in the undo history.
+     */
+    public FormUndoManager(FormPanel formPanel, int capacity, long maxChars) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        this.history = new Entry[capacity];
+        this.maxChars = maxChars;
+        if (formPanel != null) {
+            for (FormField field : formPanel.getFormFields()) {
+                attach(field);
+            }
+        }
+    }
+
+    /**
+     * Starts tracking edits in the given field. Does nothing if the field is already attached.
+     *
+     * @param field The FormField to track.
+     */
+    public void attach(FormField field) {
+        if (editListeners.containsKey(field) || lastValues.containsKey(field)) {
+            return;
+        }
+        JComponent component = field.getFieldComponent();
+        if (component instanceof JTextComponent) {
+            final Document document = ((JTextComponent) component).getDocument();
+            UndoableEditListener listener = e -> documentEdited(field, document, e.getEdit());
+            document.addUndoableEditListener(listener);
+            editListeners.put(field, listener);
+        }
+        else {
+            lastValues.put(field, field.getFieldValue());
+            field.addValueChangedAction(valueChangedAction);
+        }
+    }
+
+    /**
+     * Stops tracking edits in the given field. Existing history entries for the field are kept.
+     *
+     * @param field The FormField to stop tracking.
+     */
+    public void detach(FormField field) {
+        UndoableEditListener listener = editListeners.remove(field);
+        if (listener != null) {
+            ((JTextComponent) field.getFieldComponent()).getDocument().removeUndoableEditListener(listener);
+        }
+        if (lastValues.containsKey(field)) {
+            lastValues.remove(field);
+            field.removeValueChangedAction(valueChangedAction);
+        }
+    }
+
+    /**
+     * Binds ctrl+Z to undo and ctrl+Y (and ctrl+shift+Z) to redo for the given component
+     * and everything inside it. Typically the component is the FormPanel itself. On macOS,
+     * the command key is used instead of ctrl.
+     *
+     * @param component The component on which to install the key bindings.
+     */
+    public void installKeyBindings(JComponent component) {
+        int mask = Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx();
+        InputMap inputMap = component.getInputMap(JComponent.WHEN_ANCESTOR_OF_FOCUSED_COMPONENT);
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, mask), "formUndo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Y, mask), "formRedo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, mask | InputEvent.SHIFT_DOWN_MASK), "formRedo");
+        component.getActionMap().put("formUndo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                undo();
+            }
+        });
+        component.getActionMap().put("formRedo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                redo();
+            }
+        });
+    }
+
+    /**
+     * Reports whether there is anything to undo.
+     *
+     * @return True if undo() would revert an edit.
+     */
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    /**
+     * Reports whether there is anything to redo.
+     *
+     * @return True if redo() would re-apply an edit.
+     */
+    public boolean canRedo() {
+        return cursor < size;
+    }
+
+    /**
+     * Reverts the most recent edit on the form, if there is one.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            return;
+        }
+        cursor--;
+        Entry entry = history[ringIndex(cursor)];
+        entry.close();
+        isApplying = true;
+        try {
+            entry.undo();
+        }
+        finally {
+            isApplying = false;
+        }
+    }
+
+    /**
+     * Re-applies the most recently undone edit, if there is one.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            return;
+        }
+        Entry entry = history[ringIndex(cursor)];
+        entry.close();
+        cursor++;
+        isApplying = true;
+        try {
+            entry.redo();
+        }
+        finally {
+            isApplying = false;
+        }
+    }
+
+    /**
+     * Clears the undo history. Useful after loading a new set of values into the form,
+     * so that the user can't "undo" back into the previous record.
+     */
+    public void discardAllEdits() {
+        while (size > 0) {
+            evictOldest();
+        }
+        for (FormField field : lastValues.keySet()) {
+            lastValues.put(field, field.getFieldValue());
+        }
+    }
+
+    /**
+     * Returns the number of entries currently in the history (both undoable and redoable).
+     *
+     * @return The number of history entries.
+     */
+    public int getHistorySize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of characters of text currently held by the history.
+     * This will never exceed the maxChars limit given in the constructor.
+     *
+     * @return The number of characters retained by the undo history.
+     */
+    public long getRetainedChars() {
+        return totalChars;
+    }
+
+    /**
+     * Invoked internally when a non-text field reports a value change.
+     */
+    private void valueChanged(FormField field) {
+        Object newValue = field.getFieldValue();
+        Object oldValue = lastValues.put(field, newValue);
+        if (isApplying || Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        push(new ValueEntry(field, oldValue, newValue));
+    }
+
+    /**
+     * Invoked internally when a text field's Document reports an undoable edit.
+     */
+    private void documentEdited(FormField field, Document document, UndoableEdit edit) {
+        if (isApplying) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        DocumentEntry top = cursor > 0 && cursor == size ? asDocumentEntry(history[ringIndex(cursor - 1)]) : null;
+        Object sourceEvent = EventQueue.isDispatchThread() ? EventQueue.getCurrentEvent() : null;
+        if (edit instanceof DocumentEvent) {
+            DocumentEvent event = (DocumentEvent) edit;
+            if (top != null && top.isGroupedWith(document, event, sourceEvent)) {
+                top.addToGroup(edit, event.getLength());
+                totalChars += event.getLength();
+                trimToBudget();
+                return;
+            }
+            boolean isKeystroke = event.getLength() == 1 && !isNewline(document, event);
+            if (isKeystroke && top != null && top.canMerge(document, event, now)) {
+                top.merge(edit, event, now);
+                totalChars++;
+                trimToBudget();
+                return;
+            }
+            DocumentEntry entry = new DocumentEntry(field, document, edit, event.getLength());
+            entry.startGroup(event, sourceEvent);
+            if (isKeystroke) {
+                entry.startRun(event, now);
+            }
+            push(entry);
+        }
+        else {
+            push(new DocumentEntry(field, document, edit, 1));
+        }
+    }
+
+    private static DocumentEntry asDocumentEntry(Entry entry) {
+        return entry instanceof DocumentEntry ? (DocumentEntry) entry : null;
+    }
+
+    private static boolean isNewline(Document document, DocumentEvent event) {
+        if (event.getType() != DocumentEvent.EventType.INSERT) {
+            return false;
+        }
+        try {
+            return document.getText(event.getOffset(), 1).charAt(0) == '\n';
+        }
+        catch (BadLocationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds the given entry to the top of the history, discarding anything that could have been
+     * redone, and evicting the oldest entries if we're over capacity or over budget.
+     */
+    private void push(Entry entry) {
+        if (cursor > 0) {
+            history[ringIndex(cursor - 1)].close();
+        }
+        while (size > cursor) {
+            size--;
+            int index = ringIndex(size);
+            totalChars -= history[index].weight;
+            history[index].discard();
+            history[index] = null;
+        }
+        if (size == history.length) {
+            evictOldest();
+        }
+        history[ringIndex(size)] = entry;
+        size++;
+        cursor++;
+        totalChars += entry.weight;
+        trimToBudget();
+    }
+
+    private void trimToBudget() {
+        while (totalChars > maxChars && size > 0) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        Entry oldest = history[start];
+        history[start] = null;
+        totalChars -= oldest.weight;
+        oldest.discard();
+        start = (start + 1) % history.length;
+        size--;
+        cursor = Math.max(0, cursor - 1);
+    }
+
+    private int ringIndex(int position) {
+        return (start + position) % history.length;
+    }
+
+    /**
+     * A single entry in the undo history.
+     */
+    private abstract static class Entry {
+        final FormField field;
+        long weight;
+
+        Entry(FormField field, long weight) {
+            this.field = field;
+            this.weight = weight;
+        }
+
+        abstract void undo();
+
+        abstract void redo();
+
+        /**
+         * Invoked once nothing more can be added to this entry.
+         */
+        void close() {
+        }
+
+        void discard() {
+        }
+    }
+
+    /**
+     * A history entry for a text component. Holds the Document's own UndoableEdits, which
+     * record only the affected text, in the order in which they happened.
+     * <p>
+     * Each entry starts with an open group: a CompoundEdit that collects every further edit
+     * belonging to the same change. On the EDT, that is every edit made to the document
+     * while the same AWT event is being dispatched, which covers typing over a selection,
+     * pasting and setText() from an action. Elsewhere, where there is no current event, it
+     * is the insertion that immediately follows a removal at the same offset, which is what
+     * Document.replace() does. The group is ended as soon as anything else happens.
+     * </p>
+     */
+    private static final class DocumentEntry extends Entry {
+        final Document document;
+        final List<UndoableEdit> edits = new ArrayList<>(1);
+        DocumentEvent.EventType runType; // null if this entry can't be merged with
+        int nextOffset;
+        long lastEditTime;
+        CompoundEdit group;             // null once the group is closed
+        Object groupEvent;
+        DocumentEvent.EventType groupLastType;
+        int groupLastOffset;
+        int groupSize;
+
+        DocumentEntry(FormField field, Document document, UndoableEdit edit, long weight) {
+            super(field, Math.max(1, weight));
+            this.document = document;
+            group = new CompoundEdit();
+            group.addEdit(edit);
+            edits.add(group);
+        }
+
+        void startGroup(DocumentEvent event, Object sourceEvent) {
+            groupEvent = sourceEvent;
+            groupLastType = event.getType();
+            groupLastOffset = event.getOffset();
+            groupSize = 1;
+        }
+
+        boolean isGroupedWith(Document doc, DocumentEvent event, Object sourceEvent) {
+            if (group == null || doc != document) {
+                return false;
+            }
+            if (sourceEvent != null || groupEvent != null) {
+                return sourceEvent == groupEvent;
+            }
+            return groupSize == 1 && groupLastType == DocumentEvent.EventType.REMOVE
+                    && event.getType() == DocumentEvent.EventType.INSERT && event.getOffset() == groupLastOffset;
+        }
+
+        void addToGroup(UndoableEdit edit, int length) {
+            group.addEdit(edit);
+            weight += length;
+            runType = null; // a replace is never merged with typing that follows it
+            DocumentEvent event = (DocumentEvent) edit;
+            groupLastType = event.getType();
+            groupLastOffset = event.getOffset();
+            groupSize++;
+        }
+
+        @Override
+        void close() {
+            if (group != null) {
+                group.end();
+                group = null;
+            }
+        }
+
+        void startRun(DocumentEvent event, long now) {
+            runType = event.getType();
+            nextOffset = runType == DocumentEvent.EventType.INSERT ? event.getOffset() + 1 : event.getOffset();
+            lastEditTime = now;
+        }
+
+        boolean canMerge(Document doc, DocumentEvent event, long now) {
+            if (runType == null || doc != document || event.getType() != runType || now - lastEditTime > MERGE_WINDOW_MS) {
+                return false;
+            }
+            if (runType == DocumentEvent.EventType.INSERT) {
+                return event.getOffset() == nextOffset;
+            }
+            // Backspace removes the character before the last one; delete removes the same offset again:
+            return event.getOffset() == nextOffset - 1 || event.getOffset() == nextOffset;
+        }
+
+        void merge(UndoableEdit edit, DocumentEvent event, long now) {
+            close();
+            edits.add(edit);
+            weight++;
+            startRun(event, now);
+        }
+
+        @Override
+        void undo() {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                if (edits.get(i).canUndo()) {
+                    edits.get(i).undo();
+                }
+            }
+        }
+
+        @Override
+        void redo() {
+            for (UndoableEdit edit : edits) {
+                if (edit.canRedo()) {
+                    edit.redo();
+                }
+            }
+        }
+
+        @Override
+        void discard() {
+            for (UndoableEdit edit : edits) {
+                edit.die();
+            }
+        }
+    }
+
+    /**
+     * A history entry for a non-text field, which holds the old and new field values.
+     */
+    private final class ValueEntry extends Entry {
+        final Object oldValue;
+        final Object newValue;
+
+        ValueEntry(FormField field, Object oldValue, Object newValue) {
+            super(field, 1);
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        @Override
+        void undo() {
+            field.setFieldValue(oldValue);
+            lastValues.put(field, oldValue);
+        }
+
+        @Override
+        void redo() {
+            field.setFieldValue(newValue);
+            lastValues.put(field, newValue);
+        }
+    }
+}
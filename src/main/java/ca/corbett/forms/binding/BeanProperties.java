@@ -0,0 +1,139 @@
+package ca.corbett.forms.binding;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the readable and writable properties of a bean class into MethodHandle
+ * accessors. Resolution happens once per class and the result is cached for the life
+ * of the class, so binding thousands of beans of the same type costs one introspection.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+final class BeanProperties {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, Accessor>> cache = new ClassValue<>() {
+        @Override
+        protected Map<String, Accessor> computeValue(Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    private BeanProperties() {
+    }
+
+    /**
+     * Returns the accessors for all properties of the given bean class, keyed by property name.
+     *
+     * @param beanClass Any bean class.
+     * @return An unmodifiable map of property name to Accessor.
+     */
+    static Map<String, Accessor> of(Class<?> beanClass) {
+        return cache.get(beanClass);
+    }
+
+    private static Map<String, Accessor> introspect(Class<?> beanClass) {
+        PropertyDescriptor[] descriptors;
+        try {
+            descriptors = Introspector.getBeanInfo(beanClass, Object.class).getPropertyDescriptors();
+        }
+        catch (IntrospectionException e) {
+            throw new IllegalArgumentException("Unable to introspect " + beanClass.getName(), e);
+        }
+        Map<String, Accessor> accessors = new HashMap<>();
+        for (PropertyDescriptor descriptor : descriptors) {
+            if (descriptor.getPropertyType() == null) {
+                continue; // indexed-only property
+            }
+            MethodHandle getter = unreflect(descriptor.getReadMethod(), GETTER_TYPE);
+            MethodHandle setter = unreflect(descriptor.getWriteMethod(), SETTER_TYPE);
+            accessors.put(descriptor.getName(), new Accessor(descriptor.getName(), descriptor.getPropertyType(), getter, setter));
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * Converts the given Method into a MethodHandle of the given generic type, so that it can
+     * be called with invokeExact regardless of the actual bean and property types.
+     */
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        }
+        catch (IllegalAccessException e) {
+            // Not publicly accessible (for example, a public method on a non-public class):
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(type);
+            }
+            catch (IllegalAccessException | RuntimeException e2) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Holds the getter and setter handles for a single bean property.
+     * Either handle may be null if the property is write-only or read-only.
+     */
+    static final class Accessor {
+        final String name;
+        final Class<?> type;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        Accessor(String name, Class<?> type, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        boolean isReadable() {
+            return getter != null;
+        }
+
+        boolean isWritable() {
+            return setter != null;
+        }
+
+        Object get(Object bean) {
+            try {
+                return (Object) getter.invokeExact(bean);
+            }
+            catch (RuntimeException | Error e) {
+                throw e;
+            }
+            catch (Throwable t) {
+                throw new IllegalStateException("Unable to read property " + name, t);
+            }
+        }
+
+        void set(Object bean, Object value) {
+            try {
+                setter.invokeExact(bean, value);
+            }
+            catch (RuntimeException | Error e) {
+                throw e;
+            }
+            catch (Throwable t) {
+                throw new IllegalStateException("Unable to write property " + name, t);
+            }
+        }
+    }
+}
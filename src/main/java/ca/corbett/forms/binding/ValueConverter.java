@@ -0,0 +1,296 @@
+package ca.corbett.forms.binding;
+
+import ca.corbett.forms.fields.CheckBoxField;
+import ca.corbett.forms.fields.ColorField;
+import ca.corbett.forms.fields.ComboField;
+import ca.corbett.forms.fields.FileField;
+import ca.corbett.forms.fields.FontField;
+import ca.corbett.forms.fields.FormField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+
+import javax.swing.JSpinner;
+import javax.swing.SpinnerModel;
+import javax.swing.SpinnerNumberModel;
+import java.awt.Color;
+import java.awt.Font;
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Function;
+
+/**
+ * Converts values between the type held by a FormField and the type of a bean property.
+ * The conversion functions are chosen once, when a field is bound, so that reading and
+ * writing beans never has to inspect types again.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+final class ValueConverter {
+
+    final Function<Object, Object> toField;
+    final Function<Object, Object> toBean;
+
+    private ValueConverter(Function<Object, Object> toField, Function<Object, Object> toBean) {
+        this.toField = toField;
+        this.toBean = toBean;
+    }
+
+    /**
+     * Returns the type of value that the given FormField reports from getFieldValue().
+     */
+    static Class<?> fieldValueType(FormField field) {
+        if (field instanceof TextField || field instanceof ComboField) {
+            return String.class;
+        }
+        if (field instanceof CheckBoxField) {
+            return Boolean.class;
+        }
+        if (field instanceof NumberField) {
+            return Number.class;
+        }
+        if (field instanceof ColorField) {
+            return Color.class;
+        }
+        if (field instanceof FontField) {
+            return Font.class;
+        }
+        if (field instanceof FileField) {
+            return ((FileField) field).getFileSystem() == FileSystems.getDefault() ? File.class : Path.class;
+        }
+        return Object.class;
+    }
+
+    /**
+     * Finds a converter between the given field and bean property type. This is between()
+     * for the field's value type, except that values going into a NumberField are converted
+     * to the Number class its spinner model holds, and values going into a FileField are
+     * converted for whatever FileSystem the field uses when they are written.
+     *
+     * @param field        The field to bind.
+     * @param propertyType The declared type of the bean property.
+     * @return A ValueConverter.
+     * @throws IllegalArgumentException If there is no conversion between the two types.
+     */
+    static ValueConverter forField(FormField field, Class<?> propertyType) {
+        if (field instanceof NumberField) {
+            final NumberField numberField = (NumberField) field;
+            ValueConverter converter = between(Number.class, propertyType);
+            return new ValueConverter(value -> toSpinnerValue(numberField, (Number) value), converter.toBean);
+        }
+        if (field instanceof FileField) {
+            return forFileField((FileField) field, propertyType);
+        }
+        return between(fieldValueType(field), propertyType);
+    }
+
+    /**
+     * Converts a bean value to the Number class held by the given field's spinner model, so
+     * that the spinner can keep stepping it. A null value becomes the model's minimum, or its
+     * current value if it has no minimum, since a SpinnerModel can't hold null.
+     */
+    private static Object toSpinnerValue(NumberField field, Number value) {
+        SpinnerModel model = ((JSpinner) field.getFieldComponent()).getModel();
+        if (value == null) {
+            if (model instanceof SpinnerNumberModel && ((SpinnerNumberModel) model).getMinimum() != null) {
+                return ((SpinnerNumberModel) model).getMinimum();
+            }
+            return model.getValue();
+        }
+        Function<Number, Object> conversion = numberConverter(model.getValue().getClass());
+        return conversion == null ? value : conversion.apply(value);
+    }
+
+    /**
+     * FileField values are Files on the default FileSystem and Paths on any other, and the
+     * field's FileSystem can change after binding, so these conversions accept either.
+     */
+    private static ValueConverter forFileField(final FileField field, Class<?> propertyType) {
+        if (propertyType == Path.class) {
+            return new ValueConverter(value -> value,
+                                      value -> value instanceof File ? ((File) value).toPath() : value);
+        }
+        if (propertyType == File.class) {
+            return new ValueConverter(value -> value,
+                                      value -> value instanceof Path ? ((Path) value).toFile() : value);
+        }
+        if (propertyType == String.class) {
+            return new ValueConverter(value -> value == null || ((String) value).isBlank()
+                                                ? null
+                                                : field.getFileSystem().getPath((String) value),
+                                      value -> {
+                                          if (value instanceof Path) {
+                                              return ((Path) value).toAbsolutePath().toString();
+                                          }
+                                          return value == null ? null : ((File) value).getAbsolutePath();
+                                      });
+        }
+        throw new IllegalArgumentException("No conversion between field value type File and property type "
+                                                   + propertyType.getSimpleName());
+    }
+
+    /**
+     * Finds a converter between the given field value type and bean property type.
+     *
+     * @param fieldType    The type returned by the field's getFieldValue().
+     * @param propertyType The declared type of the bean property.
+     * @return A ValueConverter.
+     * @throws IllegalArgumentException If there is no conversion between the two types.
+     */
+    static ValueConverter between(Class<?> fieldType, Class<?> propertyType) {
+        Class<?> boxed = box(propertyType);
+        Function<Object, Object> toBean = value -> value;
+        if (propertyType.isPrimitive()) {
+            final Object defaultValue = primitiveDefault(propertyType);
+            toBean = value -> value == null ? defaultValue : value;
+        }
+
+        if (fieldType == String.class) {
+            if (boxed == String.class) {
+                return new ValueConverter(value -> value, value -> value);
+            }
+            Function<String, Object> parser = stringParser(boxed);
+            if (parser != null) {
+                return new ValueConverter(ValueConverter::asString,
+                                          toBean.compose(value -> {
+                                              String s = value == null ? "" : ((String) value).trim();
+                                              return s.isEmpty() ? null : parser.apply(s);
+                                          }));
+            }
+        }
+        else if (fieldType == Number.class && numberConverter(boxed) != null) {
+            Function<Number, Object> narrowing = numberConverter(boxed);
+            return new ValueConverter(value -> value, toBean.compose(value -> value == null ? null : narrowing.apply((Number) value)));
+        }
+        else if (boxed == fieldType && fieldType != Object.class) {
+            return new ValueConverter(value -> value, toBean);
+        }
+        throw new IllegalArgumentException("No conversion between field value type " + fieldType.getSimpleName()
+                                                   + " and property type " + propertyType.getSimpleName());
+    }
+
+    private static Object asString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> stringParser(Class<?> type) {
+        if (type == Integer.class) {
+            return Integer::valueOf;
+        }
+        if (type == Long.class) {
+            return Long::valueOf;
+        }
+        if (type == Double.class) {
+            return Double::valueOf;
+        }
+        if (type == Float.class) {
+            return Float::valueOf;
+        }
+        if (type == Short.class) {
+            return Short::valueOf;
+        }
+        if (type == Byte.class) {
+            return Byte::valueOf;
+        }
+        if (type == Boolean.class) {
+            return Boolean::valueOf;
+        }
+        if (type == Character.class) {
+            return s -> s.charAt(0);
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal::new;
+        }
+        if (type == BigInteger.class) {
+            return BigInteger::new;
+        }
+        if (type == Path.class) {
+            return Paths::get;
+        }
+        if (type == File.class) {
+            return File::new;
+        }
+        if (type.isEnum()) {
+            final Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            return s -> Enum.valueOf(enumType, s);
+        }
+        return null;
+    }
+
+    private static Function<Number, Object> numberConverter(Class<?> type) {
+        if (type == Integer.class) {
+            return Number::intValue;
+        }
+        if (type == Long.class) {
+            return Number::longValue;
+        }
+        if (type == Double.class) {
+            return Number::doubleValue;
+        }
+        if (type == Float.class) {
+            return Number::floatValue;
+        }
+        if (type == Short.class) {
+            return Number::shortValue;
+        }
+        if (type == Byte.class) {
+            return Number::byteValue;
+        }
+        if (type == BigDecimal.class) {
+            return n -> n instanceof BigDecimal ? n : new BigDecimal(n.toString());
+        }
+        if (type == BigInteger.class) {
+            return n -> n instanceof BigInteger ? n : new BigDecimal(n.toString()).toBigInteger();
+        }
+        if (type == Number.class) {
+            return n -> n;
+        }
+        return null; // AtomicInteger and friends: not a value type we can produce
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+
+    private static Object primitiveDefault(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return numberConverter(box(type)).apply(0);
+    }
+}
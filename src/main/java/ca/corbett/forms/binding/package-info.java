@@ -0,0 +1,12 @@
+/**
+ * This package contains FormBinder, which maps the fields of a FormPanel onto the
+ * properties of a Java bean, so that form values can be loaded from and saved to
+ * your domain objects without writing the mapping code by hand.
+ * <p>
+ *     Fields are matched to bean properties by their identifier:
+ * </p>
+ * <BLOCKQUOTE><PRE>FormBinder&lt;Customer&gt; binder = new FormBinder&lt;&gt;(Customer.class, formPanel).bindByIdentifier();
+ * binder.readFrom(customer);  // bean to form
+ * binder.writeTo(customer);   // form to bean</PRE></BLOCKQUOTE>
+ */
+package ca.corbett.forms.binding;
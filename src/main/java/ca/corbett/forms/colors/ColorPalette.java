@@ -0,0 +1,282 @@
+package ca.corbett.forms.colors;
+
+import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+import javax.swing.ToolTipManager;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Graphics;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A small, fast color picker: a grid of standard swatches, a row of recently used colors,
+ * a hex entry box and a "More..." button for callers that want to offer the full
+ * JColorChooser. It's meant to be shown in a popup next to the component being edited.
+ * <p>
+ * Each swatch grid is a single component that paints all of its swatches, so the whole
+ * palette is only a handful of Swing components and is cheap to build. ColorField builds
+ * one palette for the entire process and rebinds it to whichever field was clicked.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class ColorPalette extends JPanel {
+
+    /**
+     * The standard swatches: a row of grays, then four rows of hues from dark to light.
+     */
+    public static final List<Color> SWATCHES = createSwatches();
+
+    private static final int COLUMNS = 10;
+    private static final int SWATCH_SIZE = 16;
+    private static final int SWATCH_GAP = 2;
+    private static final Color INVALID_TEXT_COLOR = new Color(192, 0, 0);
+
+    private final RecentColors recentColors;
+    private final SwatchGrid swatchGrid;
+    private final SwatchGrid recentGrid;
+    private final JLabel recentLabel;
+    private final JTextField hexField;
+    private final JButton moreButton;
+    private Color selectedColor;
+    private Consumer<Color> colorSelectedAction;
+    private Runnable moreAction;
+
+    /**
+     * Creates a ColorPalette that shows and updates the given recent colors.
+     *
+     * @param recentColors The most-recently-used list to show, and to add chosen colors to.
+     */
+    public ColorPalette(RecentColors recentColors) {
+        this.recentColors = recentColors;
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
+
+        swatchGrid = new SwatchGrid(SWATCHES);
+        add(swatchGrid);
+
+        recentLabel = new JLabel("Recent:");
+        recentLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        recentLabel.setBorder(BorderFactory.createEmptyBorder(4, 0, 2, 0));
+        add(recentLabel);
+        recentGrid = new SwatchGrid(Collections.emptyList());
+        add(recentGrid);
+
+        hexField = new JTextField(7);
+        hexField.setToolTipText("Hex color, such as #3366CC. Press Enter to apply.");
+        hexField.addActionListener(e -> hexEntered());
+        moreButton = new JButton("More...");
+        moreButton.addActionListener(e -> {
+            if (moreAction != null) {
+                moreAction.run();
+            }
+        });
+        JPanel entryPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        entryPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        entryPanel.setBorder(BorderFactory.createEmptyBorder(4, 0, 0, 0));
+        entryPanel.add(new JLabel("Hex: "));
+        entryPanel.add(hexField);
+        entryPanel.add(new JLabel(" "));
+        entryPanel.add(moreButton);
+        add(entryPanel);
+
+        refreshRecentColors();
+    }
+
+    /**
+     * Sets the color to highlight and show in the hex box, and reloads the recent colors.
+     * Call this each time the palette is about to be shown.
+     *
+     * @param color The current color of whatever is being edited.
+     */
+    public void setSelectedColor(Color color) {
+        selectedColor = color;
+        hexField.setText(color == null ? "" : toHex(color));
+        hexField.setForeground(getForeground());
+        refreshRecentColors();
+        swatchGrid.repaint();
+    }
+
+    /**
+     * Returns the color most recently set or chosen in this palette.
+     *
+     * @return The selected Color, or null.
+     */
+    public Color getSelectedColor() {
+        return selectedColor;
+    }
+
+    /**
+     * Sets the action to invoke when the user picks a color, either by clicking a swatch or
+     * by entering a valid hex value. The color has already been added to the recent colors.
+     *
+     * @param action A consumer for the chosen color.
+     */
+    public void setColorSelectedAction(Consumer<Color> action) {
+        colorSelectedAction = action;
+    }
+
+    /**
+     * Sets the action to invoke when the user clicks "More...". If no action is set, the
+     * button is hidden.
+     *
+     * @param action The action to run, or null.
+     */
+    public void setMoreAction(Runnable action) {
+        moreAction = action;
+        moreButton.setVisible(action != null);
+    }
+
+    /**
+     * Returns the given color as a hex string in the form "#RRGGBB". Alpha is ignored.
+     *
+     * @param color Any Color.
+     * @return A hex string.
+     */
+    public static String toHex(Color color) {
+        return String.format("#%06X", color.getRGB() & 0xFFFFFF);
+    }
+
+    /**
+     * Parses a hex color in the form "#RRGGBB" or the short form "#RGB". The leading
+     * "#" is optional, and case and surrounding whitespace are ignored.
+     *
+     * @param text The text to parse.
+     * @return An opaque Color, or null if the text isn't a hex color.
+     */
+    public static Color parseHex(String text) {
+        String hex = text.trim();
+        if (hex.startsWith("#")) {
+            hex = hex.substring(1);
+        }
+        if (hex.length() == 3) {
+            hex = new StringBuilder(6)
+                    .append(hex.charAt(0)).append(hex.charAt(0))
+                    .append(hex.charAt(1)).append(hex.charAt(1))
+                    .append(hex.charAt(2)).append(hex.charAt(2))
+                    .toString();
+        }
+        if (hex.length() != 6) {
+            return null;
+        }
+        for (int i = 0; i < hex.length(); i++) {
+            if (Character.digit(hex.charAt(i), 16) == -1) {
+                return null;
+            }
+        }
+        return new Color(Integer.parseInt(hex, 16));
+    }
+
+    private void hexEntered() {
+        Color color = parseHex(hexField.getText());
+        if (color == null) {
+            hexField.setForeground(INVALID_TEXT_COLOR);
+            return;
+        }
+        pick(color);
+    }
+
+    private void pick(Color color) {
+        recentColors.add(color);
+        selectedColor = color;
+        if (colorSelectedAction != null) {
+            colorSelectedAction.accept(color);
+        }
+    }
+
+    private void refreshRecentColors() {
+        List<Color> colors = recentColors.getColors();
+        recentGrid.setColors(colors);
+        recentLabel.setVisible(!colors.isEmpty());
+        recentGrid.setVisible(!colors.isEmpty());
+    }
+
+    private static List<Color> createSwatches() {
+        List<Color> swatches = new ArrayList<>(COLUMNS * 5);
+        for (int column = 0; column < COLUMNS; column++) {
+            int gray = Math.round(255f * column / (COLUMNS - 1));
+            swatches.add(new Color(gray, gray, gray));
+        }
+        float[][] shades = {{1f, 0.5f}, {1f, 0.85f}, {0.6f, 1f}, {0.25f, 1f}}; // saturation, brightness
+        for (float[] shade : shades) {
+            for (int column = 0; column < COLUMNS; column++) {
+                swatches.add(Color.getHSBColor((float) column / COLUMNS, shade[0], shade[1]));
+            }
+        }
+        return List.copyOf(swatches);
+    }
+
+    /**
+     * Paints a grid of swatches as a single component, and picks the one that is clicked.
+     */
+    private final class SwatchGrid extends JComponent {
+        private List<Color> colors;
+
+        SwatchGrid(List<Color> colors) {
+            setColors(colors);
+            setAlignmentX(Component.LEFT_ALIGNMENT);
+            ToolTipManager.sharedInstance().registerComponent(this);
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    Color color = colorAt(e.getX(), e.getY());
+                    if (color != null) {
+                        pick(color);
+                    }
+                }
+            });
+        }
+
+        void setColors(List<Color> colors) {
+            this.colors = colors;
+            int rows = Math.max(1, (colors.size() + COLUMNS - 1) / COLUMNS);
+            Dimension size = new Dimension(COLUMNS * (SWATCH_SIZE + SWATCH_GAP), rows * (SWATCH_SIZE + SWATCH_GAP));
+            setPreferredSize(size);
+            setMaximumSize(size);
+            revalidate();
+            repaint();
+        }
+
+        Color colorAt(int x, int y) {
+            int column = x / (SWATCH_SIZE + SWATCH_GAP);
+            int index = (y / (SWATCH_SIZE + SWATCH_GAP)) * COLUMNS + column;
+            return column < COLUMNS && index >= 0 && index < colors.size() ? colors.get(index) : null;
+        }
+
+        @Override
+        public String getToolTipText(MouseEvent event) {
+            Color color = colorAt(event.getX(), event.getY());
+            return color == null ? null : toHex(color);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            for (int i = 0; i < colors.size(); i++) {
+                int x = (i % COLUMNS) * (SWATCH_SIZE + SWATCH_GAP);
+                int y = (i / COLUMNS) * (SWATCH_SIZE + SWATCH_GAP);
+                Color color = colors.get(i);
+                g.setColor(color);
+                g.fillRect(x, y, SWATCH_SIZE, SWATCH_SIZE);
+                g.setColor(color.equals(selectedColor) ? Color.BLACK : Color.GRAY);
+                g.drawRect(x, y, SWATCH_SIZE - 1, SWATCH_SIZE - 1);
+                if (color.equals(selectedColor)) {
+                    g.setColor(Color.WHITE);
+                    g.drawRect(x + 1, y + 1, SWATCH_SIZE - 3, SWATCH_SIZE - 3);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package ca.corbett.forms.colors;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.prefs.Preferences;
+
+/**
+ * A bounded most-recently-used list of colors, persisted with the Preferences API so that
+ * the user's recent choices survive a restart. Adding a color that is already in the list
+ * moves it to the front; once the list is full, adding a new color drops the oldest one.
+ * <p>
+ * All ColorFields share the list returned by getShared(). Applications that want separate
+ * lists (for example, one for text colors and one for backgrounds) can create their own
+ * with a different Preferences node or key.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class RecentColors {
+
+    /**
+     * The number of colors kept by the shared list.
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private static final String DEFAULT_KEY = "recentColors";
+    private static RecentColors shared;
+
+    private final Preferences preferences;
+    private final String key;
+    private final int capacity;
+    private List<Color> colors;
+
+    /**
+     * Creates a RecentColors list stored under the given key in the given Preferences node.
+     * The stored colors are read the first time the list is used.
+     *
+     * @param preferences The node to persist the list in.
+     * @param key         The preference key to use within that node.
+     * @param capacity    The maximum number of colors to keep.
+     */
+    public RecentColors(Preferences preferences, String key, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        this.preferences = preferences;
+        this.key = key;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the list shared by every ColorField in the process, stored in the user
+     * preferences node for this package.
+     *
+     * @return The shared RecentColors.
+     */
+    public static synchronized RecentColors getShared() {
+        if (shared == null) {
+            shared = new RecentColors(Preferences.userNodeForPackage(RecentColors.class), DEFAULT_KEY,
+                                      DEFAULT_CAPACITY);
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the maximum number of colors kept.
+     *
+     * @return Our capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the recent colors, most recent first.
+     *
+     * @return An immutable List of colors.
+     */
+    public synchronized List<Color> getColors() {
+        return List.copyOf(load());
+    }
+
+    /**
+     * Moves the given color to the front of the list, adding it if necessary, and
+     * persists the list.
+     *
+     * @param color The color that was just chosen.
+     */
+    public synchronized void add(Color color) {
+        List<Color> list = load();
+        if (!list.isEmpty() && list.get(0).equals(color)) {
+            return;
+        }
+        list.remove(color);
+        list.add(0, color);
+        while (list.size() > capacity) {
+            list.remove(list.size() - 1);
+        }
+        save();
+    }
+
+    /**
+     * Empties the list, and removes it from the backing store.
+     */
+    public synchronized void clear() {
+        load().clear();
+        preferences.remove(key);
+    }
+
+    private List<Color> load() {
+        if (colors == null) {
+            colors = new ArrayList<>(capacity);
+            String stored = preferences.get(key, "");
+            for (String item : stored.split(",")) {
+                if (colors.size() == capacity) {
+                    break;
+                }
+                try {
+                    Color color = new Color(Integer.parseUnsignedInt(item.trim(), 16), true);
+                    if (!colors.contains(color)) {
+                        colors.add(color);
+                    }
+                }
+                catch (NumberFormatException e) {
+                    // Skip anything we didn't write ourselves.
+                }
+            }
+        }
+        return colors;
+    }
+
+    private void save() {
+        StringBuilder value = new StringBuilder();
+        for (Color color : colors) {
+            if (value.length() > 0) {
+                value.append(',');
+            }
+            value.append(String.format("%08x", color.getRGB()));
+        }
+        preferences.put(key, value.toString());
+    }
+}
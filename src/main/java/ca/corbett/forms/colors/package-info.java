@@ -0,0 +1,6 @@
+/**
+ * This package contains the color helpers used by ColorField: the lightweight
+ * ColorPalette popup, and the persisted RecentColors list that it shows. The palette
+ * opens instantly, so the full JColorChooser is only built when the user asks for it.
+ */
+package ca.corbett.forms.colors;
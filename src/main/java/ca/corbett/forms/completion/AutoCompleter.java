@@ -0,0 +1,350 @@
+package ca.corbett.forms.completion;
+
+import javax.swing.BorderFactory;
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+import javax.swing.JPopupMenu;
+import javax.swing.JScrollPane;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.JTextComponent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shows autocomplete suggestions in a popup under a text component as the user types.
+ * <p>
+ * The text from the start of the current line up to the caret is used as the prefix.
+ * Lookups are debounced, so that a burst of typing only produces one lookup once the user
+ * pauses, and are run on a small pool of background threads shared by all AutoCompleters,
+ * so that even a slow SuggestionSource never blocks the EDT. Every lookup is tagged with a
+ * generation number; as soon as the user types again, older lookups are told to stop and
+ * any results they still deliver are ignored.
+ * </p>
+ * <p>
+ * While the popup is showing, the up and down arrow keys move through the suggestions,
+ * enter (or a mouse click) accepts one, and escape closes the popup.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class AutoCompleter {
+
+    public static final int DEFAULT_DEBOUNCE_MS = 150;
+    public static final int DEFAULT_MAX_SUGGESTIONS = 10;
+
+    private static final int LOOKUP_THREADS = 2;
+
+    /**
+     * Runs lookups. Queued lookups that have gone stale return straight away, so a short
+     * queue of them costs nothing, and the threads exit when there is nothing to do.
+     */
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            LOOKUP_THREADS, LOOKUP_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, "AutoCompleter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    private final JTextComponent textComponent;
+    private final SuggestionSource source;
+    private final Timer debounceTimer;
+    private final AtomicLong generation = new AtomicLong();
+    private final DefaultListModel<String> listModel = new DefaultListModel<>();
+    private final JList<String> list = new JList<>(listModel);
+    private final JPopupMenu popup = new JPopupMenu();
+    private int maxSuggestions = DEFAULT_MAX_SUGGESTIONS;
+    private int minPrefixLength = 1;
+    private boolean isAccepting;
+
+    private final DocumentListener documentListener = new DocumentListener() {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            textChanged();
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            textChanged();
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+        }
+    };
+
+    private final KeyListener keyListener = new KeyAdapter() {
+        @Override
+        public void keyPressed(KeyEvent e) {
+            if (!popup.isVisible()) {
+                return;
+            }
+            switch (e.getKeyCode()) {
+                case KeyEvent.VK_DOWN:
+                    moveSelection(1);
+                    e.consume();
+                    break;
+                case KeyEvent.VK_UP:
+                    moveSelection(-1);
+                    e.consume();
+                    break;
+                case KeyEvent.VK_ENTER:
+                    if (list.getSelectedValue() != null) {
+                        accept(list.getSelectedValue());
+                        e.consume();
+                    }
+                    break;
+                case KeyEvent.VK_ESCAPE:
+                    hidePopup();
+                    e.consume();
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
+    private final FocusListener focusListener = new FocusAdapter() {
+        @Override
+        public void focusLost(FocusEvent e) {
+            hidePopup();
+        }
+    };
+
+    /**
+     * Attaches a new AutoCompleter to the given text component.
+     *
+     * @param textComponent The text component to complete.
+     * @param source        Where suggestions come from.
+     */
+    public AutoCompleter(JTextComponent textComponent, SuggestionSource source) {
+        this.textComponent = textComponent;
+        this.source = source;
+        debounceTimer = new Timer(DEFAULT_DEBOUNCE_MS, e -> updateSuggestions());
+        debounceTimer.setRepeats(false);
+
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setFocusable(false);
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = list.locationToIndex(e.getPoint());
+                if (index >= 0) {
+                    accept(listModel.get(index));
+                }
+            }
+        });
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        popup.setFocusable(false);
+        popup.add(scrollPane);
+
+        textComponent.getDocument().addDocumentListener(documentListener);
+        textComponent.addKeyListener(keyListener);
+        textComponent.addFocusListener(focusListener);
+    }
+
+    /**
+     * Detaches this AutoCompleter from its text component.
+     */
+    public void dispose() {
+        debounceTimer.stop();
+        generation.incrementAndGet();
+        hidePopup();
+        textComponent.getDocument().removeDocumentListener(documentListener);
+        textComponent.removeKeyListener(keyListener);
+        textComponent.removeFocusListener(focusListener);
+    }
+
+    /**
+     * Returns the SuggestionSource that this AutoCompleter uses.
+     *
+     * @return Our SuggestionSource.
+     */
+    public SuggestionSource getSuggestionSource() {
+        return source;
+    }
+
+    /**
+     * Sets how long the user must stop typing before suggestions are looked up.
+     *
+     * @param millis The debounce delay, in milliseconds.
+     */
+    public void setDebounceMillis(int millis) {
+        debounceTimer.setInitialDelay(millis);
+    }
+
+    /**
+     * Sets the maximum number of suggestions to show. The default is 10.
+     *
+     * @param maxSuggestions The maximum suggestion count.
+     */
+    public void setMaxSuggestions(int maxSuggestions) {
+        if (maxSuggestions < 1) {
+            throw new IllegalArgumentException("maxSuggestions must be at least 1.");
+        }
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * Sets how many characters must be typed before suggestions are looked up. The default is 1.
+     *
+     * @param minPrefixLength The minimum prefix length.
+     */
+    public void setMinPrefixLength(int minPrefixLength) {
+        this.minPrefixLength = minPrefixLength;
+    }
+
+    /**
+     * Returns the suggestions currently on offer, whether or not the popup is showing.
+     *
+     * @return A copy of the current suggestions.
+     */
+    public List<String> getCurrentSuggestions() {
+        return Collections.list(listModel.elements());
+    }
+
+    /**
+     * Looks up suggestions for the current text immediately, without waiting for the
+     * debounce delay. Normally this happens automatically as the user types.
+     */
+    public void updateSuggestions() {
+        debounceTimer.stop();
+        final long lookup = generation.incrementAndGet();
+        final String prefix = getPrefix();
+        listModel.clear();
+        hidePopup(); // shown again when the first batch arrives, so it's never empty
+        if (prefix.length() < minPrefixLength) {
+            return;
+        }
+        final int limit = maxSuggestions;
+        executor.execute(() -> {
+            if (generation.get() != lookup) {
+                return;
+            }
+            source.streamSuggestions(prefix, limit, batch -> {
+                final List<String> copy = new ArrayList<>(batch);
+                SwingUtilities.invokeLater(() -> addSuggestions(lookup, copy));
+            }, () -> generation.get() != lookup);
+        });
+    }
+
+    /**
+     * Invoked on the EDT with each batch of suggestions from a lookup.
+     */
+    private void addSuggestions(long lookup, List<String> batch) {
+        if (generation.get() != lookup) {
+            return; // the user has kept typing, so these are stale
+        }
+        for (String suggestion : batch) {
+            if (listModel.size() < maxSuggestions) {
+                listModel.addElement(suggestion);
+            }
+        }
+        showPopup();
+    }
+
+    private void textChanged() {
+        if (isAccepting) {
+            return;
+        }
+        generation.incrementAndGet();
+        debounceTimer.restart();
+    }
+
+    /**
+     * Returns the text from the start of the caret's line up to the caret.
+     */
+    private String getPrefix() {
+        int caret = textComponent.getCaretPosition();
+        Element root = textComponent.getDocument().getDefaultRootElement();
+        int lineStart = root.getElement(root.getElementIndex(caret)).getStartOffset();
+        try {
+            return textComponent.getDocument().getText(lineStart, caret - lineStart);
+        }
+        catch (BadLocationException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Replaces the prefix with the given suggestion.
+     */
+    private void accept(String suggestion) {
+        hidePopup();
+        int caret = textComponent.getCaretPosition();
+        Element root = textComponent.getDocument().getDefaultRootElement();
+        int lineStart = root.getElement(root.getElementIndex(caret)).getStartOffset();
+        isAccepting = true;
+        try {
+            textComponent.getDocument().remove(lineStart, caret - lineStart);
+            textComponent.getDocument().insertString(lineStart, suggestion, null);
+        }
+        catch (BadLocationException e) {
+            throw new IllegalStateException("Unable to insert suggestion.", e);
+        }
+        finally {
+            isAccepting = false;
+        }
+        generation.incrementAndGet();
+        listModel.clear();
+    }
+
+    private void moveSelection(int delta) {
+        int size = listModel.size();
+        if (size == 0) {
+            return;
+        }
+        int index = Math.floorMod(list.getSelectedIndex() + delta, size);
+        list.setSelectedIndex(index);
+        list.ensureIndexIsVisible(index);
+    }
+
+    private void showPopup() {
+        if (listModel.isEmpty() || !textComponent.isShowing()) {
+            hidePopup();
+            return;
+        }
+        list.setVisibleRowCount(Math.min(listModel.size(), 8));
+        if (list.getSelectedIndex() < 0) {
+            list.setSelectedIndex(0);
+        }
+        popup.pack();
+        try {
+            Rectangle2D caretBounds = textComponent.modelToView2D(textComponent.getCaretPosition());
+            int y = caretBounds == null ? textComponent.getHeight() : (int) caretBounds.getMaxY();
+            popup.show(textComponent, 0, y);
+        }
+        catch (BadLocationException e) {
+            popup.show(textComponent, 0, textComponent.getHeight());
+        }
+    }
+
+    private void hidePopup() {
+        popup.setVisible(false);
+    }
+}
@@ -0,0 +1,204 @@
+package ca.corbett.forms.completion;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * A bounded cache of directory listings, used for path completion.
+ * <p>
+ * Listings are read with Files.newDirectoryStream() and are expected to be requested from
+ * a background thread, as a SuggestionSource would. Each cached listing holds just the
+ * entry names, sorted for prefix lookups. Whether each entry is a directory is checked
+ * once, as the listing is read, and recorded by ending the names of directories with
+ * File.separator, so that lookups in a cached listing never touch the file system. A
+ * cached listing is used only while it is younger than the time-to-live and the
+ * directory's modification time hasn't changed since it was read, so a file created or
+ * deleted in the directory invalidates it on the next lookup. Once more than the maximum
+ * number of directories are cached, the least recently used listing is dropped.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class DirectoryListingCache {
+
+    public static final int DEFAULT_MAX_DIRECTORIES = 64;
+    public static final long DEFAULT_TTL_MS = 30_000;
+
+    /**
+     * The number of names read from a directory stream between batches.
+     */
+    static final int BATCH_SIZE = 256;
+
+    private static final DirectoryListingCache shared = new DirectoryListingCache(DEFAULT_MAX_DIRECTORIES,
+                                                                                  DEFAULT_TTL_MS);
+
+    private final long ttlNanos;
+    private final Map<Path, Listing> listings;
+
+    /**
+     * Creates a new, empty cache.
+     *
+     * @param maxDirectories The maximum number of directory listings to keep.
+     * @param ttlMillis      How long a listing may be used before it is read again, in milliseconds.
+     */
+    public DirectoryListingCache(final int maxDirectories, long ttlMillis) {
+        if (maxDirectories < 1) {
+            throw new IllegalArgumentException("maxDirectories must be at least 1.");
+        }
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("ttlMillis must not be negative.");
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.listings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Listing> eldest) {
+                return size() > maxDirectories;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by all FileFields.
+     *
+     * @return The shared DirectoryListingCache.
+     */
+    public static DirectoryListingCache getShared() {
+        return shared;
+    }
+
+    /**
+     * Returns the cached listing of the given directory, provided it is still fresh.
+     * This costs one file attribute read, to compare the directory's modification time.
+     *
+     * @param directory Any directory.
+     * @return The names of the directory's entries, with a trailing File.separator on
+     *         directories, or null if there is no fresh listing.
+     */
+    public SortedSuggestionSource getIfFresh(Path directory) {
+        Listing listing;
+        synchronized (listings) {
+            listing = listings.get(directory);
+        }
+        if (listing == null) {
+            return null;
+        }
+        boolean fresh = System.nanoTime() - listing.readNanos < ttlNanos;
+        if (fresh) {
+            try {
+                fresh = Files.getLastModifiedTime(directory).equals(listing.modified);
+            }
+            catch (IOException e) {
+                fresh = false;
+            }
+        }
+        if (!fresh) {
+            synchronized (listings) {
+                listings.remove(directory, listing);
+            }
+            return null;
+        }
+        return listing.names;
+    }
+
+    /**
+     * Reads the given directory, delivering its entry names to the given consumer in
+     * batches as they are read, in no particular order. The names of directories (including
+     * links to directories) end with File.separator. If the whole directory is read
+     * without being cancelled, the listing is cached. Each batch is only valid for the
+     * duration of the call, so consumers that need to keep the names must copy them.
+     *
+     * @param directory     The directory to read.
+     * @param batchConsumer Receives each batch of entry names.
+     * @param cancelled     Checked between batches; reading stops once it returns true.
+     * @return True if the directory was read completely, or false if it was cancelled.
+     * @throws IOException If the directory can't be read.
+     */
+    public boolean load(Path directory, Consumer<List<String>> batchConsumer, BooleanSupplier cancelled)
+            throws IOException {
+        // Read the modification time first, so a change made while we're reading
+        // makes the listing stale rather than silently incomplete:
+        FileTime modified = Files.getLastModifiedTime(directory);
+        long readNanos = System.nanoTime();
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            int batchStart = 0;
+            for (Path entry : stream) {
+                String name = entry.getFileName().toString();
+                names.add(Files.isDirectory(entry) ? name + File.separator : name);
+                if (names.size() - batchStart == BATCH_SIZE) {
+                    if (cancelled.getAsBoolean()) {
+                        return false;
+                    }
+                    batchConsumer.accept(names.subList(batchStart, names.size()));
+                    batchStart = names.size();
+                }
+            }
+            if (cancelled.getAsBoolean()) {
+                return false;
+            }
+            if (batchStart < names.size()) {
+                batchConsumer.accept(names.subList(batchStart, names.size()));
+            }
+        }
+        Listing listing = new Listing(new SortedSuggestionSource(names), modified, readNanos);
+        synchronized (listings) {
+            listings.put(directory, listing);
+        }
+        return true;
+    }
+
+    /**
+     * Discards the cached listing of the given directory, if any.
+     *
+     * @param directory Any directory.
+     */
+    public void invalidate(Path directory) {
+        synchronized (listings) {
+            listings.remove(directory);
+        }
+    }
+
+    /**
+     * Discards all cached listings.
+     */
+    public void clear() {
+        synchronized (listings) {
+            listings.clear();
+        }
+    }
+
+    /**
+     * Returns the number of directory listings currently cached, fresh or not.
+     *
+     * @return A count of cached listings.
+     */
+    public int size() {
+        synchronized (listings) {
+            return listings.size();
+        }
+    }
+
+    private static final class Listing {
+        final SortedSuggestionSource names;
+        final FileTime modified;
+        final long readNanos;
+
+        Listing(SortedSuggestionSource names, FileTime modified, long readNanos) {
+            this.names = names;
+            this.modified = modified;
+            this.readNanos = readNanos;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package ca.corbett.forms.completion;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Suggests file system paths that complete whatever path has been typed so far.
+ * <p>
+ * The typed text is split at its last separator into a directory and a name prefix,
+ * and the suggestions are the entries of that directory whose names start with the
+ * prefix (ignoring case). Each suggestion is the full path, and directories end with
+ * a separator so the user can keep typing straight into them. Hidden entries whose
+ * names start with a dot are only suggested once the user types the dot.
+ * </p>
+ * <p>
+ * Directory listings come from a DirectoryListingCache. When a directory is already
+ * cached, suggestions come out in sorted order from a binary search. Otherwise the
+ * directory is read in batches and the matches in each batch are streamed to the
+ * popup as they are found, so that even a very large directory shows its first
+ * suggestions right away.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class PathSuggestionSource implements SuggestionSource {
+
+    private final DirectoryListingCache cache;
+    private final boolean directoriesOnly;
+
+    /**
+     * Creates a PathSuggestionSource that suggests both files and directories,
+     * using the shared DirectoryListingCache.
+     */
+    public PathSuggestionSource() {
+        this(DirectoryListingCache.getShared(), false);
+    }
+
+    /**
+     * Creates a PathSuggestionSource with the given listing cache.
+     *
+     * @param cache           The cache to read directory listings from.
+     * @param directoriesOnly If true, only directories are suggested.
+     */
+    public PathSuggestionSource(DirectoryListingCache cache, boolean directoriesOnly) {
+        this.cache = cache;
+        this.directoriesOnly = directoriesOnly;
+    }
+
+    /**
+     * Reports whether this source suggests directories only.
+     *
+     * @return True if files are never suggested.
+     */
+    public boolean isDirectoriesOnly() {
+        return directoriesOnly;
+    }
+
+    @Override
+    public List<String> getSuggestions(String prefix, int maxResults) {
+        List<String> suggestions = new ArrayList<>();
+        streamSuggestions(prefix, maxResults, suggestions::addAll, () -> false);
+        return suggestions;
+    }
+
+    @Override
+    public void streamSuggestions(String prefix, int maxResults, Consumer<List<String>> batchConsumer,
+                                  BooleanSupplier cancelled) {
+        int separator = Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf(File.separatorChar));
+        if (separator < 0 || maxResults <= 0) {
+            return;
+        }
+        final String directoryText = prefix.substring(0, separator + 1);
+        final String namePrefix = prefix.substring(separator + 1);
+        final Path directory;
+        try {
+            directory = Paths.get(directoryText);
+        }
+        catch (InvalidPathException e) {
+            return;
+        }
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        final NameMatcher matcher = new NameMatcher(directoryText, namePrefix, maxResults);
+        SortedSuggestionSource cached = cache.getIfFresh(directory);
+        if (cached != null) {
+            List<String> matches = matcher.match(cached.getSuggestions(namePrefix, Integer.MAX_VALUE), cancelled);
+            if (!matches.isEmpty() && !cancelled.getAsBoolean()) {
+                batchConsumer.accept(matches);
+            }
+            return;
+        }
+        try {
+            // Once we have enough suggestions we keep reading anyway (without matching)
+            // so that the complete listing makes it into the cache for the next keystroke:
+            cache.load(directory, batch -> {
+                List<String> matches = matcher.match(batch, cancelled);
+                if (!matches.isEmpty() && !cancelled.getAsBoolean()) {
+                    batchConsumer.accept(matches);
+                }
+            }, cancelled);
+        }
+        catch (IOException e) {
+            // Unreadable directory: nothing to suggest.
+        }
+    }
+
+    /**
+     * Filters directory entry names down to suggestions. Directory names already end with
+     * a separator (see DirectoryListingCache), so no file system access is needed here.
+     */
+    private final class NameMatcher {
+        private final String directoryText;
+        private final String namePrefix;
+        private final boolean includeHidden;
+        private int remaining;
+
+        NameMatcher(String directoryText, String namePrefix, int maxResults) {
+            this.directoryText = directoryText;
+            this.namePrefix = namePrefix;
+            this.includeHidden = namePrefix.startsWith(".");
+            this.remaining = maxResults;
+        }
+
+        List<String> match(List<String> names, BooleanSupplier cancelled) {
+            List<String> matches = new ArrayList<>();
+            for (int i = 0; i < names.size() && remaining > 0 && !cancelled.getAsBoolean(); i++) {
+                String name = names.get(i);
+                if (!name.regionMatches(true, 0, namePrefix, 0, namePrefix.length())
+                        || (!includeHidden && name.startsWith("."))) {
+                    continue;
+                }
+                if (directoriesOnly && !name.endsWith(File.separator)) {
+                    continue;
+                }
+                matches.add(directoryText + name);
+                remaining--;
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ca.corbett.forms.completion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A SuggestionSource for a large, fixed vocabulary, such as millions of part numbers or
+ * customer names. Matching is by case-insensitive prefix.
+ * <p>
+ * The vocabulary is held in a single array, sorted case-insensitively. Because every entry
+ * that starts with a given prefix sorts into one contiguous run, a lookup is just a binary
+ * search for the start of that run followed by a short scan, and costs O(log n) no matter
+ * how many entries there are. Compared to a trie, the sorted array adds no per-character
+ * overhead on top of the strings themselves.
+ * </p>
+ * <p>
+ * Sorting millions of entries takes a noticeable amount of time, so the constructor should
+ * not be called on the EDT. Use buildInBackground() to sort on a background thread.
+ * Once built, instances are immutable and safe to use from any thread.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class SortedSuggestionSource implements SuggestionSource {
+
+    private final String[] entries;
+
+    /**
+     * Builds a SortedSuggestionSource from the given vocabulary. Null entries and duplicates
+     * are discarded. This sorts the entire vocabulary, so avoid calling it on the EDT.
+     *
+     * @param vocabulary All possible suggestions, in any order.
+     */
+    public SortedSuggestionSource(Collection<String> vocabulary) {
+        String[] sorted = vocabulary.stream().filter(s -> s != null).toArray(String[]::new);
+        // Ties between entries that differ only in case are broken by natural order, so
+        // that exact duplicates always end up next to each other and are easy to remove:
+        Arrays.parallelSort(sorted, String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder()));
+        int count = 0;
+        for (String s : sorted) {
+            if (count == 0 || !s.equals(sorted[count - 1])) {
+                sorted[count++] = s;
+            }
+        }
+        entries = count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    /**
+     * Builds a SortedSuggestionSource on a background thread.
+     *
+     * @param vocabulary All possible suggestions, in any order. Must not be modified until the build completes.
+     * @return A CompletableFuture which completes with the new SortedSuggestionSource.
+     */
+    public static CompletableFuture<SortedSuggestionSource> buildInBackground(Collection<String> vocabulary) {
+        return CompletableFuture.supplyAsync(() -> new SortedSuggestionSource(vocabulary));
+    }
+
+    /**
+     * Returns the number of distinct entries in the vocabulary.
+     *
+     * @return The vocabulary size.
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the number of entries that start with the given prefix, ignoring case.
+     * This is two binary searches, regardless of how many entries match.
+     *
+     * @param prefix Any prefix.
+     * @return A count of matching entries.
+     */
+    public int countMatches(String prefix) {
+        int start = lowerBound(prefix);
+        int low = start;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startsWithIgnoreCase(entries[mid], prefix)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low - start;
+    }
+
+    @Override
+    public List<String> getSuggestions(String prefix, int maxResults) {
+        int index = lowerBound(prefix);
+        List<String> suggestions = null;
+        while (index < entries.length && startsWithIgnoreCase(entries[index], prefix)) {
+            if (suggestions == null) {
+                suggestions = new ArrayList<>(Math.min(maxResults, 16));
+            }
+            if (suggestions.size() >= maxResults) {
+                break;
+            }
+            suggestions.add(entries[index++]);
+        }
+        return suggestions == null ? Collections.emptyList() : suggestions;
+    }
+
+    /**
+     * Returns the index of the first entry that is not less than the given prefix.
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(entries[mid], prefix) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean startsWithIgnoreCase(String entry, String prefix) {
+        return entry.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+}
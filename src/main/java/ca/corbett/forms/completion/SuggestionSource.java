@@ -0,0 +1,52 @@
+package ca.corbett.forms.completion;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Supplies autocomplete suggestions for whatever the user has typed so far.
+ * <p>
+ * Suggestion sources are always queried on a background thread, never on the EDT,
+ * so implementations are free to do slow work such as searching a large index or
+ * listing a directory. They must however be safe to call from any thread, and should
+ * not touch Swing components.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public interface SuggestionSource {
+
+    /**
+     * Returns suggestions for the given prefix, best matches first.
+     *
+     * @param prefix     The text typed so far. Never null, but may be empty.
+     * @param maxResults The maximum number of suggestions to return.
+     * @return A list of at most maxResults suggestions. May be empty, but never null.
+     */
+    List<String> getSuggestions(String prefix, int maxResults);
+
+    /**
+     * Delivers suggestions for the given prefix in one or more batches, so that the first
+     * few can be shown before a slow source has finished. Each batch contains only new
+     * suggestions, in addition to those already delivered. Implementations should check
+     * the cancelled flag periodically and stop early once it returns true, which happens
+     * when the user has kept typing and the results are no longer wanted.
+     * <p>
+     * The default implementation delivers the result of getSuggestions() as a single batch.
+     * </p>
+     *
+     * @param prefix        The text typed so far. Never null, but may be empty.
+     * @param maxResults    The maximum total number of suggestions to deliver.
+     * @param batchConsumer Receives each batch of suggestions.
+     * @param cancelled     Returns true once the results are no longer wanted.
+     */
+    default void streamSuggestions(String prefix, int maxResults, Consumer<List<String>> batchConsumer,
+                                   BooleanSupplier cancelled) {
+        List<String> suggestions = getSuggestions(prefix, maxResults);
+        if (!cancelled.getAsBoolean() && !suggestions.isEmpty()) {
+            batchConsumer.accept(suggestions);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * This package contains autocomplete support for text fields. A SuggestionSource
+ * supplies completions for a prefix, and an AutoCompleter looks them up in the
+ * background as the user types and shows them in a popup under the field.
+ * <p>
+ *     For large vocabularies, build a SortedSuggestionSource off the EDT and hand it
+ *     to your TextField:
+ * </p>
+ * <BLOCKQUOTE><PRE>SortedSuggestionSource.buildInBackground(partNumbers)
+ *         .thenAccept(source -&gt; SwingUtilities.invokeLater(() -&gt; textField.setSuggestionSource(source)));</PRE></BLOCKQUOTE>
+ * <p>
+ *     PathSuggestionSource completes file system paths, reading directories through a
+ *     DirectoryListingCache. FileField turns it on with setPathCompletionEnabled(true).
+ * </p>
+ */
+package ca.corbett.forms.completion;
@@ -39,6 +39,16 @@ public final class CheckBoxField extends FormField {
     ((JCheckBox)fieldComponent).setSelected(checked);
   }
 
+  @Override
+  public Object getFieldValue() {
+    return isChecked();
+  }
+
+  @Override
+  public void setFieldValue(Object value) {
+    setChecked(Boolean.TRUE.equals(value));
+  }
+
   @Override
   public void render(JPanel container, GridBagConstraints constraints) {
     // Note we don't add the fieldLabel here because a checkbox has its own label built in.
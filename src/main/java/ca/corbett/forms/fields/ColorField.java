@@ -1,11 +1,16 @@
 package ca.corbett.forms.fields;
 
 import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.colors.ColorPalette;
+import ca.corbett.forms.colors.RecentColors;
 
 import javax.swing.JColorChooser;
+import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JPopupMenu;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.Insets;
@@ -14,13 +19,26 @@ import java.awt.event.MouseEvent;
 
 /**
  * A FormField implementation for selecting either a a color.
+ * <p>
+ * Clicking the color swatch pops up a small ColorPalette with standard colors, the
+ * user's recently chosen colors and a hex entry box, which opens instantly. The full
+ * JColorChooser is only shown if the user clicks "More..." in the palette, or if the
+ * palette has been turned off with setPaletteEnabled(false). The palette and the
+ * chooser are each built once, the first time they are needed, and shared by every
+ * ColorField in the process.
+ * </p>
  *
  * @author scorbo2
  */
 public class ColorField extends FormField {
 
+  private static JPopupMenu palettePopup;
+  private static ColorPalette palette;
+  private static JColorChooser sharedChooser;
+
   private Color selectedColor;
   private final JPanel colorPanel;
+  private boolean isPaletteEnabled = true;
 
   /**
    * Creates a ColorField that can be used to select a solid color only.
@@ -48,15 +66,35 @@ public class ColorField extends FormField {
         if (!colorPanel.isEnabled()) {
           return;
         }
-        Color newColor = JColorChooser.showDialog(((JPanel)e.getSource()), "Choose color", selectedColor);
-        if (newColor != null) {
-          setColor(newColor);
-          fireValueChangedEvent();
+        if (isPaletteEnabled) {
+          showPalette(colorPanel);
+        }
+        else {
+          showFullChooser(colorPanel);
         }
       }
     });
   }
 
+  /**
+   * Controls whether clicking this field shows the quick popup palette (the default),
+   * or goes straight to the full JColorChooser dialog.
+   *
+   * @param enabled True to show the palette, false to show the full chooser.
+   */
+  public void setPaletteEnabled(boolean enabled) {
+    isPaletteEnabled = enabled;
+  }
+
+  /**
+   * Reports whether clicking this field shows the quick popup palette.
+   *
+   * @return True if the palette is enabled.
+   */
+  public boolean isPaletteEnabled() {
+    return isPaletteEnabled;
+  }
+
   /**
    * Returns the current Color value for this field.
    *
@@ -76,6 +114,26 @@ public class ColorField extends FormField {
     colorPanel.setBackground(color);
   }
 
+  /**
+   * Returns the current Color value for this field.
+   *
+   * @return The current Color.
+   */
+  @Override
+  public Object getFieldValue() {
+    return getColor();
+  }
+
+  /**
+   * Sets the current Color value for this field.
+   *
+   * @param value The new Color.
+   */
+  @Override
+  public void setFieldValue(Object value) {
+    setColor((Color)value);
+  }
+
   /**
    * Renders this field into the given container.
    *
@@ -97,4 +155,50 @@ public class ColorField extends FormField {
     constraints.insets = new Insets(topMargin, componentSpacing, bottomMargin, componentSpacing);
     container.add(colorPanel, constraints);
   }
+
+  /**
+   * Invoked internally to pop up the shared palette under the given component,
+   * bound to this field.
+   */
+  private void showPalette(final Component invoker) {
+    if (palettePopup == null) {
+      palette = new ColorPalette(RecentColors.getShared());
+      palettePopup = new JPopupMenu();
+      palettePopup.add(palette);
+    }
+    palette.setSelectedColor(selectedColor);
+    palette.setColorSelectedAction(color -> {
+      palettePopup.setVisible(false);
+      colorChosen(color);
+    });
+    palette.setMoreAction(() -> {
+      palettePopup.setVisible(false);
+      showFullChooser(invoker);
+    });
+    palettePopup.pack(); // the recent colors row may have grown since last time
+    palettePopup.show(invoker, 0, invoker.getHeight());
+  }
+
+  /**
+   * Invoked internally to show the shared JColorChooser in a modal dialog.
+   * Only the lightweight dialog around the chooser is created each time.
+   */
+  private void showFullChooser(Component invoker) {
+    if (sharedChooser == null) {
+      sharedChooser = new JColorChooser();
+    }
+    final JColorChooser chooser = sharedChooser;
+    chooser.setColor(selectedColor);
+    JDialog dialog = JColorChooser.createDialog(invoker, "Choose color", true, chooser, e -> {
+      RecentColors.getShared().add(chooser.getColor());
+      colorChosen(chooser.getColor());
+    }, null);
+    dialog.setVisible(true);
+    dialog.dispose();
+  }
+
+  private void colorChosen(Color color) {
+    setColor(color);
+    fireValueChangedEvent();
+  }
 }
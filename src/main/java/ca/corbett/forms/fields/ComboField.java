@@ -1,31 +1,20 @@
 package ca.corbett.forms.fields;
 
-import ca.corbett.forms.FormPanel;
-
-import javax.swing.DefaultComboBoxModel;
-import javax.swing.JComboBox;
-import javax.swing.JLabel;
-import javax.swing.JPanel;
-import java.awt.GridBagConstraints;
-import java.awt.Insets;
-import java.awt.event.ItemEvent;
-import java.awt.event.ItemListener;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * A FormField wrapping a JComboBox.
+ * <p>
+ * This is an ObjectComboField whose options are simply Strings. See ObjectComboField for
+ * the full set of features, including virtual mode for very long option lists,
+ * type-to-filter, background loading and cascading.
+ * </p>
  *
  * @author scorbo2
  * @since 2019-11-24
  */
-public class ComboField extends FormField {
-
-  private final JComboBox<String> comboBox;
-  private final ItemListener itemListener = e -> {
-    if (e.getStateChange() == ItemEvent.SELECTED) {
-      fireValueChangedEvent();
-    }
-  };
+public class ComboField extends ObjectComboField<String> {
 
   /**
    * Creates a new ComboField with the given parameters.
@@ -36,81 +25,49 @@ public class ComboField extends FormField {
    * @param isEditable Whether to allow editing of the field.
    */
   public ComboField(String label, List<String> options, int selectedIndex, boolean isEditable) {
-    fieldLabel = new JLabel(label);
-    fieldLabel.setFont(fieldLabelFont);
-    comboBox = new JComboBox<>(options.toArray(new String[]{}));
-    comboBox.setFont(fieldLabelFont);
-    comboBox.setSelectedIndex(selectedIndex);
-    comboBox.setEditable(isEditable);
-    comboBox.addItemListener(itemListener);
-    fieldComponent = comboBox;
-    showValidationLabel = false;
+    super(label, new ArrayList<>(options), selectedIndex, isEditable, false, s -> s, s -> s);
   }
 
   /**
-   * Sets the available options in this field, overwriting whatever options were there before.
-   *
-   * @param options The options to display in the dropdown.
-   * @param selectedIndex The index to select by default.
+   * Invoked internally to create a ComboField in virtual mode.
    */
-  public void setOptions(List<String> options, int selectedIndex) {
-    comboBox.setModel(new DefaultComboBoxModel<>(options.toArray(new String[]{})));
-    comboBox.setSelectedIndex(selectedIndex);
+  private ComboField(String label, List<String> options, int selectedIndex) {
+    super(label, options, selectedIndex, false, true, s -> s, s -> s);
   }
 
   /**
-   * Returns the currently selected item as a string.
+   * Creates a ComboField in virtual mode, for very long option lists. The given list is
+   * wrapped rather than copied (here and in setOptions()), so it must not be modified
+   * afterwards. It should also support fast random access, as an ArrayList does.
    *
-   * @return The current item.
+   * @param label The label to use with this field.
+   * @param options The options to display in the dropdown. Not copied.
+   * @param selectedIndex The index to select by default.
+   * @return A new ComboField in virtual mode.
    */
-  public String getSelectedItem() {
-    return (String)comboBox.getSelectedItem();
+  public static ComboField createVirtualComboField(String label, List<String> options, int selectedIndex) {
+    return new ComboField(label, options, selectedIndex);
   }
 
   /**
-   * Returns the index of the currently selected item.
+   * Returns the currently selected item as a string. Declared here as well as in
+   * ObjectComboField so that code compiled against the String signature still links.
    *
-   * @return The index of the currently selected item.
+   * @return The current item.
    */
-  public int getSelectedIndex() {
-    return comboBox.getSelectedIndex();
+  @Override
+  public String getSelectedItem() {
+    return super.getSelectedItem();
   }
 
   /**
-   * Sets the selected item. This is simply a passthrough to JComboBox.
+   * Sets the selected item. See ObjectComboField.setSelectedItem() for details.
    *
    * @param item The item to select.
    */
-  public void setSelectedItem(String item) {
-    comboBox.setSelectedItem(item);
-  }
-
-  /**
-   * Sets the selected item index. This is simply a passthrough to JComboBox.
-   *
-   * @param index The index to select.
-   */
-  public void setSelectedIndex(int index) {
-    comboBox.setSelectedIndex(index);
-  }
-
-  /**
-   * Renders this field into the given container.
-   *
-   * @param container The containing form panel.
-   * @param constraints The GridBagConstraints to use.
-   */
   @Override
-  public void render(JPanel container, GridBagConstraints constraints) {
-    constraints.gridy++;
-    constraints.gridx = FormPanel.LABEL_COLUMN;
-    constraints.insets = new Insets(topMargin, leftMargin, bottomMargin, componentSpacing);
-    fieldLabel.setFont(fieldLabelFont);
-    container.add(fieldLabel, constraints);
-
-    constraints.gridx = FormPanel.CONTROL_COLUMN;
-    constraints.insets = new Insets(topMargin, componentSpacing, bottomMargin, componentSpacing);
-    container.add(comboBox, constraints);
+  public void setSelectedItem(String item) {
+    super.setSelectedItem(item);
   }
 
 }
@@ -0,0 +1,199 @@
+package ca.corbett.forms.fields;
+
+import javax.swing.JFileChooser;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.filechooser.FileSystemView;
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small shared pool of JFileChooser instances, keyed by file selection mode.
+ * <p>
+ * JFileChooser is one of the most expensive Swing components to construct - it queries
+ * the file system view, icons and (on some platforms) network mounts before it is ever
+ * shown. FileField therefore never creates a chooser up front: it borrows one from this
+ * pool when its "Choose..." button is clicked and returns it once the dialog closes.
+ * Because file dialogs are modal, one idle chooser per selection mode is normally all
+ * that is ever created, no matter how many FileFields an application has.
+ * </p>
+ * <p>
+ * Applications that want the very first click to be fast as well can call warmUp()
+ * at startup. The slow part of building a chooser is the file system queries, so warmUp()
+ * makes those on a background thread, where their results are cached by the platform,
+ * and then constructs the chooser itself on the EDT and parks it in the pool.
+ * </p>
+ * <p>
+ * Pooled choosers outlive any one window, so they are not reached when an application
+ * calls SwingUtilities.updateComponentTreeUI() after changing the look and feel. Instead,
+ * acquire() notices when the look and feel has changed since a chooser was last used and
+ * updates that chooser's UI before handing it out.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FileChooserPool {
+
+    /**
+     * The maximum number of idle choosers kept per selection mode. Extra choosers
+     * returned to the pool are simply dropped.
+     */
+    static final int MAX_IDLE_PER_MODE = 2;
+
+    private static final String LOOK_AND_FEEL_PROPERTY = "FileChooserPool.lookAndFeel";
+
+    private static final Map<Integer, Deque<JFileChooser>> idle = new HashMap<>();
+    private static final AtomicInteger createdCount = new AtomicInteger();
+
+    private FileChooserPool() {
+    }
+
+    /**
+     * Prepares a chooser for the given selection mode and adds it to the pool, so that the
+     * first FileField to open a dialog doesn't pay the construction cost. The file system
+     * queries are made on a background daemon thread, and the chooser is then constructed
+     * on the EDT. Does nothing if an idle chooser for that mode is already pooled.
+     *
+     * @param fileSelectionMode One of JFileChooser.FILES_ONLY, DIRECTORIES_ONLY or FILES_AND_DIRECTORIES.
+     */
+    public static void warmUp(final int fileSelectionMode) {
+        validateMode(fileSelectionMode);
+        if (getIdleCount(fileSelectionMode) > 0) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            warmUpFileSystemView();
+            SwingUtilities.invokeLater(() -> {
+                if (getIdleCount(fileSelectionMode) == 0) {
+                    release(create(fileSelectionMode));
+                }
+            });
+        }, "FileChooserPool-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Warms up a chooser for files and one for directories. See warmUp(int).
+     */
+    public static void warmUp() {
+        warmUp(JFileChooser.FILES_ONLY);
+        warmUp(JFileChooser.DIRECTORIES_ONLY);
+    }
+
+    /**
+     * Discards all idle choosers.
+     */
+    public static void clear() {
+        synchronized (idle) {
+            idle.clear();
+        }
+    }
+
+    /**
+     * Returns the number of idle choosers currently pooled for the given selection mode.
+     *
+     * @param fileSelectionMode A JFileChooser file selection mode.
+     * @return A count of idle choosers.
+     */
+    public static int getIdleCount(int fileSelectionMode) {
+        synchronized (idle) {
+            Deque<JFileChooser> choosers = idle.get(fileSelectionMode);
+            return choosers == null ? 0 : choosers.size();
+        }
+    }
+
+    /**
+     * Returns the total number of choosers this pool has constructed.
+     *
+     * @return A count of JFileChooser instances created so far.
+     */
+    public static int getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Borrows a chooser for the given selection mode, creating one if none is idle.
+     * The chooser is positioned on the given directory, with no file filter and no
+     * selection. Callers must hand it back with release() when they are done with it.
+     *
+     * @param fileSelectionMode A JFileChooser file selection mode.
+     * @param currentDirectory  The directory to show, or null for the user's default directory.
+     * @return A JFileChooser ready to be shown.
+     */
+    static JFileChooser acquire(int fileSelectionMode, File currentDirectory) {
+        validateMode(fileSelectionMode);
+        JFileChooser chooser;
+        synchronized (idle) {
+            Deque<JFileChooser> choosers = idle.get(fileSelectionMode);
+            chooser = choosers == null ? null : choosers.pollFirst();
+        }
+        if (chooser == null) {
+            chooser = create(fileSelectionMode);
+        }
+        else if (chooser.getClientProperty(LOOK_AND_FEEL_PROPERTY) != UIManager.getLookAndFeel()) {
+            chooser.updateUI();
+            chooser.putClientProperty(LOOK_AND_FEEL_PROPERTY, UIManager.getLookAndFeel());
+        }
+        chooser.setCurrentDirectory(currentDirectory);
+        return chooser;
+    }
+
+    /**
+     * Returns a borrowed chooser to the pool. Any file filters and selection are
+     * cleared so that the next borrower starts from a clean chooser.
+     *
+     * @param chooser A chooser previously obtained from acquire().
+     */
+    static void release(JFileChooser chooser) {
+        chooser.resetChoosableFileFilters();
+        chooser.setSelectedFile(null);
+        chooser.setMultiSelectionEnabled(false);
+        synchronized (idle) {
+            Deque<JFileChooser> choosers = idle.computeIfAbsent(chooser.getFileSelectionMode(), k -> new ArrayDeque<>());
+            if (choosers.size() < MAX_IDLE_PER_MODE) {
+                choosers.addFirst(chooser);
+            }
+        }
+    }
+
+    private static JFileChooser create(int fileSelectionMode) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileSelectionMode(fileSelectionMode);
+        chooser.setMultiSelectionEnabled(false);
+        chooser.putClientProperty(LOOK_AND_FEEL_PROPERTY, UIManager.getLookAndFeel());
+        createdCount.incrementAndGet();
+        return chooser;
+    }
+
+    /**
+     * Makes the file system queries that a new JFileChooser makes, so that the platform
+     * has the results (roots, default directories and their icons) cached by the time a
+     * chooser is constructed. Safe to call off the EDT; no Swing component is touched.
+     */
+    private static void warmUpFileSystemView() {
+        FileSystemView view = FileSystemView.getFileSystemView();
+        File home = view.getHomeDirectory();
+        File defaultDirectory = view.getDefaultDirectory();
+        view.getSystemIcon(home);
+        view.getSystemIcon(defaultDirectory);
+        for (File root : view.getRoots()) {
+            view.getSystemIcon(root);
+        }
+        view.getFiles(defaultDirectory, true);
+    }
+
+    private static void validateMode(int fileSelectionMode) {
+        if (fileSelectionMode != JFileChooser.FILES_ONLY
+                && fileSelectionMode != JFileChooser.DIRECTORIES_ONLY
+                && fileSelectionMode != JFileChooser.FILES_AND_DIRECTORIES) {
+            throw new IllegalArgumentException("Unknown file selection mode: " + fileSelectionMode);
+        }
+    }
+}
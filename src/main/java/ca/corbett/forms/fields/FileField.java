@@ -1,6 +1,12 @@
 package ca.corbett.forms.fields;
 
 import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.completion.AutoCompleter;
+import ca.corbett.forms.completion.DirectoryListingCache;
+import ca.corbett.forms.completion.PathSuggestionSource;
+import ca.corbett.forms.files.DirectoryStats;
+import ca.corbett.forms.files.DirectoryStatsCalculator;
+import ca.corbett.forms.files.FileWatchRegistry;
 import ca.corbett.forms.validators.FileMustBeCreatableValidator;
 import ca.corbett.forms.validators.FileMustBeReadableValidator;
 import ca.corbett.forms.validators.FileMustBeSpecifiedValidator;
@@ -14,11 +20,22 @@ import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.filechooser.FileFilter;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.Insets;
 import java.io.File;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * A FormField for choosing a single directory or file.
@@ -49,8 +66,27 @@ public final class FileField extends FormField {
     NonExistingFile
   };
 
+  /**
+   * How long the text must stay unchanged before directory stats and file watches are updated.
+   */
+  private static final int SETTLE_DELAY_MS = 300;
+
+  private static final DateTimeFormatter STATS_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+      .withZone(ZoneId.systemDefault());
+
   private final JTextField textField;
-  private final JFileChooser fileChooser;
+  private FileSystem fileSystem = FileSystems.getDefault();
+  private Path cachedPath;
+  private boolean isPathCached;
+  private FileFilter fileFilter;
+  private AutoCompleter pathCompleter;
+  private boolean isPathCompletionRequested;
+  private JLabel statsLabel;
+  private final Timer settleTimer;
+  private FileWatchRegistry.Listener watchListener;
+  private Path watchedPath;
+  private DirectoryStatsCalculator.Walk statsWalk;
+  private DirectoryStats directoryStats;
   private JButton chooseButton;
   private SelectionType selectionType;
   private boolean isAllowBlank;
@@ -82,8 +118,23 @@ public final class FileField extends FormField {
     textField = new JTextField(initialValue == null ? "" : initialValue.getAbsolutePath());
     fieldComponent = textField;
     textField.setColumns(cols);
-    fileChooser = new JFileChooser(initialValue);
-    fileChooser.setMultiSelectionEnabled(false);
+    settleTimer = new Timer(SETTLE_DELAY_MS, e -> textSettled());
+    settleTimer.setRepeats(false);
+    textField.getDocument().addDocumentListener(new DocumentListener() {
+      @Override
+      public void insertUpdate(DocumentEvent e) {
+        textChanged();
+      }
+
+      @Override
+      public void removeUpdate(DocumentEvent e) {
+        textChanged();
+      }
+
+      @Override
+      public void changedUpdate(DocumentEvent e) {
+      }
+    });
     setSelectionType(selectionType, allowBlank);
   }
 
@@ -120,11 +171,12 @@ public final class FileField extends FormField {
   public void setSelectionType(SelectionType selectionType, boolean allowBlankValues) {
     this.selectionType = selectionType;
     this.isAllowBlank = allowBlankValues;
-    if (selectionType == SelectionType.NonExistingFile || selectionType == SelectionType.ExistingFile) {
-      fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+    if (pathCompleter != null) {
+      // Directory mode only suggests directories, so the source has to be rebuilt:
+      updatePathCompleter();
     }
-    else {
-      fileChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+    if (statsLabel != null) {
+      updateDirectoryStats();
     }
     if (selectionType == SelectionType.ExistingFile || selectionType == SelectionType.ExistingDirectory) {
       removeAllFieldValidators();
@@ -155,7 +207,7 @@ public final class FileField extends FormField {
 
   /**
    * Returns whether or not blank values are permitted in this field. If true,
-   * and no value is specified in the text field, then getFile() will return null.
+   * and no value is specified in the text field, then getPath() and getFile() will return null.
    * If false, then the field will throw a validation error if no value is specified.
    *
    * @return Whether or not this field considers a blank value to be valid.
@@ -164,6 +216,231 @@ public final class FileField extends FormField {
     return isAllowBlank;
   }
 
+  /**
+   * Turns inline path completion on or off. When on, a popup under the text box
+   * suggests the entries of whatever directory has been typed so far, matching the
+   * partial name after the last separator. Directory listings are read in the background
+   * and kept in the shared DirectoryListingCache, so suggestions for a directory that was
+   * recently listed appear without touching the disk again. In ExistingDirectory mode
+   * only directories are suggested. Completion reads the default file system, so it is
+   * suspended while this field uses any other FileSystem (see setFileSystem()), and
+   * resumes if the default FileSystem is set again.
+   *
+   * @param enabled Whether to offer path completion.
+   */
+  public void setPathCompletionEnabled(boolean enabled) {
+    isPathCompletionRequested = enabled;
+    updatePathCompleter();
+  }
+
+  /**
+   * Reports whether inline path completion is turned on. This is false while a
+   * non-default FileSystem is in use, even if completion was requested.
+   *
+   * @return True if path completion is currently being offered.
+   */
+  public boolean isPathCompletionEnabled() {
+    return pathCompleter != null;
+  }
+
+  /**
+   * Creates or disposes our AutoCompleter to match the requested setting, the
+   * current FileSystem and the current selection type.
+   */
+  private void updatePathCompleter() {
+    if (pathCompleter != null) {
+      pathCompleter.dispose();
+      pathCompleter = null;
+    }
+    if (isPathCompletionRequested && isDefaultFileSystem()) {
+      pathCompleter = new AutoCompleter(textField, new PathSuggestionSource(
+          DirectoryListingCache.getShared(), selectionType == SelectionType.ExistingDirectory));
+    }
+  }
+
+  /**
+   * Returns the AutoCompleter that provides path completion, for example to adjust
+   * its debounce delay or maximum number of suggestions.
+   *
+   * @return Our AutoCompleter, or null if path completion is off.
+   */
+  public AutoCompleter getPathCompleter() {
+    return pathCompleter;
+  }
+
+  /**
+   * Turns the directory summary on or off. When on, and this field is in ExistingDirectory
+   * mode, a label next to the field shows the total size, file count and newest
+   * modification time of everything under the selected directory. The directory is walked
+   * in parallel on background threads (see DirectoryStatsCalculator), the label counts up
+   * while the walk is running, and results are cached per directory. A new walk starts only
+   * when the selection changes to a directory that hasn't been summarized yet, and any walk
+   * still running for the previous selection is cancelled.
+   * <p>
+   * The summary label is added when the field is rendered, so turn this on before
+   * rendering the form.
+   * </p>
+   *
+   * @param show Whether to show the directory summary.
+   */
+  public void setShowDirectoryStats(boolean show) {
+    if (show == (statsLabel != null)) {
+      return;
+    }
+    if (show) {
+      statsLabel = new JLabel();
+      updateDirectoryStats();
+    }
+    else {
+      cancelDirectoryStats();
+      statsLabel = null;
+    }
+  }
+
+  /**
+   * Reports whether the directory summary is turned on.
+   *
+   * @return True if setShowDirectoryStats(true) was called.
+   */
+  public boolean isShowDirectoryStats() {
+    return statsLabel != null;
+  }
+
+  /**
+   * Returns the most recent stats for the selected directory. While a walk is still running
+   * these are partial; check DirectoryStats.isComplete().
+   *
+   * @return The current DirectoryStats, or null if there are none to show.
+   */
+  public DirectoryStats getDirectoryStats() {
+    return directoryStats;
+  }
+
+  /**
+   * Turns live validation on or off. When on, the selected path is watched through the
+   * shared FileWatchRegistry, and whenever it is created, deleted or modified (including a
+   * change of permissions) by something outside this form, this field is revalidated so its
+   * validation label never goes stale. Only a field that currently shows validation results
+   * is revalidated; a field that hasn't been validated yet, or whose results were cleared,
+   * is left alone. The watch follows the selection as it changes.
+   *
+   * @param enabled Whether to revalidate this field when the selected path changes on disk.
+   */
+  public void setLiveValidation(boolean enabled) {
+    if (enabled == (watchListener != null)) {
+      return;
+    }
+    if (enabled) {
+      watchListener = path -> watchedPathChanged();
+      updateWatch();
+    }
+    else {
+      FileWatchRegistry.getShared().unwatch(watchListener);
+      watchListener = null;
+      watchedPath = null;
+    }
+  }
+
+  /**
+   * Reports whether live validation is turned on.
+   *
+   * @return True if setLiveValidation(true) was called.
+   */
+  public boolean isLiveValidation() {
+    return watchListener != null;
+  }
+
+  private void textChanged() {
+    isPathCached = false;
+    if (statsLabel != null || watchListener != null) {
+      settleTimer.restart();
+    }
+  }
+
+  /**
+   * Invoked once the text has stopped changing for SETTLE_DELAY_MS.
+   */
+  private void textSettled() {
+    updateDirectoryStats();
+    updateWatch();
+  }
+
+  /**
+   * Moves our file watch to the current selection, if live validation is on.
+   */
+  private void updateWatch() {
+    if (watchListener == null) {
+      return;
+    }
+    Path path = getPath();
+    path = path == null ? null : path.toAbsolutePath().normalize();
+    if (Objects.equals(path, watchedPath)) {
+      return;
+    }
+    FileWatchRegistry.getShared().unwatch(watchListener);
+    watchedPath = path;
+    if (path != null) {
+      FileWatchRegistry.getShared().watch(path, watchListener);
+    }
+  }
+
+  private void watchedPathChanged() {
+    if (watchListener == null || watchedPath == null) {
+      return;
+    }
+    // The nearest existing directory above our path may have changed, so watch again:
+    FileWatchRegistry.getShared().unwatch(watchListener);
+    FileWatchRegistry.getShared().watch(watchedPath, watchListener);
+    if (validationLabel.getIcon() != null) {
+      validate();
+    }
+  }
+
+  /**
+   * Starts a stats walk for the current selection, unless one for the same directory
+   * is already running or done.
+   */
+  private void updateDirectoryStats() {
+    Path path = getPath();
+    if (statsLabel == null || selectionType != SelectionType.ExistingDirectory
+        || path == null || !Files.isDirectory(path)) {
+      cancelDirectoryStats();
+      return;
+    }
+    Path directory = path.toAbsolutePath().normalize();
+    if (statsWalk != null && statsWalk.getDirectory().equals(directory)) {
+      return;
+    }
+    cancelDirectoryStats();
+    statsWalk = DirectoryStatsCalculator.getShared().calculate(directory, this::directoryStatsChanged);
+  }
+
+  private void cancelDirectoryStats() {
+    if (statsWalk != null) {
+      statsWalk.cancel();
+      statsWalk = null;
+    }
+    directoryStats = null;
+    if (statsLabel != null) {
+      statsLabel.setText("");
+    }
+  }
+
+  private void directoryStatsChanged(DirectoryStats stats) {
+    directoryStats = stats;
+    StringBuilder text = new StringBuilder();
+    if (!stats.isComplete()) {
+      text.append("Scanning\u2026 ");
+    }
+    text.append(String.format("%,d", stats.getFileCount()));
+    text.append(stats.getFileCount() == 1 ? " file, " : " files, ");
+    text.append(DirectoryStats.formatSize(stats.getTotalBytes()));
+    if (stats.isComplete() && stats.getNewestModified() != null) {
+      text.append(", newest ").append(STATS_DATE_FORMAT.format(stats.getNewestModified().toInstant()));
+    }
+    statsLabel.setText(text.toString());
+  }
+
   /**
    * Overridden so we can show/hide our choose button also.
    */
@@ -173,6 +450,9 @@ public final class FileField extends FormField {
     if (chooseButton != null) {
       chooseButton.setVisible(visible);
     }
+    if (statsLabel != null) {
+      statsLabel.setVisible(visible);
+    }
   }
 
   /**
@@ -182,32 +462,145 @@ public final class FileField extends FormField {
   public void setEnabled(boolean enabled) {
     super.setEnabled(enabled);
     if (chooseButton != null) {
-      chooseButton.setEnabled(enabled);
+      chooseButton.setEnabled(enabled && isDefaultFileSystem());
+    }
+  }
+
+  /**
+   * Sets the FileSystem that paths typed into this field belong to. By default this is
+   * the platform's default FileSystem, but it can be, for example, a zip file system or an
+   * in-memory file system for tests. The validators and the directory summary work with
+   * any FileSystem. The "Choose..." button, path completion and live validation only work
+   * with the default FileSystem, so the button is disabled and path completion is
+   * suspended for any other.
+   *
+   * @param fileSystem The FileSystem to resolve paths against. Must not be null.
+   */
+  public void setFileSystem(FileSystem fileSystem) {
+    this.fileSystem = Objects.requireNonNull(fileSystem, "fileSystem");
+    isPathCached = false;
+    if (chooseButton != null) {
+      chooseButton.setEnabled(isEnabled && isDefaultFileSystem());
+    }
+    if (isPathCompletionRequested) {
+      updatePathCompleter();
+    }
+    textSettled();
+  }
+
+  /**
+   * Returns the FileSystem that paths in this field belong to.
+   *
+   * @return Our FileSystem.
+   */
+  public FileSystem getFileSystem() {
+    return fileSystem;
+  }
+
+  private boolean isDefaultFileSystem() {
+    return fileSystem == FileSystems.getDefault();
+  }
+
+  /**
+   * Reports whether the text box is empty, ignoring whitespace.
+   *
+   * @return True if no path has been entered.
+   */
+  public boolean isBlank() {
+    return textField.getText().trim().isEmpty();
+  }
+
+  /**
+   * Returns the currently selected Path from this field. The text is parsed only
+   * once after each change, so calling this repeatedly is cheap.
+   *
+   * @return A Path on our FileSystem, or null if the field is blank or its text isn't a valid path.
+   */
+  public Path getPath() {
+    if (!isPathCached) {
+      String text = textField.getText().trim();
+      try {
+        cachedPath = text.isEmpty() ? null : fileSystem.getPath(text);
+      }
+      catch (InvalidPathException e) {
+        cachedPath = null;
+      }
+      isPathCached = true;
+    }
+    return cachedPath;
+  }
+
+  /**
+   * Sets the currently selected Path for this field.
+   *
+   * @param path The Path to select, or null to blank out the field.
+   * @throws IllegalArgumentException If the path doesn't belong to our FileSystem.
+   */
+  public void setPath(Path path) {
+    if (path != null && path.getFileSystem() != fileSystem) {
+      throw new IllegalArgumentException("Path " + path + " does not belong to this field's FileSystem.");
     }
+    clearValidationResults();
+    Path absolute = path == null ? null : path.toAbsolutePath();
+    textField.setText(absolute == null ? "" : absolute.toString());
+    cachedPath = absolute;
+    isPathCached = true;
   }
 
   /**
-   * Returns the currently selected File from this field.
+   * Returns the currently selected File from this field. This is an adapter for
+   * getPath(), and only works with the default FileSystem.
+   *
+   * As before getPath() existed, text that the FileSystem can't parse as a path is still
+   * returned as a File built from that text; only a blank field returns null.
    *
-   * @return A File object.
+   * @return A File object, or null if the field is blank.
+   * @throws UnsupportedOperationException If this field uses a FileSystem other than the default.
    */
   public File getFile() {
-    String path = textField.getText().trim();
-    return path.isEmpty() ? null : new File(path);
+    Path path = getPath();
+    if (path != null) {
+      return path.toFile();
+    }
+    if (!isDefaultFileSystem()) {
+      throw new UnsupportedOperationException("getFile() requires the default FileSystem; use getPath()");
+    }
+    String text = textField.getText().trim();
+    return text.isEmpty() ? null : new File(text);
   }
 
   /**
-   * Sets the currently selected File for this field.
+   * Sets the currently selected File for this field. This is an adapter for setPath().
    *
    * @param file The File to select.
    */
   public void setFile(File file) {
-    clearValidationResults();
-    if (file == null) {
-      textField.setText("");
+    setPath(file == null ? null : file.toPath());
+  }
+
+  /**
+   * Returns the currently selected File, or null if the field is blank. For fields on
+   * a FileSystem other than the default, this returns the Path instead.
+   *
+   * @return A File (or Path) object, or null.
+   */
+  @Override
+  public Object getFieldValue() {
+    return isDefaultFileSystem() ? getFile() : getPath();
+  }
+
+  /**
+   * Sets the currently selected File or Path. A null value blanks out the field.
+   *
+   * @param value The File or Path to select.
+   */
+  @Override
+  public void setFieldValue(Object value) {
+    if (value instanceof Path) {
+      setPath((Path)value);
     }
     else {
-      textField.setText(file.getAbsolutePath());
+      setFile((File)value);
     }
   }
 
@@ -217,7 +610,45 @@ public final class FileField extends FormField {
    * @param filter An optional FileFilter to apply.
    */
   public void setFileFilter(FileFilter filter) {
-    fileChooser.setFileFilter(filter);
+    fileFilter = filter;
+  }
+
+  /**
+   * Returns the FileFilter that will be applied to the JFileChooser, if any.
+   *
+   * @return The FileFilter set with setFileFilter, or null.
+   */
+  public FileFilter getFileFilter() {
+    return fileFilter;
+  }
+
+  /**
+   * Shows a file chooser borrowed from the FileChooserPool, positioned on the
+   * current value of this field, and updates the field if the user picks something.
+   * The chooser is only constructed (or taken from the pool) at this point, so a form
+   * full of FileFields costs nothing until one of them is actually used.
+   */
+  private void showFileChooser(JPanel parent) {
+    int mode = selectionType == SelectionType.ExistingDirectory
+        ? JFileChooser.DIRECTORIES_ONLY : JFileChooser.FILES_ONLY;
+    File current = isDefaultFileSystem() ? getFile() : null;
+    JFileChooser fileChooser = FileChooserPool.acquire(mode, current == null ? null : current.getParentFile());
+    try {
+      if (fileFilter != null) {
+        fileChooser.setFileFilter(fileFilter);
+      }
+      if (current != null) {
+        fileChooser.setSelectedFile(current);
+      }
+      int result = fileChooser.showDialog(parent, "Choose");
+      if (result == JFileChooser.APPROVE_OPTION) {
+        textField.setText(fileChooser.getSelectedFile().getAbsolutePath());
+        fireValueChangedEvent();
+      }
+    }
+    finally {
+      FileChooserPool.release(fileChooser);
+    }
   }
 
   /**
@@ -237,7 +668,7 @@ public final class FileField extends FormField {
     // UTIL-147: create new button every time render() is invoked to avoid duplicate action listeners
     chooseButton = new JButton("Choose...");
     chooseButton.setFont(fieldLabelFont);
-    chooseButton.setEnabled(isEnabled);
+    chooseButton.setEnabled(isEnabled && isDefaultFileSystem());
 
     constraints.gridx = FormPanel.CONTROL_COLUMN;
     JPanel dirPanel = new JPanel();
@@ -248,14 +679,13 @@ public final class FileField extends FormField {
     dirPanel.add(spacerLabel);
     chooseButton.setPreferredSize(new Dimension(105, 22));
     dirPanel.add(chooseButton);
+    if (statsLabel != null) {
+      dirPanel.add(new JLabel(" "));
+      statsLabel.setFont(fieldLabelFont);
+      dirPanel.add(statsLabel);
+    }
     final JPanel thisPanel = container;
-    chooseButton.addActionListener(e -> {
-      int result = fileChooser.showDialog(thisPanel, "Choose");
-      if (result == JFileChooser.APPROVE_OPTION) {
-        textField.setText(fileChooser.getSelectedFile().getAbsolutePath());
-        fireValueChangedEvent();
-      }
-    });
+    chooseButton.addActionListener(e -> showFileChooser(thisPanel));
     constraints.fill = GridBagConstraints.BOTH;
     constraints.insets = new Insets(topMargin, componentSpacing, bottomMargin, componentSpacing);
     container.add(dirPanel, constraints);
@@ -2,6 +2,8 @@ package ca.corbett.forms.fields;
 
 import ca.corbett.forms.FontDialog;
 import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fonts.FontCache;
+import ca.corbett.forms.fonts.FontCatalog;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
@@ -88,6 +90,9 @@ public final class FontField extends FormField {
         sampleLabel.setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
         setSelectedFont(selectedFont);
         fieldComponent = button;
+
+        // Enumerate the installed fonts in the background, so the dialog opens quickly:
+        FontCatalog.preload();
     }
 
     /**
@@ -174,6 +179,27 @@ public final class FontField extends FormField {
         updateSampleLabel();
     }
 
+    /**
+     * Returns the currently selected Font. Text and background colors are
+     * not included; use getTextColor() and getBgColor() for those.
+     *
+     * @return The selected Font.
+     */
+    @Override
+    public Object getFieldValue() {
+        return getSelectedFont();
+    }
+
+    /**
+     * Sets the selected Font. A null value selects the default font.
+     *
+     * @param value The Font to select.
+     */
+    @Override
+    public void setFieldValue(Object value) {
+        setSelectedFont(value == null ? FontDialog.INITIAL_FONT : (Font) value);
+    }
+
     /**
      * Renders this field into the given container.
      *
@@ -190,7 +216,7 @@ public final class FontField extends FormField {
 
         constraints.gridx = FormPanel.CONTROL_COLUMN;
         button.setPreferredSize(new Dimension(95, 23));
-        button.setFont(button.getFont().deriveFont(Font.PLAIN));
+        button.setFont(FontCache.derive(button.getFont(), Font.PLAIN, button.getFont().getSize2D()));
         JPanel wrapperPanel = new JPanel();
         wrapperPanel.setBackground(container.getBackground());
         wrapperPanel.setLayout(new BoxLayout(wrapperPanel, BoxLayout.X_AXIS));
@@ -214,7 +240,7 @@ public final class FontField extends FormField {
      * any of our font or color properties.
      */
     private void updateSampleLabel() {
-        sampleLabel.setFont(selectedFont.deriveFont(12f));
+        sampleLabel.setFont(FontCache.derive(selectedFont, selectedFont.getStyle(), 12f));
         sampleLabel.setText(trimFontName(selectedFont.getFamily()));
         if (textColor != null) {
             sampleLabel.setForeground(textColor);
@@ -234,7 +260,7 @@ public final class FontField extends FormField {
         return new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                FontDialog dialog = new FontDialog(panel, selectedFont, textColor, bgColor);
+                FontDialog dialog = FontDialog.acquire(panel, selectedFont, textColor, bgColor);
                 dialog.setShowSizeField(showSizeField);
                 dialog.setVisible(true);
                 if (dialog.wasOkayed()) {
@@ -1,5 +1,6 @@
 package ca.corbett.forms.fields;
 
+import ca.corbett.forms.fonts.FontCache;
 import ca.corbett.forms.validators.FieldValidator;
 import ca.corbett.forms.validators.ValidationResult;
 
@@ -60,7 +61,7 @@ public abstract class FormField {
     /**
      * The Font to use for the field label. *
      */
-    protected Font fieldLabelFont = new Font("SansSerif", Font.PLAIN, 12);
+    protected Font fieldLabelFont = FontCache.get(Font.SANS_SERIF, Font.PLAIN, 12);
 
     /**
      * The actual JComponent that we wrap. *
@@ -410,6 +411,29 @@ public abstract class FormField {
         return fieldComponent;
     }
 
+    /**
+     * Returns the current value of this field as a plain Object, so that generic
+     * code (undo history, data binding and the like) can read any field without
+     * knowing its concrete type. Each FormField implementation that holds a
+     * user-editable value overrides this to return that value; the default
+     * implementation returns null, which means "this field has no value".
+     *
+     * @return The current value of this field, or null if this field holds no value.
+     */
+    public Object getFieldValue() {
+        return null;
+    }
+
+    /**
+     * The counterpart to getFieldValue(): sets the value of this field from a plain
+     * Object. The given value must be of the type returned by getFieldValue() for
+     * this field. The default implementation does nothing.
+     *
+     * @param value The new value for this field.
+     */
+    public void setFieldValue(Object value) {
+    }
+
     /**
      * Invoke this to render this field into the given containing panel using the given
      * GridBagConstraints object. You are likely better off going through the render()
@@ -1,6 +1,7 @@
 package ca.corbett.forms.fields;
 
 import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fonts.FontCache;
 
 import javax.swing.Action;
 import javax.swing.JLabel;
@@ -41,8 +42,8 @@ import java.util.Map;
  */
 public final class LabelField extends FormField {
 
-  private static final Font DEFAULT_HEADER_FONT = new Font(Font.DIALOG, Font.BOLD, 16);
-  private static final Font DEFAULT_LABEL_FONT = new Font(Font.DIALOG, Font.PLAIN, 12);
+  private static final Font DEFAULT_HEADER_FONT = FontCache.get(Font.DIALOG, Font.BOLD, 16);
+  private static final Font DEFAULT_LABEL_FONT = FontCache.get(Font.DIALOG, Font.PLAIN, 12);
 
   private final JLabel label;
   private Action hyperlinkAction;
@@ -141,9 +142,7 @@ public final class LabelField extends FormField {
     JLabel linkLabel = label; // whether header label or not, put the link on "label" and not "fieldLabel"
     linkLabel.setForeground(Color.BLUE);
     linkLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-    Map attributes = linkLabel.getFont().getAttributes();
-    attributes.put(TextAttribute.UNDERLINE, TextAttribute.UNDERLINE_ON);
-    linkLabel.setFont(linkLabel.getFont().deriveFont(attributes));
+    linkLabel.setFont(FontCache.derive(linkLabel.getFont(), Map.of(TextAttribute.UNDERLINE, TextAttribute.UNDERLINE_ON)));
     linkLabel.addMouseListener(new MouseAdapter() {
       @Override
       public void mouseClicked(MouseEvent e) {
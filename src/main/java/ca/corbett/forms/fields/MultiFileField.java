@@ -0,0 +1,695 @@
+package ca.corbett.forms.fields;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.validators.FieldValidator;
+import ca.corbett.forms.validators.PathValidator;
+import ca.corbett.forms.validators.ValidationResult;
+
+import javax.swing.AbstractListModel;
+import javax.swing.BoxLayout;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.ToolTipManager;
+import javax.swing.TransferHandler;
+import javax.swing.filechooser.FileFilter;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.GridBagConstraints;
+import java.awt.Insets;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A FormField for choosing any number of files or directories. The value of this field
+ * is a list of paths, which the user builds up with the "Add..." button or by dragging
+ * files onto the list from the desktop or a file manager. Duplicate paths are ignored.
+ * <p>
+ * Each path is checked by a list of PathValidators, which default to the same checks a
+ * FileField with the same SelectionType would make. Validation runs in the background,
+ * in parallel over the whole list, every time the list changes, so the field stays
+ * responsive with many thousands of paths. Invalid paths are shown in red in the list
+ * (hover for the reason), and when the field is validated, the validation tooltip
+ * summarizes how many paths are invalid and lists the first few. A PathValidator that
+ * throws an exception marks that path as invalid, with the exception as the reason.
+ * </p>
+ * <p>
+ * Validating the field never blocks the EDT for long: if the background check hasn't
+ * finished within a fraction of a second, validate() reports that the paths are still
+ * being checked (which counts as invalid), and the result is updated automatically as
+ * soon as the check completes.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class MultiFileField extends FormField {
+
+    /**
+     * The maximum number of invalid paths listed individually in the validation tooltip.
+     */
+    public static final int MAX_LISTED_INVALID = 10;
+
+    private static final Color INVALID_COLOR = new Color(192, 0, 0);
+
+    /**
+     * How long validate() waits on the EDT for a background validation to finish.
+     */
+    private static final long MAX_VALIDATION_WAIT_MS = 100;
+
+    private static final ForkJoinPool validationPool = createPool();
+
+    private final PathListModel listModel = new PathListModel();
+    private final JList<Path> list;
+    private final JScrollPane scrollPane;
+    private final FileField.SelectionType selectionType;
+    private final boolean isAllowEmpty;
+    private final List<PathValidator> pathValidators = new ArrayList<>();
+    private final AtomicLong generation = new AtomicLong();
+    private CompletableFuture<Map<Path, String>> pendingValidation;
+    private Map<Path, String> invalidPaths = Collections.emptyMap();
+    private boolean isValidationCurrent = true;
+    private FileFilter fileFilter;
+    private JButton addButton;
+    private JButton removeButton;
+    private JButton clearButton;
+
+    /**
+     * Creates a MultiFileField that requires at least one path.
+     *
+     * @param label         The label to use for this field.
+     * @param initialValue  The initial paths to show. May be null or empty.
+     * @param visibleRows   The number of paths visible without scrolling.
+     * @param selectionType What kind of path to accept. See FileField.SelectionType.
+     */
+    public MultiFileField(String label, Collection<? extends Path> initialValue, int visibleRows,
+                          FileField.SelectionType selectionType) {
+        this(label, initialValue, visibleRows, selectionType, false);
+    }
+
+    /**
+     * Creates a MultiFileField with the given parameters.
+     *
+     * @param label         The label to use for this field.
+     * @param initialValue  The initial paths to show. May be null or empty.
+     * @param visibleRows   The number of paths visible without scrolling.
+     * @param selectionType What kind of path to accept. See FileField.SelectionType.
+     * @param allowEmpty    Whether the field is valid with no paths at all.
+     */
+    public MultiFileField(String label, Collection<? extends Path> initialValue, int visibleRows,
+                          FileField.SelectionType selectionType, boolean allowEmpty) {
+        this.selectionType = selectionType;
+        this.isAllowEmpty = allowEmpty;
+        fieldLabel = new JLabel(label);
+        fieldLabel.setFont(fieldLabelFont);
+
+        list = new JList<>(listModel);
+        list.setVisibleRowCount(visibleRows);
+        list.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        // A prototype value gives every row the same size, so the list never has to
+        // measure thousands of paths to lay itself out:
+        list.setPrototypeCellValue(Paths.get("M".repeat(48)));
+        list.setCellRenderer(new PathRenderer());
+        list.setTransferHandler(new PathDropHandler());
+        ToolTipManager.sharedInstance().registerComponent(list);
+        scrollPane = new JScrollPane(list);
+        scrollPane.setTransferHandler(list.getTransferHandler());
+        fieldComponent = scrollPane;
+
+        if (selectionType == FileField.SelectionType.ExistingDirectory) {
+            pathValidators.add(PathValidator.existingDirectory());
+        }
+        else if (selectionType == FileField.SelectionType.ExistingFile) {
+            pathValidators.add(PathValidator.existingFile());
+        }
+        if (selectionType == FileField.SelectionType.NonExistingFile) {
+            pathValidators.add(PathValidator.notExists());
+            pathValidators.add(PathValidator.creatable());
+        }
+        else {
+            pathValidators.add(PathValidator.readable());
+            pathValidators.add(PathValidator.writable());
+        }
+        validators.add(new FieldValidator<FormField>(this) {
+            @Override
+            public ValidationResult validate() {
+                return summarizeValidation();
+            }
+        });
+
+        if (initialValue != null) {
+            listModel.addAll(initialValue);
+        }
+        startValidation();
+    }
+
+    /**
+     * Creates the pool that validates paths. Validation mostly waits on the file system,
+     * so we use at least two threads even on a single-core machine.
+     */
+    private static ForkJoinPool createPool() {
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("MultiFileField-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Returns the SelectionType that this field was created with.
+     *
+     * @return Our SelectionType.
+     */
+    public FileField.SelectionType getSelectionType() {
+        return selectionType;
+    }
+
+    /**
+     * Reports whether this field is valid with no paths selected.
+     *
+     * @return True if an empty list is allowed.
+     */
+    public boolean isAllowEmpty() {
+        return isAllowEmpty;
+    }
+
+    /**
+     * Adds a PathValidator that every selected path must satisfy, in addition to the
+     * defaults for our SelectionType. PathValidators are run on background threads.
+     *
+     * @param validator The PathValidator to add.
+     */
+    public void addPathValidator(PathValidator validator) {
+        pathValidators.add(validator);
+        startValidation();
+    }
+
+    /**
+     * Removes all PathValidators, including the defaults for our SelectionType.
+     */
+    public void removeAllPathValidators() {
+        pathValidators.clear();
+        startValidation();
+    }
+
+    /**
+     * Returns the selected paths, in the order they were added.
+     *
+     * @return An unmodifiable list of absolute paths.
+     */
+    public List<Path> getPaths() {
+        return List.of(listModel.toArray());
+    }
+
+    /**
+     * Returns the number of selected paths.
+     *
+     * @return A count of paths.
+     */
+    public int getPathCount() {
+        return listModel.getSize();
+    }
+
+    /**
+     * Replaces the selected paths with the given ones.
+     *
+     * @param paths The paths to select. May be null or empty.
+     */
+    public void setPaths(Collection<? extends Path> paths) {
+        clearValidationResults();
+        listModel.clear();
+        if (paths != null) {
+            listModel.addAll(paths);
+        }
+        startValidation();
+    }
+
+    /**
+     * Adds the given paths to the end of the list, skipping any that are already in it.
+     *
+     * @param paths The paths to add.
+     * @return The number of paths actually added.
+     */
+    public int addPaths(Collection<? extends Path> paths) {
+        int added = listModel.addAll(paths);
+        if (added > 0) {
+            startValidation();
+        }
+        return added;
+    }
+
+    /**
+     * Removes the given paths from the list, if present.
+     *
+     * @param paths The paths to remove.
+     * @return The number of paths actually removed.
+     */
+    public int removePaths(Collection<? extends Path> paths) {
+        Set<Path> toRemove = new HashSet<>();
+        for (Path path : paths) {
+            toRemove.add(path.toAbsolutePath().normalize());
+        }
+        int removed = listModel.removeAll(toRemove);
+        if (removed > 0) {
+            startValidation();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all paths from the list.
+     */
+    public void clear() {
+        setPaths(null);
+    }
+
+    /**
+     * Returns the invalid paths found by the most recent validation, each with the
+     * message from the first PathValidator it failed. If a background validation is still
+     * running, this waits briefly for it to finish; if it still hasn't, the results of the
+     * previous validation are returned, and isValidationPending() stays true until the new
+     * results are in. Must be called on the EDT.
+     *
+     * @return An unmodifiable map of invalid path to validation message.
+     */
+    public Map<Path, String> getInvalidPaths() {
+        awaitValidation();
+        return Collections.unmodifiableMap(invalidPaths);
+    }
+
+    /**
+     * Reports whether a background validation is still running for the current list.
+     *
+     * @return True if the list has changed since the last validation completed.
+     */
+    public boolean isValidationPending() {
+        return !isValidationCurrent;
+    }
+
+    /**
+     * Sets a FileFilter to use with the JFileChooser.
+     *
+     * @param filter An optional FileFilter to apply.
+     */
+    public void setFileFilter(FileFilter filter) {
+        fileFilter = filter;
+    }
+
+    /**
+     * Returns the selected paths, as a List of Path.
+     *
+     * @return An unmodifiable List of Path.
+     */
+    @Override
+    public Object getFieldValue() {
+        return getPaths();
+    }
+
+    /**
+     * Replaces the selected paths. The value may be a Collection of Path or File
+     * objects, or null to clear the list.
+     *
+     * @param value A Collection of Path or File, or null.
+     */
+    @Override
+    public void setFieldValue(Object value) {
+        if (value == null) {
+            setPaths(null);
+            return;
+        }
+        List<Path> paths = new ArrayList<>();
+        for (Object item : (Collection<?>) value) {
+            paths.add(item instanceof File ? ((File) item).toPath() : (Path) item);
+        }
+        setPaths(paths);
+    }
+
+    /**
+     * Overridden so we can enable/disable our list and buttons also.
+     */
+    @Override
+    public void setEnabled(boolean enabled) {
+        super.setEnabled(enabled);
+        list.setEnabled(enabled);
+        for (JComponent button : new JComponent[]{addButton, removeButton, clearButton}) {
+            if (button != null) {
+                button.setEnabled(enabled);
+            }
+        }
+    }
+
+    /**
+     * Renders this field into the given container.
+     *
+     * @param container   The containing form panel.
+     * @param constraints The GridBagConstraints to use.
+     */
+    @Override
+    public void render(JPanel container, GridBagConstraints constraints) {
+        constraints.insets = new Insets(topMargin, leftMargin, bottomMargin, componentSpacing);
+        constraints.gridy++;
+        constraints.gridx = FormPanel.LABEL_COLUMN;
+        constraints.anchor = GridBagConstraints.NORTHWEST;
+        fieldLabel.setFont(fieldLabelFont);
+        container.add(fieldLabel, constraints);
+
+        // Create new buttons every time render() is invoked to avoid duplicate action listeners:
+        addButton = createButton("Add...");
+        removeButton = createButton("Remove");
+        clearButton = createButton("Clear");
+        final JPanel thisPanel = container;
+        addButton.addActionListener(e -> showFileChooser(thisPanel));
+        removeButton.addActionListener(e -> {
+            if (removePaths(list.getSelectedValuesList()) > 0) {
+                fireValueChangedEvent();
+            }
+        });
+        clearButton.addActionListener(e -> {
+            if (getPathCount() > 0) {
+                clear();
+                fireValueChangedEvent();
+            }
+        });
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setBackground(container.getBackground());
+        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.Y_AXIS));
+        buttonPanel.add(addButton);
+        buttonPanel.add(removeButton);
+        buttonPanel.add(clearButton);
+
+        constraints.gridx = FormPanel.CONTROL_COLUMN;
+        JPanel listPanel = new JPanel(new BorderLayout(componentSpacing, 0));
+        listPanel.setBackground(container.getBackground());
+        listPanel.add(scrollPane, BorderLayout.CENTER);
+        listPanel.add(buttonPanel, BorderLayout.EAST);
+        constraints.fill = GridBagConstraints.BOTH;
+        constraints.insets = new Insets(topMargin, componentSpacing, bottomMargin, componentSpacing);
+        container.add(listPanel, constraints);
+        constraints.anchor = GridBagConstraints.WEST;
+    }
+
+    private JButton createButton(String text) {
+        JButton button = new JButton(text);
+        button.setFont(fieldLabelFont);
+        button.setEnabled(isEnabled);
+        button.setMaximumSize(new Dimension(105, 22));
+        button.setPreferredSize(new Dimension(105, 22));
+        return button;
+    }
+
+    /**
+     * Shows a multi-selection file chooser borrowed from the FileChooserPool, and adds
+     * whatever the user picks.
+     */
+    private void showFileChooser(JPanel parent) {
+        int mode = selectionType == FileField.SelectionType.ExistingDirectory
+                ? JFileChooser.DIRECTORIES_ONLY : JFileChooser.FILES_ONLY;
+        int size = listModel.getSize();
+        File current = size == 0 ? null : listModel.getElementAt(size - 1).toFile().getParentFile();
+        JFileChooser fileChooser = FileChooserPool.acquire(mode, current);
+        try {
+            fileChooser.setMultiSelectionEnabled(true);
+            if (fileFilter != null) {
+                fileChooser.setFileFilter(fileFilter);
+            }
+            if (fileChooser.showDialog(parent, "Add") == JFileChooser.APPROVE_OPTION) {
+                List<Path> chosen = new ArrayList<>();
+                for (File file : fileChooser.getSelectedFiles()) {
+                    chosen.add(file.toPath());
+                }
+                if (addPaths(chosen) > 0) {
+                    fireValueChangedEvent();
+                }
+            }
+        }
+        finally {
+            FileChooserPool.release(fileChooser);
+        }
+    }
+
+    /**
+     * Starts validating a snapshot of the current list in the background. Any validation
+     * still running for an older snapshot stops checking paths as soon as it notices.
+     */
+    private void startValidation() {
+        final long thisGeneration = generation.incrementAndGet();
+        final Path[] snapshot = listModel.toArray();
+        final PathValidator[] checks = pathValidators.toArray(new PathValidator[0]);
+        isValidationCurrent = false;
+        pendingValidation = CompletableFuture.supplyAsync(() -> validateAll(snapshot, checks, thisGeneration),
+                                                          validationPool)
+                                             .handle((result, error) -> error == null ? result : allFailed(snapshot, error));
+        pendingValidation.thenAccept(result -> SwingUtilities.invokeLater(
+                () -> validationFinished(thisGeneration, result)));
+    }
+
+    /**
+     * Runs on a validation pool thread. The parallel stream runs in that same pool.
+     */
+    private Map<Path, String> validateAll(Path[] paths, PathValidator[] checks, long thisGeneration) {
+        Map<Path, String> invalid = new ConcurrentHashMap<>();
+        Arrays.stream(paths).parallel().forEach(path -> {
+            if (generation.get() != thisGeneration) {
+                return; // superseded by a newer list
+            }
+            for (PathValidator check : checks) {
+                try {
+                    ValidationResult result = check.validatePath(path);
+                    if (!result.isValid()) {
+                        invalid.put(path, result.getMessage());
+                        return;
+                    }
+                }
+                catch (RuntimeException e) {
+                    invalid.put(path, "Unable to check path: " + e);
+                    return;
+                }
+            }
+        });
+        return invalid;
+    }
+
+    /**
+     * Marks every path as invalid when a validation failed as a whole, which shouldn't happen
+     * since each check is guarded, but must never leave the field waiting forever.
+     */
+    private static Map<Path, String> allFailed(Path[] paths, Throwable error) {
+        Map<Path, String> invalid = new ConcurrentHashMap<>();
+        for (Path path : paths) {
+            invalid.put(path, "Unable to check path: " + error);
+        }
+        return invalid;
+    }
+
+    private void validationFinished(long thisGeneration, Map<Path, String> result) {
+        if (thisGeneration != generation.get()) {
+            return;
+        }
+        if (!isValidationCurrent) {
+            invalidPaths = result;
+            isValidationCurrent = true;
+        }
+        list.repaint();
+        // Refresh the validation label if it's currently showing results:
+        if (validationLabel.getIcon() != null) {
+            validate();
+        }
+    }
+
+    /**
+     * Returns the results of the latest validation, waiting up to MAX_VALIDATION_WAIT_MS for
+     * it if necessary, or null if it is still running. The validation started as soon as the
+     * list changed, so it has usually finished by the time anyone asks.
+     */
+    private Map<Path, String> awaitValidation() {
+        if (!isValidationCurrent) {
+            try {
+                invalidPaths = pendingValidation.get(MAX_VALIDATION_WAIT_MS, TimeUnit.MILLISECONDS);
+            }
+            catch (TimeoutException e) {
+                return null; // validationFinished() will pick up the result
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            catch (ExecutionException e) {
+                throw new IllegalStateException(e); // can't happen: failures are handled in startValidation()
+            }
+            isValidationCurrent = true;
+            list.repaint();
+        }
+        return invalidPaths;
+    }
+
+    private ValidationResult summarizeValidation() {
+        int count = listModel.getSize();
+        if (count == 0) {
+            return isAllowEmpty
+                    ? new ValidationResult()
+                    : new ValidationResult(false, "At least one path must be selected.");
+        }
+        Map<Path, String> invalid = awaitValidation();
+        if (invalid == null) {
+            return new ValidationResult(false, String.format("Still checking %,d selected paths...", count));
+        }
+        if (invalid.isEmpty()) {
+            return new ValidationResult();
+        }
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("%,d of %,d selected paths are invalid:", invalid.size(), count));
+        int listed = 0;
+        for (int i = 0; i < count && listed < MAX_LISTED_INVALID; i++) {
+            Path path = listModel.getElementAt(i);
+            String reason = invalid.get(path);
+            if (reason != null) {
+                message.append(" \n").append(path).append(": ").append(reason);
+                listed++;
+            }
+        }
+        if (invalid.size() > listed) {
+            message.append(String.format(" \n(and %,d more)", invalid.size() - listed));
+        }
+        return new ValidationResult(false, message.toString());
+    }
+
+    /**
+     * A list model over an ArrayList, with a HashSet for constant-time duplicate checks.
+     * Bulk changes fire a single event, no matter how many paths they touch.
+     */
+    private static final class PathListModel extends AbstractListModel<Path> {
+        private final List<Path> paths = new ArrayList<>();
+        private final Set<Path> pathSet = new HashSet<>();
+
+        @Override
+        public int getSize() {
+            return paths.size();
+        }
+
+        @Override
+        public Path getElementAt(int index) {
+            return paths.get(index);
+        }
+
+        Path[] toArray() {
+            return paths.toArray(new Path[0]);
+        }
+
+        int addAll(Collection<? extends Path> newPaths) {
+            int start = paths.size();
+            for (Path path : newPaths) {
+                Path normalized = path.toAbsolutePath().normalize();
+                if (pathSet.add(normalized)) {
+                    paths.add(normalized);
+                }
+            }
+            if (paths.size() > start) {
+                fireIntervalAdded(this, start, paths.size() - 1);
+            }
+            return paths.size() - start;
+        }
+
+        int removeAll(Set<Path> toRemove) {
+            int oldSize = paths.size();
+            if (!paths.removeIf(toRemove::contains)) {
+                return 0;
+            }
+            pathSet.removeAll(toRemove);
+            fireIntervalRemoved(this, paths.size(), oldSize - 1);
+            if (!paths.isEmpty()) {
+                fireContentsChanged(this, 0, paths.size() - 1);
+            }
+            return oldSize - paths.size();
+        }
+
+        void clear() {
+            int oldSize = paths.size();
+            if (oldSize > 0) {
+                paths.clear();
+                pathSet.clear();
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+        }
+    }
+
+    /**
+     * Shows each path, in red with the reason as a tooltip if it failed validation.
+     */
+    private final class PathRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            String reason = isValidationCurrent ? invalidPaths.get(value) : null;
+            if (reason != null && !isSelected) {
+                setForeground(INVALID_COLOR);
+            }
+            setToolTipText(reason);
+            return this;
+        }
+    }
+
+    /**
+     * Accepts files dropped from the desktop or a file manager.
+     */
+    private final class PathDropHandler extends TransferHandler {
+        @Override
+        public boolean canImport(TransferSupport support) {
+            return isEnabled && support.isDataFlavorSupported(DataFlavor.javaFileListFlavor);
+        }
+
+        @Override
+        public boolean importData(TransferSupport support) {
+            if (!canImport(support)) {
+                return false;
+            }
+            List<?> files;
+            try {
+                files = (List<?>) support.getTransferable().getTransferData(DataFlavor.javaFileListFlavor);
+            }
+            catch (UnsupportedFlavorException | IOException e) {
+                return false;
+            }
+            List<Path> dropped = new ArrayList<>(files.size());
+            for (Object file : files) {
+                dropped.add(((File) file).toPath());
+            }
+            if (addPaths(dropped) > 0) {
+                fireValueChangedEvent();
+            }
+            return true;
+        }
+    }
+}
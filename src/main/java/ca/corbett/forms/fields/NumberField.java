@@ -81,6 +81,16 @@ public final class NumberField extends FormField {
     spinner.setValue(value);
   }
 
+  @Override
+  public Object getFieldValue() {
+    return getCurrentValue();
+  }
+
+  @Override
+  public void setFieldValue(Object value) {
+    setCurrentValue((Number)value);
+  }
+
   @Override
   public void render(JPanel container, GridBagConstraints constraints) {
     constraints.insets = new Insets(topMargin, leftMargin, bottomMargin, componentSpacing);
@@ -0,0 +1,561 @@
+package ca.corbett.forms.fields;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.models.ListComboBoxModel;
+import ca.corbett.forms.models.OptionLoader;
+
+import javax.swing.AbstractAction;
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.ListCellRenderer;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
+import javax.swing.plaf.basic.BasicComboBoxEditor;
+import java.awt.Component;
+import java.awt.GridBagConstraints;
+import java.awt.Insets;
+import java.awt.event.ActionEvent;
+import java.awt.event.ItemEvent;
+import java.awt.event.ItemListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * A FormField wrapping a JComboBox whose options are arbitrary objects rather than Strings.
+ * Each option is shown using a label function (for example, Customer::getName), and
+ * getSelectedItem() hands back the selected object itself, so there's no need to map
+ * between objects and display strings.
+ * <p>
+ * Labels are computed once per option and cached, so rendering a long list doesn't invoke
+ * the label function (or toString()) over and over. Options can also be given a key function
+ * (for example, Customer::getId); options are then indexed by key, and setSelectedKey() selects
+ * an option with a single hash lookup. Without a key function, options are indexed by the
+ * objects themselves, using equals() and hashCode().
+ * </p>
+ * <p>
+ * Options are held in a ListComboBoxModel, so selecting an option or asking for the selected
+ * index never scans the option list. For very long option lists, use createVirtual(), which
+ * wraps your list without copying it, and consider setTypeToFilter() so the user can narrow
+ * the list down by typing. Options that come from a slow source can be loaded in the background
+ * with loadOptions(), and a field whose options depend on the value of another field can be
+ * chained to it with cascadeFrom().
+ * </p>
+ *
+ * @param <T> The type of option in this field.
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class ObjectComboField<T> extends FormField {
+
+    /**
+     * Beyond this many options, the combo box is given a prototype display value so that
+     * it doesn't have to render every option to work out its preferred size.
+     */
+    private static final int PROTOTYPE_THRESHOLD = 1000;
+
+    private static final String LOADING_TEXT = "Loading\u2026";
+    private static final String FAILED_TEXT = "(unable to load options)";
+
+    private final JComboBox<T> comboBox;
+    private final ListComboBoxModel<T> model;
+    private final boolean virtual;
+    private boolean typeToFilter;
+    private OptionLoader<T> optionLoader;
+
+    private final ItemListener itemListener = e -> {
+        if (e.getStateChange() == ItemEvent.SELECTED) {
+            fireValueChangedEvent();
+        }
+    };
+
+    private final KeyListener filterKeyListener = new KeyAdapter() {
+        @Override
+        public void keyReleased(KeyEvent e) {
+            switch (e.getKeyCode()) {
+                case KeyEvent.VK_UP:
+                case KeyEvent.VK_DOWN:
+                case KeyEvent.VK_ENTER:
+                case KeyEvent.VK_ESCAPE:
+                case KeyEvent.VK_TAB:
+                    return;
+                default:
+                    Object text = comboBox.getEditor().getItem();
+                    model.setFilter(text == null ? null : text.toString());
+                    if (comboBox.isShowing() && !comboBox.isPopupVisible()) {
+                        comboBox.showPopup();
+                    }
+            }
+        }
+    };
+
+    private final PopupMenuListener filterPopupListener = new PopupMenuListener() {
+        @Override
+        public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+        }
+
+        @Override
+        public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
+            model.setFilter(null);
+        }
+
+        @Override
+        public void popupMenuCanceled(PopupMenuEvent e) {
+        }
+    };
+
+    /**
+     * Creates a new ObjectComboField which indexes its options by the options themselves,
+     * and selects the first option.
+     *
+     * @param label         The label to use with this field.
+     * @param options       The options to display in the dropdown. The list is copied.
+     * @param labelFunction Returns the text to show for an option.
+     */
+    public ObjectComboField(String label, List<? extends T> options, Function<? super T, String> labelFunction) {
+        this(label, options, labelFunction, Function.identity());
+    }
+
+    /**
+     * Creates a new ObjectComboField which indexes its options by key, and selects the first option.
+     *
+     * @param label         The label to use with this field.
+     * @param options       The options to display in the dropdown. The list is copied.
+     * @param labelFunction Returns the text to show for an option.
+     * @param keyFunction   Returns the unique key of an option, such as a database id.
+     */
+    public ObjectComboField(String label, List<? extends T> options, Function<? super T, String> labelFunction,
+                            Function<? super T, ?> keyFunction) {
+        this(label, new ArrayList<>(options), options.isEmpty() ? -1 : 0, false, false, labelFunction, keyFunction);
+    }
+
+    /**
+     * Creates a new ObjectComboField. The options list is used as-is, without copying it.
+     *
+     * @param label         The label to use with this field.
+     * @param options       The options to display in the dropdown. Not copied.
+     * @param selectedIndex The index to select by default, or -1 for none.
+     * @param isEditable    Whether to allow editing of the field.
+     * @param virtual       Whether setOptions() should also wrap its lists without copying them.
+     * @param labelFunction Returns the text to show for an option.
+     * @param keyFunction   Returns the unique key of an option.
+     */
+    protected ObjectComboField(String label, List<T> options, int selectedIndex, boolean isEditable, boolean virtual,
+                               Function<? super T, String> labelFunction, Function<? super T, ?> keyFunction) {
+        this.virtual = virtual;
+        fieldLabel = new JLabel(label);
+        fieldLabel.setFont(fieldLabelFont);
+        model = new ListComboBoxModel<>(options, labelFunction, keyFunction);
+        model.setAllowUnlistedSelection(isEditable);
+        comboBox = new JComboBox<>(model);
+        comboBox.setFont(fieldLabelFont);
+        comboBox.setRenderer(new LabelRenderer(comboBox.getRenderer()));
+        comboBox.setEditor(new LabelEditor());
+        comboBox.setKeySelectionManager(this::selectionForKey);
+        updatePrototypeDisplayValue();
+        setSelectedIndex(selectedIndex);
+        comboBox.setEditable(isEditable);
+        comboBox.addItemListener(itemListener);
+        fieldComponent = comboBox;
+        showValidationLabel = false;
+    }
+
+    /**
+     * Creates an ObjectComboField in virtual mode, for very long option lists. The given list is
+     * wrapped rather than copied (here and in setOptions()), so it must not be modified
+     * afterwards. It should also support fast random access, as an ArrayList does.
+     *
+     * @param label         The label to use with this field.
+     * @param options       The options to display in the dropdown. Not copied.
+     * @param labelFunction Returns the text to show for an option.
+     * @param keyFunction   Returns the unique key of an option, such as a database id.
+     * @param <T>           The type of option in the field.
+     * @return A new ObjectComboField in virtual mode.
+     */
+    public static <T> ObjectComboField<T> createVirtual(String label, List<T> options, Function<? super T, String> labelFunction,
+                                                        Function<? super T, ?> keyFunction) {
+        return new ObjectComboField<>(label, options, options.isEmpty() ? -1 : 0, false, true, labelFunction, keyFunction);
+    }
+
+    /**
+     * Reports whether this field was created in virtual mode.
+     *
+     * @return True if this field wraps its option list without copying it.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Sets the available options in this field, overwriting whatever options were there before.
+     * In virtual mode, the given list is wrapped rather than copied.
+     *
+     * @param options       The options to display in the dropdown.
+     * @param selectedIndex The index to select by default, or -1 for none.
+     */
+    @SuppressWarnings("unchecked")
+    public void setOptions(List<? extends T> options, int selectedIndex) {
+        cancelOptionLoader();
+        model.setItems(virtual ? (List<T>) options : new ArrayList<>(options));
+        updatePrototypeDisplayValue();
+        setSelectedIndex(selectedIndex);
+    }
+
+    /**
+     * Replaces the options in this field with options loaded in the background from the given
+     * source, which may be slow (a database query, for example). The dropdown is cleared and
+     * shows a "Loading..." placeholder, then fills in a chunk at a time as options arrive.
+     * Any load that is still running from a previous call is cancelled. Must be invoked on the EDT.
+     *
+     * @param source    Produces the options. Invoked on a background thread.
+     * @param selection The option to select once it has loaded, or null to select the first option.
+     * @return The running OptionLoader, which can be cancelled, or used to wait for the load.
+     */
+    public OptionLoader<T> loadOptions(Callable<? extends Iterable<? extends T>> source, T selection) {
+        cancelOptionLoader();
+        final OptionLoader<T> loader = new OptionLoader<>(model, source, selection == null ? null : model.getKey(selection), () -> {
+            updatePrototypeDisplayValue();
+            comboBox.repaint();
+        });
+        optionLoader = loader;
+        loader.start();
+        return loader;
+    }
+
+    /**
+     * Reports whether options are currently being loaded by loadOptions().
+     *
+     * @return True if a background load is in progress.
+     */
+    public boolean isLoading() {
+        return optionLoader != null && !optionLoader.isFinished();
+    }
+
+    /**
+     * Makes the options in this field depend on the selected value of another field.
+     * Whenever the parent's selection changes, the given function is invoked in the background
+     * with the parent's new value, and its result replaces the options here. A load that is
+     * still running when the parent changes again is cancelled. Because this field fires its
+     * own value changed event once its options arrive, cascades can be chained to any depth
+     * without ever blocking the UI.
+     *
+     * @param parent                The field whose value determines our options.
+     * @param optionsForParentValue Returns the options for a given parent value. Invoked on a background thread.
+     * @param <P>                   The type of option in the parent field.
+     */
+    public <P> void cascadeFrom(final ObjectComboField<P> parent,
+                                final Function<? super P, ? extends Iterable<? extends T>> optionsForParentValue) {
+        parent.addValueChangedAction(new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                final P parentValue = parent.getSelectedItem();
+                loadOptions(() -> optionsForParentValue.apply(parentValue), null);
+            }
+        });
+        final P parentValue = parent.getSelectedItem();
+        loadOptions(() -> optionsForParentValue.apply(parentValue), null);
+    }
+
+    /**
+     * Returns the number of options in this field, ignoring any type-to-filter text.
+     *
+     * @return The option count.
+     */
+    public int getOptionCount() {
+        return model.getItemCount();
+    }
+
+    /**
+     * Returns the option at the given index, ignoring any type-to-filter text.
+     *
+     * @param index The index of an option.
+     * @return The option at that index.
+     */
+    public T getOption(int index) {
+        return model.getItems().get(index);
+    }
+
+    /**
+     * Returns the label shown for the given option. Labels are cached, so this only
+     * invokes the label function the first time it is asked about a given option.
+     *
+     * @param option Any option.
+     * @return The option's label.
+     */
+    public String getLabel(T option) {
+        return model.getLabel(option);
+    }
+
+    /**
+     * Lets the user narrow down the options by typing. The combo box becomes editable,
+     * and whatever is typed is used to show only the options whose labels contain it,
+     * ignoring case. The filter is cleared when the dropdown closes.
+     *
+     * @param enable Whether to turn type-to-filter on or off.
+     */
+    public void setTypeToFilter(boolean enable) {
+        if (enable == typeToFilter) {
+            return;
+        }
+        typeToFilter = enable;
+        Component editor = comboBox.getEditor().getEditorComponent();
+        if (enable) {
+            comboBox.setEditable(true);
+            editor.addKeyListener(filterKeyListener);
+            comboBox.addPopupMenuListener(filterPopupListener);
+        }
+        else {
+            editor.removeKeyListener(filterKeyListener);
+            comboBox.removePopupMenuListener(filterPopupListener);
+            model.setFilter(null);
+        }
+    }
+
+    /**
+     * Reports whether type-to-filter is enabled.
+     *
+     * @return True if typing in this field filters its options.
+     */
+    public boolean isTypeToFilter() {
+        return typeToFilter;
+    }
+
+    /**
+     * Shows only the options whose labels contain the given text, ignoring case. This is what
+     * type-to-filter does as the user types, but it can also be invoked directly.
+     * Pass null or an empty string to show all options again.
+     *
+     * @param text The filter text.
+     */
+    public void setFilterText(String text) {
+        model.setFilter(text);
+    }
+
+    /**
+     * Returns the currently selected option.
+     *
+     * @return The selected option, or null if nothing is selected.
+     */
+    @SuppressWarnings("unchecked")
+    public T getSelectedItem() {
+        return (T) comboBox.getSelectedItem();
+    }
+
+    /**
+     * Returns the index of the currently selected option. This is a hash lookup.
+     *
+     * @return The index of the selected option, or -1 if nothing (or free text) is selected.
+     */
+    public int getSelectedIndex() {
+        return model.indexOf(comboBox.getSelectedItem());
+    }
+
+    /**
+     * Returns the key of the currently selected option.
+     *
+     * @return The selected option's key, or null if nothing is selected.
+     */
+    public Object getSelectedKey() {
+        int index = getSelectedIndex();
+        return index < 0 ? null : model.getKey(getOption(index));
+    }
+
+    /**
+     * Selects the given option. Options are matched by key, using a hash lookup rather than
+     * letting JComboBox scan every option. Unless the field is editable, an option that isn't
+     * present is ignored, except during a background load, when it will be selected if and
+     * when it arrives.
+     *
+     * @param item The option to select.
+     */
+    public void setSelectedItem(T item) {
+        int index = model.indexOf(item);
+        if (index >= 0) {
+            model.setSelectedItem(getOption(index));
+        }
+        else if (item == null || comboBox.isEditable()) {
+            model.setSelectedItem(item);
+        }
+        else if (isLoading()) {
+            optionLoader.setPendingSelectionKey(model.getKey(item));
+        }
+    }
+
+    /**
+     * Selects the option with the given key, using a single hash lookup. If there is no such
+     * option, the selection is unchanged, except during a background load, when the option
+     * will be selected if and when it arrives.
+     *
+     * @param key The key of the option to select.
+     */
+    public void setSelectedKey(Object key) {
+        int index = model.indexOfKey(key);
+        if (index >= 0) {
+            model.setSelectedItem(getOption(index));
+        }
+        else if (isLoading()) {
+            optionLoader.setPendingSelectionKey(key);
+        }
+    }
+
+    /**
+     * Selects the option at the given index, or clears the selection if the index is -1.
+     *
+     * @param index The index to select.
+     */
+    public void setSelectedIndex(int index) {
+        if (index < -1 || index >= model.getItemCount()) {
+            throw new IllegalArgumentException("setSelectedIndex: " + index + " out of bounds");
+        }
+        model.setSelectedItem(index == -1 ? null : getOption(index));
+    }
+
+    /**
+     * Returns the currently selected option.
+     *
+     * @return The selected option.
+     */
+    @Override
+    public Object getFieldValue() {
+        return getSelectedItem();
+    }
+
+    /**
+     * Selects the given option.
+     *
+     * @param value The option to select.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setFieldValue(Object value) {
+        setSelectedItem((T) value);
+    }
+
+    /**
+     * Renders this field into the given container.
+     *
+     * @param container   The containing form panel.
+     * @param constraints The GridBagConstraints to use.
+     */
+    @Override
+    public void render(JPanel container, GridBagConstraints constraints) {
+        constraints.gridy++;
+        constraints.gridx = FormPanel.LABEL_COLUMN;
+        constraints.insets = new Insets(topMargin, leftMargin, bottomMargin, componentSpacing);
+        fieldLabel.setFont(fieldLabelFont);
+        container.add(fieldLabel, constraints);
+
+        constraints.gridx = FormPanel.CONTROL_COLUMN;
+        constraints.insets = new Insets(topMargin, componentSpacing, bottomMargin, componentSpacing);
+        container.add(comboBox, constraints);
+    }
+
+    private void cancelOptionLoader() {
+        if (optionLoader != null) {
+            optionLoader.cancel(true);
+            optionLoader = null;
+        }
+    }
+
+    private void updatePrototypeDisplayValue() {
+        comboBox.setPrototypeDisplayValue(model.getItemCount() > PROTOTYPE_THRESHOLD ? model.getLongestItem() : null);
+    }
+
+    /**
+     * Jumps to the next option whose label starts with the typed character, using our
+     * cached labels rather than each option's toString().
+     */
+    private int selectionForKey(char key, ComboBoxModel<?> comboBoxModel) {
+        int size = model.getSize();
+        if (size == 0) {
+            return -1;
+        }
+        int start = model.getFilter().isEmpty() ? model.indexOf(model.getSelectedItem()) + 1 : 0;
+        char lower = Character.toLowerCase(key);
+        for (int i = 0; i < size; i++) {
+            T option = model.getElementAt((start + i) % size);
+            String label = model.getLabel(option);
+            if (!label.isEmpty() && Character.toLowerCase(label.charAt(0)) == lower) {
+                return (start + i) % size;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Shows the label of the selected option when the combo box is editable (for example,
+     * with type-to-filter on), and maps the label back to its option when editing is done.
+     */
+    private final class LabelEditor extends BasicComboBoxEditor {
+        private Object item;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void setItem(Object anObject) {
+            item = anObject;
+            String text = "";
+            if (anObject != null) {
+                text = model.indexOf(anObject) >= 0 ? model.getLabel((T) anObject) : anObject.toString();
+            }
+            if (!text.equals(editor.getText())) {
+                editor.setText(text);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object getItem() {
+            String text = editor.getText();
+            if (item != null && model.indexOf(item) >= 0 && model.getLabel((T) item).equals(text)) {
+                return item;
+            }
+            // Look for an exact label match among the options currently showing, which
+            // type-to-filter will usually have narrowed down to just a few:
+            for (int i = 0; i < model.getSize(); i++) {
+                T option = model.getElementAt(i);
+                if (model.getLabel(option).equals(text)) {
+                    return option;
+                }
+            }
+            return text;
+        }
+    }
+
+    /**
+     * Renders each option using its cached label, and shows a placeholder in the closed
+     * combo box while options are loading, or if they failed to load. The actual rendering
+     * is left to the look and feel's renderer.
+     */
+    private final class LabelRenderer implements ListCellRenderer<T> {
+        private final ListCellRenderer<Object> delegate;
+
+        @SuppressWarnings("unchecked")
+        LabelRenderer(ListCellRenderer<? super T> delegate) {
+            // Look and feel renderers accept any value, and we only ever hand them Strings:
+            this.delegate = (ListCellRenderer<Object>) delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Component getListCellRendererComponent(JList<? extends T> list, T value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            Object text = value == null ? null : model.getLabel(value);
+            if (value == null && index == -1 && optionLoader != null) {
+                if (!optionLoader.isFinished()) {
+                    text = LOADING_TEXT;
+                }
+                else if (optionLoader.getFailure() != null) {
+                    text = FAILED_TEXT;
+                }
+            }
+            return delegate.getListCellRendererComponent((JList<Object>) (JList<?>) list, text, index, isSelected, cellHasFocus);
+        }
+    }
+}
@@ -1,7 +1,20 @@
 package ca.corbett.forms.fields;
 
 import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.completion.AutoCompleter;
+import ca.corbett.forms.completion.SuggestionSource;
+import ca.corbett.forms.text.DocumentCharSequence;
+import ca.corbett.forms.text.DocumentFileLoader;
+import ca.corbett.forms.text.DocumentFileSaver;
+import ca.corbett.forms.text.DocumentReader;
+import ca.corbett.forms.text.InputMask;
+import ca.corbett.forms.text.LineValidationTracker;
+import ca.corbett.forms.text.TextChangeListener;
+import ca.corbett.forms.text.TextDelta;
+import ca.corbett.forms.validators.FieldValidator;
+import ca.corbett.forms.validators.LineValidator;
 import ca.corbett.forms.validators.NonBlankFieldValidator;
+import ca.corbett.forms.validators.ValidationResult;
 
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
@@ -10,13 +23,25 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
 import javax.swing.border.BevelBorder;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.GapContent;
 import javax.swing.text.JTextComponent;
+import javax.swing.text.PlainDocument;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.Insets;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A FormField implementation specifically for text input.
@@ -40,21 +65,34 @@ public final class TextField extends FormField {
   private int scrollPaneWidth;
   private int scrollPaneHeight;
 
+  /**
+   * Initial capacity of the gap buffer backing a large document, in characters.
+   */
+  private static final int LARGE_DOCUMENT_INITIAL_CAPACITY = 64 * 1024;
+
   private final JTextComponent textComponent;
+  private final boolean largeDocumentMode;
+  private final AtomicBoolean valueChangedEventPending = new AtomicBoolean(); // edits may arrive on any thread
+  private final List<TextChangeListener> textChangeListeners = new ArrayList<>();
+  private LineValidationTracker lineValidation;
+  private AutoCompleter autoCompleter;
+  private InputMask inputMask;
   private final DocumentListener changeListener = new DocumentListener() {
     @Override
     public void changedUpdate(DocumentEvent e) {
-      fireValueChangedEvent();
+      valueChanged();
     }
 
     @Override
     public void insertUpdate(DocumentEvent e) {
-      fireValueChangedEvent();
+      fireTextChangedEvent(new TextDelta(e.getDocument(), TextDelta.Type.INSERT, e.getOffset(), e.getLength()));
+      valueChanged();
     }
 
     @Override
     public void removeUpdate(DocumentEvent e) {
-      fireValueChangedEvent();
+      fireTextChangedEvent(new TextDelta(e.getDocument(), TextDelta.Type.REMOVE, e.getOffset(), e.getLength()));
+      valueChanged();
     }
 
   };
@@ -69,9 +107,26 @@ public final class TextField extends FormField {
    * @param allowBlank If false, a FieldValidator will be attached to ensure the value isn't blank.
    */
   public TextField(String label, int cols, int rows, boolean allowBlank) {
+    this(label, cols, rows, allowBlank, false);
+  }
+
+  /**
+   * Invoked internally to create a TextField, optionally in large document mode.
+   */
+  private TextField(String label, int cols, int rows, boolean allowBlank, boolean largeDocumentMode) {
+    this.largeDocumentMode = largeDocumentMode;
     fieldLabel = new JLabel(label);
     fieldLabel.setFont(fieldLabelFont);
-    if (rows > 1) {
+    if (largeDocumentMode) {
+      // Swing's GapContent is a gap buffer, which keeps localized edits cheap no matter
+      // how big the document gets. Line wrapping is off because wrapped views have to
+      // lay out every line of the document to work out its height.
+      Document document = new PlainDocument(new GapContent(LARGE_DOCUMENT_INITIAL_CAPACITY));
+      textComponent = new JTextArea(document, null, Math.max(rows, 2), cols);
+      textComponent.setBorder(BorderFactory.createBevelBorder(BevelBorder.LOWERED));
+      multiLine = true;
+    }
+    else if (rows > 1) {
       textComponent = new JTextArea(rows, cols);
       ((JTextArea)textComponent).setLineWrap(true);
       ((JTextArea)textComponent).setWrapStyleWord(true);
@@ -98,6 +153,38 @@ public final class TextField extends FormField {
     isExtraLabelRenderedByField = true;
   }
 
+  /**
+   * Creates a multi-line TextField that is tuned for very large text content, such as
+   * log files or big config payloads. Compared to a regular multi-line TextField:
+   * <ul>
+   * <li>The text is stored in a pre-sized gap buffer, and line wrapping is disabled so
+   * that the text area never has to lay out the whole document.
+   * <li>Value changed actions are coalesced: a burst of edits (for example, a big paste
+   * or a programmatic load) results in a single notification, delivered on the EDT
+   * once the burst is over, rather than one notification per edit.
+   * </ul>
+   * With large content, avoid getText(), which copies the entire document into a new
+   * String on every call. Use getCharSequence(), getTextReader() or getLine() for
+   * read access, and addTextChangeListener() to be told about each individual edit.
+   *
+   * @param label The label to place next to the field.
+   * @param cols The number of columns to set for the text area.
+   * @param rows The number of visible rows.
+   * @return A new TextField in large document mode.
+   */
+  public static TextField createLargeTextField(String label, int cols, int rows) {
+    return new TextField(label, cols, rows, true, true);
+  }
+
+  /**
+   * Reports whether this TextField was created with createLargeTextField().
+   *
+   * @return True if this field is in large document mode.
+   */
+  public boolean isLargeDocumentMode() {
+    return largeDocumentMode;
+  }
+
   /**
    * You can tell the multi-line textbox to take up additional horizontal space if the
    * parent container is resized. Does nothing for single-line text fields.
@@ -156,7 +243,9 @@ public final class TextField extends FormField {
   }
 
   /**
-   * Returns the text currently in this field.
+   * Returns the text currently in this field. Note that this copies the entire
+   * contents of the field into a new String on every call. For large multi-line
+   * content, prefer getCharSequence(), getTextReader() or getLine().
    *
    * @return The current text value.
    */
@@ -164,6 +253,265 @@ public final class TextField extends FormField {
     return textComponent.getText();
   }
 
+  /**
+   * Returns the Document that holds the text of this field.
+   *
+   * @return The underlying Document.
+   */
+  public Document getDocument() {
+    return textComponent.getDocument();
+  }
+
+  /**
+   * Returns the number of characters currently in this field, without copying the text.
+   *
+   * @return The length of the current text.
+   */
+  public int getTextLength() {
+    return textComponent.getDocument().getLength();
+  }
+
+  /**
+   * Returns a read-only view of the current text which reads directly out of the
+   * underlying Document, without copying it. The view is only valid until the
+   * text is next modified.
+   *
+   * @return A CharSequence view of the current text.
+   */
+  public CharSequence getCharSequence() {
+    return new DocumentCharSequence(textComponent.getDocument());
+  }
+
+  /**
+   * Returns a Reader which streams the current text directly out of the underlying
+   * Document, without copying it.
+   *
+   * @return A Reader over the current text.
+   */
+  public Reader getTextReader() {
+    return new DocumentReader(textComponent.getDocument());
+  }
+
+  /**
+   * Returns the number of lines of text in this field. An empty field has one line.
+   *
+   * @return The current line count.
+   */
+  public int getLineCount() {
+    return textComponent.getDocument().getDefaultRootElement().getElementCount();
+  }
+
+  /**
+   * Returns a read-only view of the given line of text, not including its line terminator.
+   * Lines are indexed by the Document itself, so this is a constant-time lookup and does
+   * not copy any text. The view is only valid until the text is next modified.
+   *
+   * @param index The zero-based index of the line to return.
+   * @return A CharSequence view of that line.
+   * @throws IndexOutOfBoundsException If there is no such line.
+   */
+  public CharSequence getLine(int index) {
+    Document document = textComponent.getDocument();
+    Element root = document.getDefaultRootElement();
+    if (index < 0 || index >= root.getElementCount()) {
+      throw new IndexOutOfBoundsException("Line " + index + " out of range 0.." + root.getElementCount());
+    }
+    Element line = root.getElement(index);
+    int end = Math.min(line.getEndOffset() - 1, document.getLength());
+    return new DocumentCharSequence(document, line.getStartOffset(), end);
+  }
+
+  /**
+   * Returns the index of the line containing the given character offset.
+   *
+   * @param offset Any offset within the current text.
+   * @return The zero-based index of the line containing that offset.
+   */
+  public int getLineOfOffset(int offset) {
+    return textComponent.getDocument().getDefaultRootElement().getElementIndex(offset);
+  }
+
+  /**
+   * Replaces the contents of this field with the contents of the given text file, which
+   * is loaded on a background thread. The file is memory-mapped and decoded in chunks,
+   * and the text appears in the field incrementally as it is loaded, so even very large
+   * files don't block the UI or get copied into one giant String. Must be invoked on the EDT.
+   * <p>
+   * The returned loader has already been started. You can cancel it with cancel(true),
+   * listen to its "progress" property to show progress, or use whenDone() to be told on the
+   * EDT when it is finished. Never call get() on the EDT while it is running: the loader
+   * inserts its text on the EDT, so get() would wait forever.
+   * </p>
+   *
+   * @param path The file to load.
+   * @param charset The character encoding of the file.
+   * @return The running DocumentFileLoader.
+   */
+  public DocumentFileLoader loadText(Path path, Charset charset) {
+    setText("");
+    DocumentFileLoader loader = new DocumentFileLoader(textComponent.getDocument(), path, charset);
+    loader.execute();
+    return loader;
+  }
+
+  /**
+   * Writes the contents of this field to the given file on a background thread. Text is
+   * streamed straight out of the underlying Document, so it is never copied into one
+   * giant String. The field stays editable while the save is running; the file always
+   * holds one consistent snapshot of the text.
+   * <p>
+   * The returned saver has already been started. You can listen to its "progress"
+   * property to show progress, and use whenDone() to be told on the EDT when it is
+   * finished, where get() returns immediately and reports any error.
+   * </p>
+   *
+   * @param path The file to write. Will be overwritten if it exists.
+   * @param charset The character encoding to use.
+   * @return The running DocumentFileSaver.
+   */
+  public DocumentFileSaver saveText(Path path, Charset charset) {
+    DocumentFileSaver saver = new DocumentFileSaver(textComponent.getDocument(), path, charset);
+    saver.execute();
+    return saver;
+  }
+
+  /**
+   * Restricts what can be typed into this single-line field to the given input mask,
+   * such as "(###) ###-####" for a phone number. See InputMask for the mask syntax.
+   * Any existing text that doesn't fit the new mask is cleared. Pass null to remove the mask.
+   * <p>
+   * The mask only controls which characters can be entered. To also require that the
+   * mask is filled in completely, add a MaskCompleteValidator.
+   * </p>
+   *
+   * @param mask The input mask to enforce, or null for none.
+   * @throws IllegalStateException If this is a multi-line field.
+   */
+  public void setInputMask(InputMask mask) {
+    if (multiLine) {
+      throw new IllegalStateException("Input masks can only be used with single-line text fields.");
+    }
+    String text = getText();
+    AbstractDocument document = (AbstractDocument)textComponent.getDocument();
+    document.setDocumentFilter(null);
+    inputMask = mask;
+    if (mask != null) {
+      setText("");
+      document.setDocumentFilter(mask.createDocumentFilter());
+      if (mask.accepts(text)) {
+        setText(text);
+      }
+    }
+  }
+
+  /**
+   * Returns the input mask for this field, if any.
+   *
+   * @return The current InputMask, or null if there isn't one.
+   */
+  public InputMask getInputMask() {
+    return inputMask;
+  }
+
+  /**
+   * Turns on autocomplete for this field, using the given source for suggestions.
+   * As the user types, suggestions for the text between the start of the current line
+   * and the caret are looked up in the background and shown in a popup. Pass null to
+   * turn autocomplete off again.
+   *
+   * @param source Where suggestions come from, or null to disable autocomplete.
+   */
+  public void setSuggestionSource(SuggestionSource source) {
+    if (autoCompleter != null) {
+      autoCompleter.dispose();
+      autoCompleter = null;
+    }
+    if (source != null) {
+      autoCompleter = new AutoCompleter(textComponent, source);
+    }
+  }
+
+  /**
+   * Returns the SuggestionSource used for autocomplete, if any.
+   *
+   * @return Our SuggestionSource, or null if autocomplete is off.
+   */
+  public SuggestionSource getSuggestionSource() {
+    return autoCompleter == null ? null : autoCompleter.getSuggestionSource();
+  }
+
+  /**
+   * Returns the AutoCompleter for this field, so that its behaviour can be adjusted.
+   *
+   * @return Our AutoCompleter, or null if setSuggestionSource() has not been called.
+   */
+  public AutoCompleter getAutoCompleter() {
+    return autoCompleter;
+  }
+
+  /**
+   * Adds a LineValidator, which checks each line of this field individually. Lines are
+   * re-validated incrementally as they are edited, so this stays fast even for very large
+   * multi-line fields. Invalid lines are highlighted in place, and the field as a whole
+   * fails validation while any line is invalid, with the validation label showing the
+   * first invalid line.
+   *
+   * @param validator The LineValidator to add.
+   */
+  public void addLineValidator(LineValidator validator) {
+    if (lineValidation == null) {
+      lineValidation = new LineValidationTracker(textComponent);
+      addFieldValidator(new FieldValidator<FormField>(this) {
+        @Override
+        public ValidationResult validate() {
+          return lineValidation.getResult();
+        }
+      });
+    }
+    lineValidation.addLineValidator(validator);
+  }
+
+  /**
+   * Removes a previously added LineValidator.
+   *
+   * @param validator The LineValidator to remove.
+   */
+  public void removeLineValidator(LineValidator validator) {
+    if (lineValidation != null) {
+      lineValidation.removeLineValidator(validator);
+    }
+  }
+
+  /**
+   * Returns the zero-based indexes of the lines that currently fail one of our
+   * LineValidators. This is kept up to date as the text is edited, and does not
+   * require the field to be validated first.
+   *
+   * @return The indexes of all invalid lines, in order. Empty if there are none.
+   */
+  public int[] getInvalidLineIndexes() {
+    return lineValidation == null ? new int[0] : lineValidation.getInvalidLineIndexes();
+  }
+
+  /**
+   * Registers a listener to be notified of each individual insertion or removal of text
+   * in this field. Listeners are invoked synchronously, as each edit happens.
+   *
+   * @param listener The listener to add.
+   */
+  public void addTextChangeListener(TextChangeListener listener) {
+    textChangeListeners.add(listener);
+  }
+
+  /**
+   * Removes a previously added TextChangeListener.
+   *
+   * @param listener The listener to remove.
+   */
+  public void removeTextChangeListener(TextChangeListener listener) {
+    textChangeListeners.remove(listener);
+  }
+
   /**
    * Sets the text in this field. Will overwrite any previous text.
    *
@@ -173,6 +521,54 @@ public final class TextField extends FormField {
     textComponent.setText(text);
   }
 
+  /**
+   * Returns the current text of this field.
+   *
+   * @return The current text value, as a String.
+   */
+  @Override
+  public Object getFieldValue() {
+    return getText();
+  }
+
+  /**
+   * Sets the text of this field. A null value clears the field.
+   *
+   * @param value The new text, as a String.
+   */
+  @Override
+  public void setFieldValue(Object value) {
+    setText(value == null ? "" : (String)value);
+  }
+
+  /**
+   * Invoked internally to notify all TextChangeListeners about an edit.
+   */
+  private void fireTextChangedEvent(TextDelta delta) {
+    for (TextChangeListener listener : textChangeListeners) {
+      listener.textChanged(delta);
+    }
+  }
+
+  /**
+   * Invoked internally on each edit. In large document mode, value changed events are
+   * coalesced so that a burst of edits only produces one event. The pending flag is
+   * cleared before the event is fired, so an edit that arrives while listeners are
+   * running always schedules another event rather than being folded into this one.
+   */
+  private void valueChanged() {
+    if (!largeDocumentMode) {
+      fireValueChangedEvent();
+      return;
+    }
+    if (valueChangedEventPending.compareAndSet(false, true)) {
+      SwingUtilities.invokeLater(() -> {
+        valueChangedEventPending.set(false);
+        fireValueChangedEvent();
+      });
+    }
+  }
+
   /**
    * Renders this field into the given panel.
    *
@@ -0,0 +1,111 @@
+package ca.corbett.forms.files;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * An immutable summary of a directory tree: how many files and subdirectories it
+ * contains, their total size, and when the most recently modified file was changed.
+ * Instances are produced by DirectoryStatsCalculator, both as progress snapshots while
+ * a directory is still being walked and as the final result once the walk completes.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class DirectoryStats {
+
+    private final Path directory;
+    private final long fileCount;
+    private final long directoryCount;
+    private final long totalBytes;
+    private final long newestModifiedMillis;
+    private final boolean complete;
+
+    DirectoryStats(Path directory, long fileCount, long directoryCount, long totalBytes,
+                   long newestModifiedMillis, boolean complete) {
+        this.directory = directory;
+        this.fileCount = fileCount;
+        this.directoryCount = directoryCount;
+        this.totalBytes = totalBytes;
+        this.newestModifiedMillis = newestModifiedMillis;
+        this.complete = complete;
+    }
+
+    /**
+     * Returns the root directory that these stats describe.
+     *
+     * @return The directory that was walked.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the number of files (anything that isn't a directory) found so far,
+     * at any depth.
+     *
+     * @return A count of files.
+     */
+    public long getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Returns the number of subdirectories found so far, at any depth, not counting
+     * the root directory itself.
+     *
+     * @return A count of subdirectories.
+     */
+    public long getDirectoryCount() {
+        return directoryCount;
+    }
+
+    /**
+     * Returns the combined size of all files found so far.
+     *
+     * @return A size in bytes.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the modification time of the most recently modified file found so far.
+     *
+     * @return A FileTime, or null if no files have been found.
+     */
+    public FileTime getNewestModified() {
+        return newestModifiedMillis == Long.MIN_VALUE ? null : FileTime.fromMillis(newestModifiedMillis);
+    }
+
+    /**
+     * Reports whether the whole tree has been walked. Progress snapshots delivered
+     * while the walk is still running return false.
+     *
+     * @return True if these are the final stats for the directory.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Formats a byte count in the largest unit that keeps it at or above 1,
+     * for example "512 bytes", "3.4 KB" or "1.2 GB".
+     *
+     * @param bytes A size in bytes.
+     * @return A human-readable size.
+     */
+    public static String formatSize(long bytes) {
+        if (bytes < 1024) {
+            return bytes + (bytes == 1 ? " byte" : " bytes");
+        }
+        String[] units = {"KB", "MB", "GB", "TB", "PB", "EB"};
+        double size = bytes;
+        int unit = -1;
+        while (size >= 1024 && unit < units.length - 1) {
+            size /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", size, units[unit]);
+    }
+}
@@ -0,0 +1,295 @@
+package ca.corbett.forms.files;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Computes DirectoryStats for a directory tree with a parallel, cancellable walk.
+ * <p>
+ * Each directory is read with Files.walkFileTree() limited to a depth of one, and every
+ * subdirectory it contains is handed to a new fork-join task, so that wide trees are read
+ * by several threads at once. All tasks add to shared counters, which a Swing Timer samples
+ * to deliver progress snapshots on the EDT while the walk is running. Symbolic links are
+ * not followed.
+ * </p>
+ * <p>
+ * Completed results are cached per directory, so asking for the same directory again
+ * delivers the cached stats straight away. Use invalidate() to force a fresh walk.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class DirectoryStatsCalculator {
+
+    public static final int PROGRESS_INTERVAL_MS = 100;
+    public static final int DEFAULT_CACHE_SIZE = 32;
+
+    private static final ForkJoinPool pool = createPool();
+
+    private static final DirectoryStatsCalculator shared = new DirectoryStatsCalculator(DEFAULT_CACHE_SIZE);
+
+    private final Map<Path, DirectoryStats> cache;
+
+    /**
+     * Creates a calculator with its own result cache.
+     *
+     * @param cacheSize The maximum number of directories whose stats are kept.
+     */
+    public DirectoryStatsCalculator(final int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be at least 1.");
+        }
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, DirectoryStats> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Creates the pool that runs all walks. Walks spend most of their time waiting on the
+     * file system, so we use at least two threads even on a single-core machine.
+     */
+    private static ForkJoinPool createPool() {
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("DirectoryStats-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Returns the calculator shared by all FileFields.
+     *
+     * @return The shared DirectoryStatsCalculator.
+     */
+    public static DirectoryStatsCalculator getShared() {
+        return shared;
+    }
+
+    /**
+     * Starts computing stats for the given directory, and returns a handle that can be used
+     * to cancel the walk. The listener is invoked on the EDT: first with an empty snapshot,
+     * then with a progress snapshot every PROGRESS_INTERVAL_MS, and finally with the complete
+     * stats. If the directory's stats are already cached, the listener is invoked once, right
+     * away, with the cached stats. Once a walk is cancelled its listener is never invoked again.
+     * <p>
+     * This must be called on the EDT.
+     * </p>
+     *
+     * @param directory The root of the tree to walk.
+     * @param listener  Receives progress snapshots and the final result.
+     * @return A Walk representing the computation.
+     */
+    public Walk calculate(Path directory, Consumer<DirectoryStats> listener) {
+        Path key = directory.toAbsolutePath().normalize();
+        Walk walk = new Walk(key, listener);
+        DirectoryStats cached = getCached(key);
+        if (cached != null) {
+            walk.done = true;
+            listener.accept(cached);
+            return walk;
+        }
+        listener.accept(walk.snapshot(false));
+        walk.timer.start();
+        pool.execute(new WalkTask(walk, key, true));
+        return walk;
+    }
+
+    /**
+     * Returns the cached stats for the given directory, if a walk of it has completed.
+     *
+     * @param directory Any directory.
+     * @return The cached DirectoryStats, or null.
+     */
+    public DirectoryStats getCached(Path directory) {
+        synchronized (cache) {
+            return cache.get(directory.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * Discards the cached stats for the given directory, if any.
+     *
+     * @param directory Any directory.
+     */
+    public void invalidate(Path directory) {
+        synchronized (cache) {
+            cache.remove(directory.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * Discards all cached stats.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * A single, possibly still running, directory walk.
+     */
+    public final class Walk {
+        private final Path directory;
+        private final Consumer<DirectoryStats> listener;
+        private final Timer timer;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final LongAdder fileCount = new LongAdder();
+        private final LongAdder directoryCount = new LongAdder();
+        private final LongAdder totalBytes = new LongAdder();
+        private final AtomicLong newestModified = new AtomicLong(Long.MIN_VALUE);
+        private boolean done;
+
+        private Walk(Path directory, Consumer<DirectoryStats> listener) {
+            this.directory = directory;
+            this.listener = listener;
+            this.timer = new Timer(PROGRESS_INTERVAL_MS, e -> {
+                if (!cancelled.get() && !done) {
+                    listener.accept(snapshot(false));
+                }
+            });
+        }
+
+        /**
+         * Returns the directory being walked.
+         *
+         * @return The absolute, normalized root directory.
+         */
+        public Path getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Stops the walk as soon as possible. The listener will not be invoked again and
+         * nothing is cached. Cancelling a walk that has already finished does nothing.
+         */
+        public void cancel() {
+            if (!done) {
+                cancelled.set(true);
+                timer.stop();
+            }
+        }
+
+        /**
+         * Reports whether cancel() has been called.
+         *
+         * @return True if this walk was cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        /**
+         * Reports whether the walk has completed and delivered its final stats.
+         * Must be called on the EDT.
+         *
+         * @return True if the final stats have been delivered.
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        private DirectoryStats snapshot(boolean complete) {
+            return new DirectoryStats(directory, fileCount.sum(), directoryCount.sum(), totalBytes.sum(),
+                                      newestModified.get(), complete);
+        }
+
+        /**
+         * Invoked on the EDT once every task in the walk has finished.
+         */
+        private void finish() {
+            timer.stop();
+            if (cancelled.get()) {
+                return;
+            }
+            DirectoryStats stats = snapshot(true);
+            synchronized (cache) {
+                cache.put(directory, stats);
+            }
+            done = true;
+            listener.accept(stats);
+        }
+    }
+
+    /**
+     * Reads one directory, adding its files to the walk's counters and forking a
+     * new task for each of its subdirectories.
+     */
+    private static final class WalkTask extends RecursiveAction {
+        private final Walk walk;
+        private final Path directory;
+        private final boolean isRoot;
+
+        WalkTask(Walk walk, Path directory, boolean isRoot) {
+            this.walk = walk;
+            this.directory = directory;
+            this.isRoot = isRoot;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                if (walk.cancelled.get()) {
+                    return;
+                }
+                final List<WalkTask> subtasks = new ArrayList<>();
+                try {
+                    Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                            if (attributes.isDirectory()) {
+                                walk.directoryCount.increment();
+                                subtasks.add(new WalkTask(walk, file, false));
+                            }
+                            else {
+                                walk.fileCount.increment();
+                                walk.totalBytes.add(attributes.size());
+                                walk.newestModified.accumulateAndGet(attributes.lastModifiedTime().toMillis(), Math::max);
+                            }
+                            return walk.cancelled.get() ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+                            return FileVisitResult.CONTINUE; // unreadable entries are skipped
+                        }
+                    });
+                }
+                catch (IOException e) {
+                    return; // unreadable directory: count what we can elsewhere in the tree
+                }
+                invokeAll(subtasks);
+            }
+            finally {
+                if (isRoot) {
+                    SwingUtilities.invokeLater(walk::finish);
+                }
+            }
+        }
+    }
+}
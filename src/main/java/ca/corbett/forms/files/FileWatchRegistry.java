@@ -0,0 +1,280 @@
+package ca.corbett.forms.files;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Notifies listeners on the EDT when a watched path is created, deleted or modified,
+ * including changes to its permissions.
+ * <p>
+ * All watches in the process share a single WatchService and a single daemon thread.
+ * Rather than watching a path itself, the registry watches the nearest existing directory
+ * above it, so that a path which doesn't exist yet is noticed when it is created. Each
+ * watched directory has exactly one WatchKey, no matter how many listeners are interested
+ * in entries inside it, and events are routed to the listeners by entry name.
+ * </p>
+ * <p>
+ * Listeners are held weakly, so a form that is discarded without unwatching its fields
+ * doesn't leak. The flip side is that the caller must keep its own strong reference to the
+ * listener for as long as it wants notifications. A burst of events for the same path
+ * results in a single notification.
+ * </p>
+ * <p>
+ * Only paths on the default file system are watched; watch() ignores any other path.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FileWatchRegistry {
+
+    /**
+     * Receives change notifications for a watched path.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked on the EDT after the watched path (or one of its missing parent
+         * directories) was created, deleted or modified.
+         *
+         * @param path The path that was passed to watch().
+         */
+        void watchedPathChanged(Path path);
+    }
+
+    private static final FileWatchRegistry shared = new FileWatchRegistry();
+
+    private final Object lock = new Object();
+    private final Map<Path, DirectoryWatch> directories = new HashMap<>();
+    private final Map<WatchKey, DirectoryWatch> keys = new HashMap<>();
+    private final ReferenceQueue<Listener> collected = new ReferenceQueue<>();
+    private WatchService watchService;
+
+    private FileWatchRegistry() {
+    }
+
+    /**
+     * Returns the registry shared by the whole process.
+     *
+     * @return The shared FileWatchRegistry.
+     */
+    public static FileWatchRegistry getShared() {
+        return shared;
+    }
+
+    /**
+     * Starts watching the given path for the given listener. Watching a path that the
+     * listener already watches does nothing. If the path's nearest existing directory
+     * can't be watched, the request is silently ignored.
+     *
+     * @param path     The file or directory to watch. It doesn't have to exist.
+     * @param listener The listener to notify. Only weakly referenced.
+     */
+    public void watch(Path path, Listener listener) {
+        Path target = path.toAbsolutePath().normalize();
+        if (target.getFileSystem() != FileSystems.getDefault() || target.getParent() == null) {
+            return;
+        }
+        Path directory = target.getParent();
+        while (directory != null && !Files.isDirectory(directory)) {
+            directory = directory.getParent();
+        }
+        if (directory == null) {
+            return;
+        }
+        String name = target.getName(directory.getNameCount()).toString();
+        synchronized (lock) {
+            expungeCollected();
+            DirectoryWatch watch = directories.get(directory);
+            if (watch == null) {
+                WatchKey key;
+                try {
+                    key = directory.register(getWatchService(),
+                                             StandardWatchEventKinds.ENTRY_CREATE,
+                                             StandardWatchEventKinds.ENTRY_DELETE,
+                                             StandardWatchEventKinds.ENTRY_MODIFY);
+                }
+                catch (IOException | UnsupportedOperationException e) {
+                    return;
+                }
+                watch = new DirectoryWatch(directory, key);
+                directories.put(directory, watch);
+                keys.put(key, watch);
+            }
+            for (Entry entry : watch.entries) {
+                if (entry.get() == listener && entry.path.equals(path)) {
+                    return;
+                }
+            }
+            watch.entries.add(new Entry(listener, path, directory, name, collected));
+        }
+    }
+
+    /**
+     * Stops notifying the given listener about every path it watches.
+     *
+     * @param listener A listener previously passed to watch().
+     */
+    public void unwatch(Listener listener) {
+        synchronized (lock) {
+            Iterator<DirectoryWatch> iterator = directories.values().iterator();
+            while (iterator.hasNext()) {
+                DirectoryWatch watch = iterator.next();
+                watch.entries.removeIf(entry -> entry.get() == listener || entry.get() == null);
+                if (watch.entries.isEmpty()) {
+                    iterator.remove();
+                    keys.remove(watch.key);
+                    watch.key.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of directories currently being watched.
+     *
+     * @return A count of registered WatchKeys.
+     */
+    public int getWatchedDirectoryCount() {
+        synchronized (lock) {
+            expungeCollected();
+            return directories.size();
+        }
+    }
+
+    /**
+     * Creates the WatchService and its thread on first use. Must hold the lock.
+     */
+    private WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread thread = new Thread(this::processEvents, "FileWatchRegistry");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return watchService;
+    }
+
+    /**
+     * Runs on the watcher thread for the life of the process.
+     */
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            }
+            catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            List<WatchEvent<?>> events = key.pollEvents();
+            synchronized (lock) {
+                DirectoryWatch watch = keys.get(key);
+                if (watch == null) {
+                    continue; // unwatched while the events were queued
+                }
+                for (WatchEvent<?> event : events) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        watch.notifyEntries(null);
+                    }
+                    else {
+                        watch.notifyEntries(event.context().toString());
+                    }
+                }
+                if (!key.reset()) {
+                    // The directory itself is gone. Tell everyone, and let them watch again:
+                    watch.notifyEntries(null);
+                    directories.remove(watch.directory);
+                    keys.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops entries whose listeners have been garbage collected, along with any
+     * directory watches that no longer have entries. Must hold the lock.
+     */
+    private void expungeCollected() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            Entry entry = (Entry) reference;
+            DirectoryWatch watch = directories.get(entry.directory);
+            if (watch != null && watch.entries.remove(entry) && watch.entries.isEmpty()) {
+                directories.remove(watch.directory);
+                keys.remove(watch.key);
+                watch.key.cancel();
+            }
+        }
+    }
+
+    /**
+     * All of the entries being watched within a single directory.
+     */
+    private static final class DirectoryWatch {
+        final Path directory;
+        final WatchKey key;
+        final List<Entry> entries = new ArrayList<>();
+
+        DirectoryWatch(Path directory, WatchKey key) {
+            this.directory = directory;
+            this.key = key;
+        }
+
+        /**
+         * Notifies every entry with the given name, or every entry if the name is null.
+         */
+        void notifyEntries(String name) {
+            for (Entry entry : entries) {
+                if (name == null || entry.name.equals(name)) {
+                    entry.schedule();
+                }
+            }
+        }
+    }
+
+    /**
+     * A single watched path, and a weak reference to the listener that watches it.
+     */
+    private static final class Entry extends WeakReference<Listener> {
+        final Path path;
+        final Path directory;
+        final String name;
+        final AtomicBoolean pending = new AtomicBoolean();
+
+        Entry(Listener listener, Path path, Path directory, String name, ReferenceQueue<Listener> queue) {
+            super(listener, queue);
+            this.path = path;
+            this.directory = directory;
+            this.name = name;
+        }
+
+        void schedule() {
+            if (pending.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(() -> {
+                    pending.set(false);
+                    Listener listener = get();
+                    if (listener != null) {
+                        listener.watchedPathChanged(path);
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package contains file system helpers used by FileField, such as the parallel
+ * directory walk behind DirectoryStatsCalculator and the process-wide FileWatchRegistry
+ * that drives live validation. Everything here does its file system work off the EDT
+ * and reports back on the EDT.
+ */
+package ca.corbett.forms.files;
@@ -0,0 +1,185 @@
+package ca.corbett.forms.fonts;
+
+import java.awt.Font;
+import java.text.AttributedCharacterIterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A process-wide, bounded cache of Font instances, so that every field, dialog and label
+ * asking for the same font shares one Font object instead of allocating its own.
+ * <p>
+ * Font objects are immutable, so sharing them is always safe. Plain fonts are looked up
+ * by name, style and size, which costs far less than constructing a Font. Derived fonts
+ * (underlined hyperlink labels, for example) are keyed by the font they were derived from
+ * plus the requested style, size or attributes, so a hit never has to read the base font's
+ * attribute map. The cache holds at most MAX_SIZE fonts, discarding the least recently
+ * used ones beyond that; a discarded font is simply created again the next time it is
+ * asked for.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FontCache {
+
+    /**
+     * The maximum number of fonts kept in the cache.
+     */
+    public static final int MAX_SIZE = 256;
+
+    private static final Map<Object, Font> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Font> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private FontCache() {
+    }
+
+    /**
+     * Returns a shared plain Font with the given name, style and point size, exactly as
+     * new Font(name, style, size) would create it.
+     *
+     * @param name  A font family or logical font name, such as Font.SANS_SERIF.
+     * @param style A Font style constant, such as Font.BOLD.
+     * @param size  The point size.
+     * @return A shared Font.
+     */
+    public static Font get(String name, int style, int size) {
+        PlainKey key = new PlainKey(name, style, size);
+        Font font = lookup(key);
+        return font != null ? font : store(key, new Font(name, style, size));
+    }
+
+    /**
+     * Returns a shared Font like the given one, but with the given style and size, exactly
+     * as base.deriveFont(style, size) would create it. Any other attributes of the base
+     * font are kept.
+     *
+     * @param base  The font to derive from.
+     * @param style A Font style constant, such as Font.BOLD.
+     * @param size  The point size.
+     * @return A shared Font.
+     */
+    public static Font derive(Font base, int style, float size) {
+        DerivedKey key = new DerivedKey(base, style, size, null);
+        Font font = lookup(key);
+        return font != null ? font : store(key, base.deriveFont(style, size));
+    }
+
+    /**
+     * Returns a shared Font like the given one, but with the given attributes added or
+     * replaced, exactly as base.deriveFont(attributes) would create it.
+     *
+     * @param base       The font to derive from.
+     * @param attributes The text attributes to apply, such as TextAttribute.UNDERLINE.
+     * @return A shared Font.
+     */
+    public static Font derive(Font base, Map<? extends AttributedCharacterIterator.Attribute, ?> attributes) {
+        DerivedKey key = new DerivedKey(base, base.getStyle(), base.getSize2D(), Map.copyOf(attributes));
+        Font font = lookup(key);
+        return font != null ? font : store(key, base.deriveFont(attributes));
+    }
+
+    /**
+     * Returns the number of fonts currently cached.
+     *
+     * @return A count of cached fonts.
+     */
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Discards every cached font. Fonts already handed out are unaffected.
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static Font lookup(Object key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    /**
+     * Caches a newly created font, unless another thread got there first, in which case
+     * that thread's font is returned so that everyone still shares one instance.
+     */
+    private static Font store(Object key, Font font) {
+        synchronized (cache) {
+            Font existing = cache.putIfAbsent(key, font);
+            return existing == null ? font : existing;
+        }
+    }
+
+    /**
+     * The cache key for a plain font.
+     */
+    private static final class PlainKey {
+        final String name;
+        final int style;
+        final int size;
+
+        PlainKey(String name, int style, int size) {
+            this.name = name;
+            this.style = style;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof PlainKey)) {
+                return false;
+            }
+            PlainKey key = (PlainKey) other;
+            return style == key.style && size == key.size && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return (name.hashCode() * 31 + style) * 31 + size;
+        }
+    }
+
+    /**
+     * The cache key for a font derived from another one. Font.equals() compares family,
+     * style, size and every text attribute, so two equal base fonts derive equal fonts.
+     */
+    private static final class DerivedKey {
+        final Font base;
+        final int style;
+        final float size;
+        final Map<?, ?> attributes;
+
+        DerivedKey(Font base, int style, float size, Map<?, ?> attributes) {
+            this.base = base;
+            this.style = style;
+            this.size = size;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof DerivedKey)) {
+                return false;
+            }
+            DerivedKey key = (DerivedKey) other;
+            return style == key.style && Float.compare(size, key.size) == 0 && base.equals(key.base)
+                    && Objects.equals(attributes, key.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return (base.hashCode() * 31 + style) * 31 + Float.hashCode(size);
+        }
+    }
+}
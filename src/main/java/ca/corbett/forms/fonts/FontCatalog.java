@@ -0,0 +1,179 @@
+package ca.corbett.forms.fonts;
+
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A process-wide catalog of font families.
+ * <p>
+ * Asking the GraphicsEnvironment for the installed font families is surprisingly
+ * expensive - on a system with thousands of fonts it can take several seconds, and the
+ * JRE does not cache the answer for us. FontCatalog asks exactly once per process and
+ * hands the same immutable, sorted list to every FontDialog and FontField. Applications
+ * can call preload() at startup to do the enumeration on a background thread, so that
+ * even the first dialog opens instantly.
+ * </p>
+ * <p>
+ * Fonts installed while the application is running will not show up until reload()
+ * is called.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FontCatalog {
+
+    /**
+     * The font families that the JRE guarantees will exist, no matter what kind of system
+     * we're running on, in the order they are shown to the user.
+     */
+    public static final List<String> BUILT_IN_FAMILIES = List.of(Font.SERIF, Font.SANS_SERIF, Font.MONOSPACED,
+                                                                 Font.DIALOG, Font.DIALOG_INPUT);
+
+    private static final Set<String> builtInFamilySet = Set.copyOf(BUILT_IN_FAMILIES);
+    private static final Object lock = new Object();
+    private static final AtomicBoolean preloadStarted = new AtomicBoolean();
+    private static volatile Catalog catalog;
+
+    private FontCatalog() {
+    }
+
+    /**
+     * Enumerates the installed font families on a low-priority background daemon thread,
+     * unless that has already been done or is already under way. Safe to call as often as
+     * you like; at most one preload thread is ever started.
+     */
+    public static void preload() {
+        if (catalog != null || !preloadStarted.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(FontCatalog::getSystemFamilies, "FontCatalog-preload");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Reports whether the installed font families have been enumerated yet. If not,
+     * the next call to getSystemFamilies() will block until they are.
+     *
+     * @return True if the catalog is loaded.
+     */
+    public static boolean isLoaded() {
+        return catalog != null;
+    }
+
+    /**
+     * Returns the names of all font families installed on this system, sorted the way the
+     * JRE sorts them for the default locale. The first call enumerates the fonts (or waits
+     * for a preload() already in progress); every later call returns the same list.
+     *
+     * @return An immutable List of font family names.
+     */
+    public static List<String> getSystemFamilies() {
+        return getCatalog().families;
+    }
+
+    /**
+     * Reports whether a font family with the given name is installed on this system.
+     * Like the Font constructor, the comparison ignores case.
+     *
+     * @param family Any font family name.
+     * @return True if the family is installed.
+     */
+    public static boolean isSystemFamily(String family) {
+        return getCatalog().lowerCaseFamilies.contains(family.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Reports whether the given family is one of the JRE's built-in logical font families.
+     *
+     * @param family Any font family name.
+     * @return True if the family is listed in BUILT_IN_FAMILIES.
+     */
+    public static boolean isBuiltInFamily(String family) {
+        return builtInFamilySet.contains(family);
+    }
+
+    /**
+     * Reports whether the given font belongs to one of the JRE's built-in logical font
+     * families, as opposed to a font installed on this particular system.
+     *
+     * @param font Any candidate Font object.
+     * @return True if the given font is a java built-in font.
+     */
+    public static boolean isBuiltIn(Font font) {
+        return builtInFamilySet.contains(font.getFamily());
+    }
+
+    /**
+     * Discards the current catalog and enumerates the installed font families again.
+     * Only needed if fonts were installed or registered after the catalog was loaded.
+     */
+    public static void reload() {
+        synchronized (lock) {
+            catalog = load();
+        }
+    }
+
+    /**
+     * Returns the lower-case form of every name in the given list, in the same order.
+     * For the system family list itself this is the index built when the catalog was
+     * loaded, so FontListModel never has to rebuild it.
+     */
+    static String[] lowerCaseIndexOf(List<String> families) {
+        Catalog current = catalog;
+        if (current != null && current.families == families) {
+            return current.lowerCaseIndex;
+        }
+        return buildIndex(families);
+    }
+
+    private static Catalog getCatalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (lock) {
+                current = catalog;
+                if (current == null) {
+                    current = load();
+                    catalog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Catalog load() {
+        String[] names = GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames();
+        return new Catalog(List.of(names));
+    }
+
+    private static String[] buildIndex(List<String> families) {
+        String[] index = new String[families.size()];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = families.get(i).toLowerCase(Locale.ROOT);
+        }
+        return index;
+    }
+
+    /**
+     * One enumeration of the installed font families, with a lower-case index for lookups.
+     */
+    private static final class Catalog {
+        final List<String> families;
+        final String[] lowerCaseIndex;
+        final Set<String> lowerCaseFamilies;
+
+        Catalog(List<String> families) {
+            this.families = families;
+            this.lowerCaseIndex = buildIndex(families);
+            this.lowerCaseFamilies = new HashSet<>(Arrays.asList(lowerCaseIndex));
+        }
+    }
+}
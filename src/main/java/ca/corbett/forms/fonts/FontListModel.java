@@ -0,0 +1,248 @@
+package ca.corbett.forms.fonts;
+
+import javax.swing.AbstractListModel;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A list model of font family names that can be filtered as the user types.
+ * <p>
+ * A family matches the filter if it contains every whitespace-separated word of the filter,
+ * in any order, ignoring case - so "sans bold" matches "DejaVu Sans Bold" and "Sans Serif Bold"
+ * alike. Matching runs against a lower-case index that is built once per family list (and
+ * for the system font list, once per process by FontCatalog), so no strings are converted
+ * per keystroke. When the new filter only adds characters to the old one, which is what
+ * typing does, only the families that matched the old filter are checked again.
+ * </p>
+ * <p>
+ * Rather than clearing the list and adding everything back, each change fires interval
+ * events for just the rows that appeared or disappeared, so the JList keeps its scroll
+ * position and doesn't have to start from scratch.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FontListModel extends AbstractListModel<String> {
+
+    /**
+     * If a change would take more than this many separate interval events to describe,
+     * a single bulk event is fired instead.
+     */
+    static final int MAX_INTERVAL_EVENTS = 32;
+
+    private static final String[] NO_TOKENS = new String[0];
+
+    private List<String> families = List.of();
+    private String[] index = new String[0];
+    private int[] visible = new int[0];
+    private int[] spare = new int[0];
+    private int visibleCount;
+    private String filter = "";
+    private String[] tokens = NO_TOKENS;
+
+    /**
+     * Replaces the list of families, keeping the current filter. Pass the list returned by
+     * FontCatalog.getSystemFamilies() itself (not a copy) to reuse its prebuilt index.
+     *
+     * @param families The font family names to show.
+     */
+    public void setFamilies(List<String> families) {
+        if (families == this.families) {
+            return;
+        }
+        this.families = families;
+        index = FontCatalog.lowerCaseIndexOf(families);
+        int oldCount = visibleCount;
+        visible = new int[families.size()];
+        visibleCount = 0;
+        for (int i = 0; i < index.length; i++) {
+            if (matches(index[i], tokens)) {
+                visible[visibleCount++] = i;
+            }
+        }
+        fireBulkChange(oldCount);
+    }
+
+    /**
+     * Shows only the families that contain every word of the given filter. A blank filter
+     * shows every family.
+     *
+     * @param newFilter The text to filter by. Case is ignored.
+     */
+    public void setFilter(String newFilter) {
+        String normalized = newFilter == null ? "" : newFilter.trim().toLowerCase(Locale.ROOT);
+        if (normalized.equals(filter)) {
+            return;
+        }
+        String[] newTokens = normalized.isEmpty() ? NO_TOKENS : normalized.split("\\s+");
+        int[] oldVisible = visible;
+        int oldCount = visibleCount;
+        // Alternate between two buffers, so typing doesn't allocate:
+        int[] newVisible = spare.length >= index.length ? spare : new int[index.length];
+        int newCount = 0;
+        if (isNarrowing(normalized)) {
+            for (int i = 0; i < oldCount; i++) {
+                if (matches(index[oldVisible[i]], newTokens)) {
+                    newVisible[newCount++] = oldVisible[i];
+                }
+            }
+        }
+        else {
+            for (int i = 0; i < index.length; i++) {
+                if (matches(index[i], newTokens)) {
+                    newVisible[newCount++] = i;
+                }
+            }
+        }
+        filter = normalized;
+        tokens = newTokens;
+        visible = newVisible;
+        visibleCount = newCount;
+        fireDifferences(oldVisible, oldCount);
+        spare = oldVisible;
+    }
+
+    /**
+     * Returns the current filter, trimmed and in lower case.
+     *
+     * @return The filter text, or an empty string if there is none.
+     */
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns the number of families in the underlying list, whether or not they
+     * match the filter.
+     *
+     * @return A count of families.
+     */
+    public int getUnfilteredSize() {
+        return families.size();
+    }
+
+    /**
+     * Returns the row showing the given family, or -1 if it is filtered out or absent.
+     *
+     * @param family A font family name.
+     * @return A row index, or -1.
+     */
+    public int indexOf(String family) {
+        for (int i = 0; i < visibleCount; i++) {
+            if (families.get(visible[i]).equals(family)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getSize() {
+        return visibleCount;
+    }
+
+    @Override
+    public String getElementAt(int row) {
+        return families.get(visible[row]);
+    }
+
+    /**
+     * Everything that matches the new filter also matches the old one if the new filter
+     * merely extends the old one: every old word is then a substring of a new word.
+     */
+    private boolean isNarrowing(String newFilter) {
+        return !filter.isEmpty() && newFilter.startsWith(filter);
+    }
+
+    private static boolean matches(String lowerCaseFamily, String[] tokens) {
+        for (String token : tokens) {
+            if (!lowerCaseFamily.contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fires interval events describing the change from the old visible rows to the new ones.
+     * Both arrays hold indexes into the family list in ascending order, so a single merge
+     * pass finds every run of rows that was removed or added.
+     */
+    private void fireDifferences(int[] oldVisible, int oldCount) {
+        // Count the changed stretches first, so we know whether to describe them individually:
+        if (countRuns(oldVisible, oldCount) > MAX_INTERVAL_EVENTS) {
+            fireBulkChange(oldCount);
+            return;
+        }
+        int oldPos = 0;
+        int newPos = 0;
+        int row = 0; // the row in the list as it stands after the events fired so far
+        while (oldPos < oldCount || newPos < visibleCount) {
+            if (newPos == visibleCount || (oldPos < oldCount && oldVisible[oldPos] < visible[newPos])) {
+                int runLength = 0;
+                while (oldPos < oldCount && (newPos == visibleCount || oldVisible[oldPos] < visible[newPos])) {
+                    oldPos++;
+                    runLength++;
+                }
+                fireIntervalRemoved(this, row, row + runLength - 1);
+            }
+            else if (oldPos == oldCount || visible[newPos] < oldVisible[oldPos]) {
+                int start = row;
+                while (newPos < visibleCount && (oldPos == oldCount || visible[newPos] < oldVisible[oldPos])) {
+                    newPos++;
+                    row++;
+                }
+                fireIntervalAdded(this, start, row - 1);
+            }
+            else {
+                oldPos++;
+                newPos++;
+                row++;
+            }
+        }
+    }
+
+    private int countRuns(int[] oldVisible, int oldCount) {
+        int runs = 0;
+        int oldPos = 0;
+        int newPos = 0;
+        boolean inRun = false;
+        while (oldPos < oldCount || newPos < visibleCount) {
+            boolean same = oldPos < oldCount && newPos < visibleCount && oldVisible[oldPos] == visible[newPos];
+            if (same) {
+                oldPos++;
+                newPos++;
+                inRun = false;
+                continue;
+            }
+            if (!inRun) {
+                runs++;
+                inRun = true;
+            }
+            if (newPos == visibleCount || (oldPos < oldCount && oldVisible[oldPos] < visible[newPos])) {
+                oldPos++;
+            }
+            else {
+                newPos++;
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Describes any change at all with at most two events.
+     */
+    private void fireBulkChange(int oldCount) {
+        if (visibleCount < oldCount) {
+            fireIntervalRemoved(this, visibleCount, oldCount - 1);
+        }
+        else if (visibleCount > oldCount) {
+            fireIntervalAdded(this, oldCount, visibleCount - 1);
+        }
+        int common = Math.min(oldCount, visibleCount);
+        if (common > 0) {
+            fireContentsChanged(this, 0, common - 1);
+        }
+    }
+}
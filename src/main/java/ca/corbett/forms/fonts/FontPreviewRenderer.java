@@ -0,0 +1,308 @@
+package ca.corbett.forms.fonts;
+
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.Icon;
+import javax.swing.JList;
+import javax.swing.SwingUtilities;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A list cell renderer that shows each font family name in its own typeface.
+ * <p>
+ * Loading thousands of different fonts and laying out their glyphs is far too slow to do
+ * while painting, so each preview is laid out once, on a background thread, into a
+ * GlyphVector that is kept in an LRU cache shared by every list in the process. The
+ * background thread also draws each new preview once off-screen, so that its glyph images
+ * are already in the JRE's glyph cache when the list paints it. A cached preview holds only
+ * glyph codes and positions rather than pixels, which keeps the cache small, and it is drawn
+ * in whatever color the row needs, selected or not.
+ * </p>
+ * <p>
+ * Until a row's preview is ready, the row shows the family name in the list's normal font,
+ * and the list repaints itself as previews arrive. Only rows that are actually painted are
+ * ever laid out: the JList only asks for visible rows, and requests for rows that scrolled
+ * out of view long ago are dropped in favour of the most recent ones.
+ * </p>
+ * <p>
+ * Use install() rather than setCellRenderer(), so that the list also gets a fixed cell
+ * size and never has to measure every row to lay itself out.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FontPreviewRenderer extends DefaultListCellRenderer {
+
+    /**
+     * The fixed height of every row, in pixels.
+     */
+    public static final int CELL_HEIGHT = 24;
+
+    /**
+     * The width of each preview, in pixels. Longer names are clipped.
+     */
+    public static final int PREVIEW_WIDTH = 240;
+
+    /**
+     * The point size used to draw each preview.
+     */
+    public static final int PREVIEW_POINT_SIZE = 15;
+
+    /**
+     * The maximum number of previews kept in the shared cache.
+     */
+    public static final int MAX_CACHED_PREVIEWS = 512;
+
+    /**
+     * The maximum number of outstanding rasterization requests per list. When the user
+     * scrolls quickly, the oldest requests are dropped; rows that are still visible will
+     * simply ask again the next time they are painted.
+     */
+    static final int MAX_PENDING = 64;
+
+    private static final Map<String, Preview> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Preview> eldest) {
+            return size() > MAX_CACHED_PREVIEWS;
+        }
+    };
+
+    private static final ExecutorService rasterizer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FontPreviewRenderer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private final JList<String> list;
+    private final Deque<String> pending = new ArrayDeque<>();
+    private final Set<String> pendingFamilies = new HashSet<>();
+    private final AtomicBoolean isRepaintScheduled = new AtomicBoolean();
+    private boolean isDrainScheduled;
+
+    private FontPreviewRenderer(JList<String> list) {
+        this.list = list;
+    }
+
+    /**
+     * Creates a FontPreviewRenderer for the given list of font family names, installs it
+     * as the list's cell renderer and gives the list a fixed cell size.
+     *
+     * @param list A JList whose values are font family names.
+     * @return The new renderer.
+     */
+    public static FontPreviewRenderer install(JList<String> list) {
+        FontPreviewRenderer renderer = new FontPreviewRenderer(list);
+        list.setFixedCellHeight(CELL_HEIGHT);
+        list.setFixedCellWidth(PREVIEW_WIDTH);
+        list.setCellRenderer(renderer);
+        return renderer;
+    }
+
+    /**
+     * Returns the number of previews currently in the shared cache.
+     *
+     * @return A count of cached previews.
+     */
+    public static int getCachedCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Discards every cached preview.
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+        String family = (String) value;
+        if (family == null) {
+            return this;
+        }
+        Preview preview = getPreview(family);
+        if (preview != null) {
+            setText(null);
+            setIcon(preview); // drawn in our foreground color, which super just set
+        }
+        else {
+            request(family);
+        }
+        setToolTipText(family);
+        return this;
+    }
+
+    private static Preview getPreview(String family) {
+        synchronized (cache) {
+            return cache.get(family);
+        }
+    }
+
+    /**
+     * Queues the given family for rasterization, most recent first.
+     */
+    private void request(String family) {
+        synchronized (pending) {
+            if (!pendingFamilies.add(family)) {
+                return;
+            }
+            pending.addFirst(family);
+            if (pending.size() > MAX_PENDING) {
+                pendingFamilies.remove(pending.removeLast());
+            }
+            if (!isDrainScheduled) {
+                isDrainScheduled = true;
+                rasterizer.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Runs on the rasterizer thread until this renderer's queue is empty.
+     */
+    private void drain() {
+        while (true) {
+            String family;
+            synchronized (pending) {
+                family = pending.pollFirst();
+                if (family == null) {
+                    isDrainScheduled = false;
+                    return;
+                }
+                pendingFamilies.remove(family);
+            }
+            if (getPreview(family) == null) {
+                Preview preview = createPreview(family);
+                if (preview != null) {
+                    synchronized (cache) {
+                        cache.put(family, preview);
+                    }
+                }
+            }
+            scheduleRepaint();
+        }
+    }
+
+    /**
+     * Lays out a preview of the given family. A broken font can throw from layout, so that
+     * family falls back to showing its name in the Dialog font, and if even that fails, it
+     * gets no preview at all and the row keeps showing plain text.
+     */
+    private static Preview createPreview(String family) {
+        try {
+            return new Preview(family, new Font(family, Font.PLAIN, PREVIEW_POINT_SIZE));
+        }
+        catch (RuntimeException e) {
+            try {
+                return new Preview(family, FontCache.get(Font.DIALOG, Font.PLAIN, PREVIEW_POINT_SIZE));
+            }
+            catch (RuntimeException ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Repaints the list once for any number of previews that arrive in a burst.
+     */
+    private void scheduleRepaint() {
+        if (isRepaintScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                isRepaintScheduled.set(false);
+                list.repaint();
+            });
+        }
+    }
+
+    /**
+     * The laid-out name of one font family, painted as an icon in the foreground color of
+     * whatever component it is painted on.
+     */
+    private static final class Preview implements Icon {
+        private static final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
+        private static BufferedImage scratch; // only used on the rasterizer thread
+
+        final GlyphVector glyphs;
+        final float baseline;
+
+        Preview(String family, Font font) {
+            if (font.canDisplayUpTo(family) != -1) {
+                // Symbol fonts can't draw their own names, so show the name legibly instead:
+                font = FontCache.get(Font.DIALOG, Font.PLAIN, PREVIEW_POINT_SIZE);
+            }
+            glyphs = font.createGlyphVector(RENDER_CONTEXT, family);
+            LineMetrics metrics = font.getLineMetrics(family, RENDER_CONTEXT);
+            baseline = (CELL_HEIGHT - metrics.getAscent() - metrics.getDescent()) / 2 + metrics.getAscent();
+            warmUp();
+        }
+
+        /**
+         * Draws this preview once off-screen, so that the glyph images it needs are cached.
+         */
+        private void warmUp() {
+            if (scratch == null) {
+                scratch = new BufferedImage(PREVIEW_WIDTH, CELL_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+            }
+            Graphics2D g = scratch.createGraphics();
+            try {
+                paint(g, 0, 0);
+            }
+            finally {
+                g.dispose();
+            }
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                g2.setColor(c.getForeground());
+                g2.clipRect(x, y, PREVIEW_WIDTH, CELL_HEIGHT);
+                paint(g2, x, y);
+            }
+            finally {
+                g2.dispose();
+            }
+        }
+
+        private void paint(Graphics2D g, int x, int y) {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            g.drawGlyphVector(glyphs, x, y + baseline);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return PREVIEW_WIDTH;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return CELL_HEIGHT;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package contains the font helpers used by FontDialog and FontField, such as
+ * the process-wide FontCatalog of installed font families. Enumerating fonts can take
+ * seconds on a system with thousands of them installed, so everything here does that
+ * work once per process rather than once per dialog.
+ */
+package ca.corbett.forms.fonts;
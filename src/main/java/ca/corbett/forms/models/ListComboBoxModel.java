@@ -0,0 +1,382 @@
+package ca.corbett.forms.models;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A ComboBoxModel that presents an existing List directly, without copying it, and which
+ * stays fast with hundreds of thousands of items.
+ * <p>
+ * DefaultComboBoxModel copies its items into a Vector, and both it and JComboBox find an
+ * item by scanning every element. This model instead keeps a hash index of item positions,
+ * built on first use, so indexOf() is a constant-time lookup. Items can optionally be indexed
+ * by a key (a database id, for example) rather than by the items themselves, which allows
+ * selection by key and means that two items are treated as the same if their keys match.
+ * Item labels are computed once per item and cached. The list can also be filtered:
+ * each item's label is lower-cased once into a search index, and narrowing an existing
+ * filter (for example, as the user types one more character) only re-checks the items that
+ * matched the previous filter.
+ * </p>
+ * <p>
+ * The wrapped list should support fast random access, and must not be modified while it
+ * is in use by this model, other than through setItems(). Like the rest of Swing, this
+ * class is not thread safe, and should be used on the EDT.
+ * </p>
+ *
+ * @param <E> The type of item in the model.
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class ListComboBoxModel<E> extends AbstractListModel<E> implements ComboBoxModel<E> {
+
+    private List<E> items;
+    private final Function<? super E, String> labelFunction;
+    private final Function<? super E, ?> keyFunction;
+    private final Map<E, String> labelCache = new IdentityHashMap<>();
+    private Object selectedItem;
+    private boolean allowUnlistedSelection = true;
+
+    private Map<Object, Integer> positionIndex;
+    private String[] searchIndex;
+
+    private String filterText = "";
+    private int[] visible; // indexes into items of the rows that pass the filter, or null if unfiltered
+    private int visibleCount;
+
+    /**
+     * Creates a model that wraps the given list, using String.valueOf() as the label of each item.
+     *
+     * @param items The items to present. The list is not copied.
+     */
+    public ListComboBoxModel(List<E> items) {
+        this(items, String::valueOf);
+    }
+
+    /**
+     * Creates a model that wraps the given list, using the given function to produce the
+     * label that is used for filtering.
+     *
+     * @param items         The items to present. The list is not copied.
+     * @param labelFunction Returns the display label for an item.
+     */
+    public ListComboBoxModel(List<E> items, Function<? super E, String> labelFunction) {
+        this(items, labelFunction, Function.identity());
+    }
+
+    /**
+     * Creates a model that wraps the given list, using the given functions to produce the
+     * label that is shown and filtered on, and the key that items are indexed by.
+     *
+     * @param items         The items to present. The list is not copied.
+     * @param labelFunction Returns the display label for an item.
+     * @param keyFunction   Returns the unique key for an item. Keys must be suitable for use in a HashMap.
+     */
+    public ListComboBoxModel(List<E> items, Function<? super E, String> labelFunction, Function<? super E, ?> keyFunction) {
+        this.items = items;
+        this.labelFunction = labelFunction;
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Replaces all items in this model. The new list is wrapped, not copied. Any filter
+     * is re-applied to the new items. The selected item is not changed.
+     *
+     * @param items The new items to present.
+     */
+    public void setItems(List<E> items) {
+        int oldSize = getSize();
+        this.items = items;
+        itemsChanged(oldSize);
+    }
+
+    /**
+     * Notifies this model that items have been added to the end of the wrapped list.
+     * The indexes are updated incrementally, which makes this much cheaper than setItems()
+     * for a list that is being filled in a chunk at a time.
+     *
+     * @param previousSize The size of the wrapped list before the new items were added.
+     */
+    public void itemsAppended(int previousSize) {
+        int newSize = items.size();
+        if (newSize <= previousSize) {
+            return;
+        }
+        if (positionIndex != null) {
+            for (int i = previousSize; i < newSize; i++) {
+                positionIndex.putIfAbsent(keyFunction.apply(items.get(i)), i);
+            }
+        }
+        if (searchIndex != null) {
+            String[] grown = new String[Math.max(newSize, searchIndex.length * 2)];
+            System.arraycopy(searchIndex, 0, grown, 0, previousSize);
+            for (int i = previousSize; i < newSize; i++) {
+                grown[i] = searchKey(items.get(i));
+            }
+            searchIndex = grown;
+        }
+        if (visible == null) {
+            fireIntervalAdded(this, previousSize, newSize - 1);
+            return;
+        }
+        int firstRow = visibleCount;
+        for (int i = previousSize; i < newSize; i++) {
+            if (searchIndex[i].contains(filterText)) {
+                appendVisible(i);
+            }
+        }
+        if (visibleCount > firstRow) {
+            fireIntervalAdded(this, firstRow, visibleCount - 1);
+        }
+    }
+
+    /**
+     * Returns the wrapped list of all items, ignoring any filter.
+     *
+     * @return The full list of items.
+     */
+    public List<E> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the total number of items, ignoring any filter.
+     *
+     * @return The full item count.
+     */
+    public int getItemCount() {
+        return items.size();
+    }
+
+    /**
+     * Returns the position of the given item in the full list of items, ignoring any filter.
+     * Items are matched by key, and this is a hash lookup, so it doesn't depend on the number
+     * of items.
+     *
+     * @param item Any item.
+     * @return The index of the first item with the same key, or -1 if there isn't one.
+     */
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object item) {
+        if (item == null) {
+            return -1;
+        }
+        Object key;
+        try {
+            key = keyFunction.apply((E) item);
+        }
+        catch (ClassCastException e) {
+            return -1; // for example, text typed into an editable combo box
+        }
+        return indexOfKey(key);
+    }
+
+    /**
+     * Returns the position of the item with the given key in the full list of items,
+     * ignoring any filter. This is a hash lookup.
+     *
+     * @param key Any key.
+     * @return The index of the first item with that key, or -1 if there isn't one.
+     */
+    public int indexOfKey(Object key) {
+        if (positionIndex == null) {
+            positionIndex = new HashMap<>(Math.max(16, (int) (items.size() / 0.75f) + 1));
+            for (int i = 0; i < items.size(); i++) {
+                positionIndex.putIfAbsent(keyFunction.apply(items.get(i)), i);
+            }
+        }
+        Integer index = positionIndex.get(key);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the key of the given item.
+     *
+     * @param item Any item.
+     * @return The item's key.
+     */
+    public Object getKey(E item) {
+        return keyFunction.apply(item);
+    }
+
+    /**
+     * Reports whether the given item is in this model, ignoring any filter.
+     *
+     * @param item Any item.
+     * @return True if the item is present.
+     */
+    public boolean contains(Object item) {
+        return indexOf(item) >= 0;
+    }
+
+    /**
+     * Shows only the items whose labels contain the given text, ignoring case. An empty
+     * or null filter shows all items again. If the new filter text extends the current one,
+     * only the items that are already showing are re-checked.
+     *
+     * @param text The text to filter on.
+     */
+    public void setFilter(String text) {
+        String newFilter = text == null ? "" : text.toLowerCase(Locale.ROOT);
+        if (newFilter.equals(filterText)) {
+            return;
+        }
+        int oldSize = getSize();
+        if (newFilter.isEmpty()) {
+            visible = null;
+            visibleCount = 0;
+        }
+        else if (visible != null && newFilter.startsWith(filterText)) {
+            // Narrowing: only the rows that matched before can possibly match now.
+            int count = 0;
+            for (int i = 0; i < visibleCount; i++) {
+                int itemIndex = visible[i];
+                if (searchIndex[itemIndex].contains(newFilter)) {
+                    visible[count++] = itemIndex;
+                }
+            }
+            visibleCount = count;
+        }
+        else {
+            buildSearchIndex();
+            visible = new int[Math.min(items.size(), 64)];
+            visibleCount = 0;
+            for (int i = 0; i < items.size(); i++) {
+                if (searchIndex[i].contains(newFilter)) {
+                    appendVisible(i);
+                }
+            }
+        }
+        filterText = newFilter;
+        fireContentsChanged(this, 0, Math.max(oldSize, getSize()) - 1);
+    }
+
+    /**
+     * Returns the current filter text, lower-cased, or an empty string if there is no filter.
+     *
+     * @return The current filter.
+     */
+    public String getFilter() {
+        return filterText;
+    }
+
+    /**
+     * Returns the label of the given item. For items in this model, the label function is
+     * only invoked the first time a given item is asked for; after that, the label is served
+     * from a cache. Items that aren't in the model, such as text typed into an editable
+     * combo box, are never cached, so the cache can't grow beyond the size of the model.
+     *
+     * @param item Any item.
+     * @return The item's label.
+     */
+    public String getLabel(E item) {
+        String label = labelCache.get(item);
+        if (label == null) {
+            label = String.valueOf(labelFunction.apply(item));
+            int index = indexOf(item);
+            if (index >= 0 && items.get(index) == item) {
+                labelCache.put(item, label);
+            }
+        }
+        return label;
+    }
+
+    /**
+     * Returns the item with the longest label, which makes a good prototype display value
+     * for a JComboBox. Setting one stops the combo box from rendering every item just to
+     * work out how wide it should be. Only label lengths are compared; nothing is rendered.
+     *
+     * @return The item with the longest label, or null if there are no items.
+     */
+    public E getLongestItem() {
+        E longest = null;
+        int longestLength = -1;
+        for (int i = 0; i < items.size(); i++) {
+            E item = items.get(i);
+            int length = searchIndex != null ? searchIndex[i].length() : String.valueOf(labelFunction.apply(item)).length();
+            if (length > longestLength) {
+                longest = item;
+                longestLength = length;
+            }
+        }
+        return longest;
+    }
+
+    @Override
+    public int getSize() {
+        return visible == null ? items.size() : visibleCount;
+    }
+
+    @Override
+    public E getElementAt(int index) {
+        return items.get(visible == null ? index : visible[index]);
+    }
+
+    /**
+     * Controls whether items that aren't in the list can be selected, such as text typed into
+     * an editable JComboBox. The default is true, as with DefaultComboBoxModel. When false,
+     * attempts to select an unlisted item are ignored.
+     *
+     * @param allow Whether to allow unlisted items to be selected.
+     */
+    public void setAllowUnlistedSelection(boolean allow) {
+        allowUnlistedSelection = allow;
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if (item != null && !allowUnlistedSelection && indexOf(item) < 0) {
+            return;
+        }
+        if ((selectedItem != null && !selectedItem.equals(item)) || (selectedItem == null && item != null)) {
+            selectedItem = item;
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+
+    private void itemsChanged(int oldSize) {
+        positionIndex = null;
+        labelCache.clear();
+        searchIndex = null;
+        String filter = filterText;
+        filterText = "";
+        visible = null;
+        if (!filter.isEmpty()) {
+            setFilter(filter); // fires its own event
+            return;
+        }
+        fireContentsChanged(this, 0, Math.max(oldSize, getSize()) - 1);
+    }
+
+    private void appendVisible(int itemIndex) {
+        if (visibleCount == visible.length) {
+            int[] grown = new int[Math.max(16, visible.length * 2)];
+            System.arraycopy(visible, 0, grown, 0, visibleCount);
+            visible = grown;
+        }
+        visible[visibleCount++] = itemIndex;
+    }
+
+    private void buildSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new String[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                searchIndex[i] = searchKey(items.get(i));
+            }
+        }
+    }
+
+    private String searchKey(E item) {
+        return String.valueOf(labelFunction.apply(item)).toLowerCase(Locale.ROOT);
+    }
+}
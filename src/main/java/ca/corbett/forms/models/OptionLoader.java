@@ -0,0 +1,176 @@
+package ca.corbett.forms.models;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Loads the items of a ListComboBoxModel on a background thread, from a source that may be
+ * slow, such as a database query or a directory scan. Items are appended to the model in
+ * chunks as they arrive, so the first ones can be chosen before the load has finished, and
+ * the EDT is never blocked for long.
+ * <p>
+ * A selection can be requested before the load starts, or at any time while it is running.
+ * It is applied as soon as the requested item arrives. If it never does, the first item is
+ * selected once the load is done, unless something else has been selected by then.
+ * </p>
+ * <p>
+ * A loader can be cancelled with cancel(true); after that it will not touch the model again.
+ * This is what makes it safe to throw away a stale load, for example when a parent field
+ * changes and the options have to be fetched again.
+ * </p>
+ *
+ * @param <E> The type of item being loaded.
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class OptionLoader<E> extends SwingWorker<Integer, Void> {
+
+    /**
+     * The number of items appended to the model at a time.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    private final ListComboBoxModel<E> model;
+    private final Callable<? extends Iterable<? extends E>> source;
+    private final Runnable onFinished;
+    private final List<E> items = new ArrayList<>();
+    private Object pendingSelectionKey;
+    private Throwable failure;
+    private volatile boolean finished;
+
+    /**
+     * Creates a loader which will replace the contents of the given model with the items
+     * from the given source. Nothing happens until execute() is invoked, which must be
+     * done on the EDT. The model is cleared at that point.
+     *
+     * @param model      The model to populate.
+     * @param source     Produces the items. Invoked on a background thread.
+     * @param selectionKey The key of the item to select once it has been loaded, or null for the first item.
+     * @param onFinished Invoked on the EDT when the load succeeds or fails, but not if it is cancelled. May be null.
+     */
+    public OptionLoader(ListComboBoxModel<E> model, Callable<? extends Iterable<? extends E>> source,
+                        Object selectionKey, Runnable onFinished) {
+        this.model = model;
+        this.source = source;
+        this.pendingSelectionKey = selectionKey;
+        this.onFinished = onFinished;
+    }
+
+    /**
+     * Clears the model and starts loading. Must be invoked on the EDT.
+     */
+    public void start() {
+        model.setItems(items);
+        model.setSelectedItem(null);
+        execute();
+    }
+
+    /**
+     * Requests that the item with the given key be selected as soon as it is loaded. If it has
+     * already been loaded, it is selected right away. Must be invoked on the EDT.
+     *
+     * @param selectionKey The key of the item to select.
+     */
+    public void setPendingSelectionKey(Object selectionKey) {
+        pendingSelectionKey = selectionKey;
+        applyPendingSelection();
+    }
+
+    /**
+     * Reports whether this load has finished and been fully applied to the model, including
+     * the final selection. Unlike isDone(), this only becomes true once done() has run on the
+     * EDT, and it never becomes true for a cancelled load.
+     *
+     * @return True if the load has succeeded or failed.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns the exception thrown by the source, if the load failed.
+     *
+     * @return The cause of the failure, or null if the load hasn't failed.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    protected Integer doInBackground() throws Exception {
+        Iterable<? extends E> loaded = source.call();
+        List<E> chunk = new ArrayList<>(CHUNK_SIZE);
+        int count = 0;
+        for (E item : loaded) {
+            if (isCancelled()) {
+                return count;
+            }
+            chunk.add(item);
+            count++;
+            if (chunk.size() == CHUNK_SIZE) {
+                publishChunk(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            publishChunk(chunk);
+        }
+        return count;
+    }
+
+    /**
+     * Hands a chunk of items to the EDT. We use invokeLater() rather than publish(), because
+     * publish() batches chunks on a timer, which could deliver the last chunk after done().
+     */
+    private void publishChunk(final List<E> chunk) {
+        SwingUtilities.invokeLater(() -> {
+            if (isCancelled()) {
+                return;
+            }
+            int previousSize = items.size();
+            items.addAll(chunk);
+            model.itemsAppended(previousSize);
+            applyPendingSelection();
+        });
+    }
+
+    private void applyPendingSelection() {
+        if (pendingSelectionKey == null) {
+            return;
+        }
+        int index = model.indexOfKey(pendingSelectionKey);
+        if (index >= 0) {
+            model.setSelectedItem(items.get(index));
+            pendingSelectionKey = null;
+        }
+    }
+
+    @Override
+    protected void done() {
+        if (isCancelled()) {
+            return;
+        }
+        try {
+            get();
+        }
+        catch (ExecutionException e) {
+            failure = e.getCause();
+        }
+        catch (InterruptedException | CancellationException e) {
+            return;
+        }
+        if (model.getSelectedItem() == null && !items.isEmpty()) {
+            model.setSelectedItem(items.get(0));
+        }
+        pendingSelectionKey = null;
+        finished = true;
+        if (onFinished != null) {
+            onFinished.run();
+        }
+    }
+}
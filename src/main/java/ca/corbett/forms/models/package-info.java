@@ -0,0 +1,7 @@
+/**
+ * This package contains Swing data models used by the form fields, built to stay
+ * responsive with very large numbers of items. For example, ListComboBoxModel wraps
+ * an existing List without copying it, and supports constant-time selection by value
+ * and incremental filtering.
+ */
+package ca.corbett.forms.models;
@@ -0,0 +1,380 @@
+package ca.corbett.forms.templates;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fields.CheckBoxField;
+import ca.corbett.forms.fields.ColorField;
+import ca.corbett.forms.fields.ComboField;
+import ca.corbett.forms.fields.FileField;
+import ca.corbett.forms.fields.FontField;
+import ca.corbett.forms.fields.FormField;
+import ca.corbett.forms.fields.LabelField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+import ca.corbett.forms.fonts.FontCache;
+import ca.corbett.forms.validators.NonBlankFieldValidator;
+import ca.corbett.forms.validators.YMDDateValidator;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Parses the text of a form spec into a FormTemplate. All parsing and value conversion
+ * happens here, so that the resulting template only has to invoke constructors and setters
+ * when it stamps out a new form. See the package documentation for the spec format.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+final class FormSpecParser {
+
+    private int lineNumber;
+
+    /**
+     * Parses the given form spec.
+     *
+     * @param spec The full text of a form spec.
+     * @return A compiled FormTemplate.
+     * @throws IllegalArgumentException If the spec contains errors.
+     */
+    FormTemplate parse(String spec) {
+        FormPanel.Alignment alignment = FormPanel.Alignment.TOP_CENTER;
+        List<Supplier<FormField>> factories = new ArrayList<>();
+        lineNumber = 0;
+        for (String line : spec.split("\r?\n")) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            List<String> tokens = tokenize(line);
+            String type = tokens.get(0);
+            Map<String, String> attributes = parseAttributes(tokens.subList(1, tokens.size()));
+            if (type.equals("form")) {
+                String value = attributes.remove("alignment");
+                if (value != null) {
+                    alignment = parseEnum(FormPanel.Alignment.class, value);
+                }
+            }
+            else {
+                factories.add(compileField(type, attributes));
+            }
+            if (!attributes.isEmpty()) {
+                throw error("unknown attribute \"" + attributes.keySet().iterator().next() + "\" for " + type);
+            }
+        }
+        return new FormTemplate(alignment, factories);
+    }
+
+    /**
+     * Compiles a single field line into a factory that creates and configures the field.
+     * Attributes are removed from the given map as they are consumed.
+     */
+    private Supplier<FormField> compileField(String type, Map<String, String> attributes) {
+        final String label = remove(attributes, "label", "");
+        final Supplier<FormField> creator;
+        final List<String> validatorNames = parseList(remove(attributes, "validators", ""), ",");
+        switch (type) {
+            case "text": {
+                final int cols = parseInt(remove(attributes, "cols", "15"));
+                final int rows = parseInt(remove(attributes, "rows", "1"));
+                final boolean allowBlank = parseBoolean(remove(attributes, "allowBlank", "true"));
+                final String value = remove(attributes, "value", null);
+                creator = () -> {
+                    TextField field = new TextField(label, cols, rows, allowBlank);
+                    if (value != null) {
+                        field.setText(value);
+                    }
+                    return field;
+                };
+                break;
+            }
+            case "label": {
+                final String text = remove(attributes, "text", "");
+                final Font font = parseFont(remove(attributes, "font", null));
+                final Color color = parseColor(remove(attributes, "color", null));
+                creator = () -> {
+                    LabelField field = new LabelField(label, text);
+                    if (font != null) {
+                        field.setFont(font);
+                    }
+                    if (color != null) {
+                        field.setColor(color);
+                    }
+                    return field;
+                };
+                break;
+            }
+            case "checkbox": {
+                final boolean checked = parseBoolean(remove(attributes, "checked", "false"));
+                creator = () -> new CheckBoxField(label, checked);
+                break;
+            }
+            case "combo": {
+                final List<String> options = parseList(remove(attributes, "options", ""), "\\|");
+                final int selected = parseInt(remove(attributes, "selected", "0"));
+                final boolean editable = parseBoolean(remove(attributes, "editable", "false"));
+                if (options.isEmpty()) {
+                    throw error("combo requires at least one option");
+                }
+                creator = () -> new ComboField(label, options, selected, editable);
+                break;
+            }
+            case "number": {
+                String step = remove(attributes, "step", "1");
+                String value = remove(attributes, "value", "0");
+                String min = remove(attributes, "min", "0");
+                String max = remove(attributes, "max", "100");
+                if ((step + value + min + max).contains(".")) {
+                    final double[] v = {parseDouble(value), parseDouble(min), parseDouble(max), parseDouble(step)};
+                    creator = () -> new NumberField(label, v[0], v[1], v[2], v[3]);
+                }
+                else {
+                    final int[] v = {parseInt(value), parseInt(min), parseInt(max), parseInt(step)};
+                    creator = () -> new NumberField(label, v[0], v[1], v[2], v[3]);
+                }
+                break;
+            }
+            case "color": {
+                final Color color = parseColor(remove(attributes, "color", "#000000"));
+                creator = () -> new ColorField(label, color);
+                break;
+            }
+            case "file": {
+                final String path = remove(attributes, "value", null);
+                final File initialValue = path == null ? null : new File(path);
+                final int cols = parseInt(remove(attributes, "cols", "15"));
+                final FileField.SelectionType mode = parseEnum(FileField.SelectionType.class,
+                                                               remove(attributes, "mode", "ExistingFile"));
+                final boolean allowBlank = parseBoolean(remove(attributes, "allowBlank", "false"));
+                creator = () -> new FileField(label, initialValue, cols, mode, allowBlank);
+                break;
+            }
+            case "font": {
+                final Font font = parseFont(remove(attributes, "font", null));
+                final Color textColor = parseColor(remove(attributes, "textColor", null));
+                final Color bgColor = parseColor(remove(attributes, "bgColor", null));
+                creator = () -> new FontField(label, font, textColor, bgColor);
+                break;
+            }
+            default:
+                throw error("unknown field type \"" + type + "\"");
+        }
+
+        final Consumer<FormField> decorator = compileCommonAttributes(type, attributes, validatorNames);
+        return () -> {
+            FormField field = creator.get();
+            decorator.accept(field);
+            return field;
+        };
+    }
+
+    /**
+     * Compiles the attributes that apply to all field types into a single Consumer.
+     */
+    private Consumer<FormField> compileCommonAttributes(String type, Map<String, String> attributes, List<String> validatorNames) {
+        final String id = remove(attributes, "id", null);
+        final String help = remove(attributes, "help", null);
+        final Font labelFont = parseFont(remove(attributes, "labelFont", null));
+        final boolean enabled = parseBoolean(remove(attributes, "enabled", "true"));
+        final boolean visible = parseBoolean(remove(attributes, "visible", "true"));
+        String marginValue = remove(attributes, "margins", null);
+        final int[] margins = marginValue == null ? null : parseMargins(marginValue);
+
+        for (String name : validatorNames) {
+            if (!type.equals("text") || !(name.equals("nonBlank") || name.equals("ymdDate"))) {
+                throw error("unknown validator \"" + name + "\" for " + type);
+            }
+        }
+        final boolean nonBlank = validatorNames.contains("nonBlank");
+        final boolean ymdDate = validatorNames.contains("ymdDate");
+
+        return field -> {
+            field.setIdentifier(id);
+            if (help != null) {
+                field.setHelpText(help);
+            }
+            if (labelFont != null) {
+                field.setFieldLabelFont(labelFont);
+            }
+            if (margins != null) {
+                field.setMargins(margins[0], margins[1], margins[2], margins[3], margins[4]);
+            }
+            if (nonBlank) {
+                field.addFieldValidator(new NonBlankFieldValidator((TextField) field));
+            }
+            if (ymdDate) {
+                field.addFieldValidator(new YMDDateValidator((TextField) field));
+            }
+            if (!enabled) {
+                field.setEnabled(false);
+            }
+            if (!visible) {
+                field.setVisible(false);
+            }
+        };
+    }
+
+    /**
+     * Splits a line into whitespace-separated tokens, respecting double quotes.
+     * A backslash inside quotes escapes the next character.
+     */
+    private List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        boolean hasToken = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes && c == '\\' && i + 1 < line.length()) {
+                current.append(line.charAt(++i));
+            }
+            else if (c == '"') {
+                inQuotes = !inQuotes;
+                hasToken = true;
+            }
+            else if (!inQuotes && Character.isWhitespace(c)) {
+                if (hasToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    hasToken = false;
+                }
+            }
+            else {
+                current.append(c);
+                hasToken = true;
+            }
+        }
+        if (inQuotes) {
+            throw error("unterminated quote");
+        }
+        if (hasToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private Map<String, String> parseAttributes(List<String> tokens) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String token : tokens) {
+            int index = token.indexOf('=');
+            if (index <= 0) {
+                throw error("expected name=value but found \"" + token + "\"");
+            }
+            attributes.put(token.substring(0, index), token.substring(index + 1));
+        }
+        return attributes;
+    }
+
+    private static String remove(Map<String, String> attributes, String name, String defaultValue) {
+        String value = attributes.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static List<String> parseList(String value, String separatorRegex) {
+        if (value.isEmpty()) {
+            return List.of();
+        }
+        return List.copyOf(Arrays.asList(value.split(separatorRegex)));
+    }
+
+    private int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        }
+        catch (NumberFormatException e) {
+            throw error("expected a whole number but found \"" + value + "\"");
+        }
+    }
+
+    private double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        }
+        catch (NumberFormatException e) {
+            throw error("expected a number but found \"" + value + "\"");
+        }
+    }
+
+    private boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw error("expected true or false but found \"" + value + "\"");
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        for (E candidate : type.getEnumConstants()) {
+            if (candidate.name().equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw error("unknown " + type.getSimpleName() + " \"" + value + "\"");
+    }
+
+    private int[] parseMargins(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 5) {
+            throw error("margins must be top,left,bottom,right,inner");
+        }
+        int[] margins = new int[5];
+        for (int i = 0; i < 5; i++) {
+            margins[i] = parseInt(parts[i]);
+        }
+        return margins;
+    }
+
+    private Color parseColor(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Color.decode(value.trim());
+        }
+        catch (NumberFormatException e) {
+            throw error("expected a color like #ff0000 but found \"" + value + "\"");
+        }
+    }
+
+    private Font parseFont(String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        if (parts.length != 3) {
+            throw error("font must be family,style,size");
+        }
+        int style;
+        switch (parts[1].trim().toUpperCase()) {
+            case "PLAIN":
+                style = Font.PLAIN;
+                break;
+            case "BOLD":
+                style = Font.BOLD;
+                break;
+            case "ITALIC":
+                style = Font.ITALIC;
+                break;
+            case "BOLD+ITALIC":
+                style = Font.BOLD + Font.ITALIC;
+                break;
+            default:
+                throw error("font style must be PLAIN, BOLD, ITALIC or BOLD+ITALIC");
+        }
+        return FontCache.get(parts[0].trim(), style, parseInt(parts[2]));
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Form spec line " + lineNumber + ": " + message);
+    }
+}
@@ -0,0 +1,182 @@
+package ca.corbett.forms.templates;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fields.FormField;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A compiled form spec, which can stamp out any number of identical FormPanels.
+ * <p>
+ * Form specs are parsed exactly once: compile() keys each spec by a hash of its
+ * content and caches the resulting template, so compiling the same spec again (even
+ * from a different String instance or a re-read file) is just a hash and a map lookup.
+ * The cache holds the {@link #MAX_CACHED_TEMPLATES} most recently used templates.
+ * Stamping a template involves no parsing at all - every attribute was converted to
+ * its final value when the template was compiled, so stamp() only has to create and
+ * configure the form fields.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <blockquote><pre>
+ * FormTemplate template = FormTemplate.compile(getClass().getResourceAsStream("customer.form"));
+ * FormPanel formPanel = template.stamp();
+ * </pre></blockquote>
+ * <p>
+ * See the package documentation for the form spec format.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class FormTemplate {
+
+    /**
+     * The maximum number of compiled templates kept in the cache.
+     */
+    public static final int MAX_CACHED_TEMPLATES = 64;
+
+    private static final Map<String, FormTemplate> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, FormTemplate> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+
+    private final FormPanel.Alignment alignment;
+    private final List<Supplier<FormField>> fieldFactories;
+
+    FormTemplate(FormPanel.Alignment alignment, List<Supplier<FormField>> fieldFactories) {
+        this.alignment = alignment;
+        this.fieldFactories = List.copyOf(fieldFactories);
+    }
+
+    /**
+     * Compiles the given form spec, or returns the cached template if this exact spec
+     * has been compiled before.
+     *
+     * @param spec The text of a form spec.
+     * @return A FormTemplate for the given spec.
+     * @throws IllegalArgumentException If the spec contains errors.
+     */
+    public static FormTemplate compile(String spec) {
+        String key = contentHash(spec);
+        synchronized (cache) {
+            FormTemplate template = cache.get(key);
+            if (template != null) {
+                return template;
+            }
+        }
+        FormTemplate template = new FormSpecParser().parse(spec);
+        synchronized (cache) {
+            FormTemplate existing = cache.putIfAbsent(key, template);
+            return existing != null ? existing : template;
+        }
+    }
+
+    /**
+     * Reads a UTF-8 form spec from the given file and compiles it. See compile(String).
+     *
+     * @param specFile A form spec file.
+     * @return A FormTemplate for the given spec.
+     * @throws IOException If the file can't be read.
+     */
+    public static FormTemplate compile(Path specFile) throws IOException {
+        return compile(Files.readString(specFile, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a UTF-8 form spec from the given stream and compiles it. See compile(String).
+     * The stream is closed when this method returns.
+     *
+     * @param specStream A stream containing a form spec, for example from getResourceAsStream().
+     * @return A FormTemplate for the given spec.
+     * @throws IOException If the stream can't be read.
+     */
+    public static FormTemplate compile(InputStream specStream) throws IOException {
+        try (InputStream in = specStream) {
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Discards all cached templates.
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the number of templates currently cached.
+     *
+     * @return A count of cached templates.
+     */
+    public static int getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Returns the number of form fields that each stamped form will contain.
+     *
+     * @return A count of form fields.
+     */
+    public int getFieldCount() {
+        return fieldFactories.size();
+    }
+
+    /**
+     * Creates a new list of form fields as described by this template. Each invocation
+     * returns brand new FormField instances.
+     *
+     * @return A list of newly created FormFields.
+     */
+    public List<FormField> createFormFields() {
+        List<FormField> fields = new ArrayList<>(fieldFactories.size());
+        for (Supplier<FormField> factory : fieldFactories) {
+            fields.add(factory.get());
+        }
+        return fields;
+    }
+
+    /**
+     * Creates and renders a new FormPanel as described by this template.
+     *
+     * @return A new, rendered FormPanel.
+     */
+    public FormPanel stamp() {
+        FormPanel formPanel = new FormPanel(createFormFields(), alignment);
+        formPanel.render();
+        return formPanel;
+    }
+
+    private static String contentHash(String spec) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(spec.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to support SHA-256:
+            throw new IllegalStateException(e);
+        }
+    }
+}
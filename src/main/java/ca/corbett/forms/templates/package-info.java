@@ -0,0 +1,29 @@
+/**
+ * This package lets you describe a form in a simple declarative text format instead
+ * of building it by hand in Java code. A form spec is compiled once into a FormTemplate,
+ * which can then stamp out as many FormPanel instances as you need.
+ * <p>
+ *     A form spec has one form field per line. Each line starts with the field type,
+ *     followed by any number of name=value attributes. Values containing spaces must be
+ *     quoted. Blank lines and lines starting with # are ignored. For example:
+ * </p>
+ * <BLOCKQUOTE><PRE>
+ * # An optional "form" line sets form-wide properties:
+ * form     alignment=TOP_LEFT
+ * label    text="Customer details" font=SansSerif,BOLD,18 margins=24,4,24,4,4
+ * text     id=name label="Name:" cols=15 allowBlank=false help="First and last name"
+ * text     id=since label="Customer since:" cols=10 validators=ymdDate
+ * text     id=notes label="Notes:" cols=20 rows=4
+ * checkbox id=active label="Active" checked=true
+ * combo    id=tier label="Tier:" options="Bronze|Silver|Gold" selected=0
+ * number   id=discount label="Discount:" value=0 min=0 max=50 step=5
+ * color    id=color label="Highlight:" color=#0000ff
+ * file     id=folder label="Folder:" cols=15 mode=ExistingDirectory allowBlank=true
+ * font     id=font label="Font:"
+ * </PRE></BLOCKQUOTE>
+ * <p>
+ *     Attributes common to all field types are: id, help, margins (top,left,bottom,right,inner),
+ *     labelFont (family,style,size), enabled and visible. See FormTemplate for details.
+ * </p>
+ */
+package ca.corbett.forms.templates;
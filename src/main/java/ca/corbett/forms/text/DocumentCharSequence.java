@@ -0,0 +1,101 @@
+package ca.corbett.forms.text;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+/**
+ * A read-only CharSequence view of all or part of a Swing Document. No text is copied
+ * when the view is created: characters are read straight out of the Document's own
+ * storage in chunks, using a Segment with partial return enabled. This means you can
+ * hand the contents of a very large Document to anything that accepts a CharSequence
+ * (regular expressions, for example) without allocating a String for the whole thing.
+ * <p>
+ * The view covers a fixed range of offsets, captured when it is created. It should be
+ * treated as valid only until the Document is next modified. Like the rest of Swing,
+ * it is not thread safe; use it on the EDT, or inside Document.render().
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class DocumentCharSequence implements CharSequence {
+
+    private final Document document;
+    private final int start;
+    private final int end;
+    private final Segment segment = new Segment();
+    private int segmentStart = -1; // document offset of the first char in our cached segment
+
+    /**
+     * Creates a view of the entire given Document.
+     *
+     * @param document Any Document.
+     */
+    public DocumentCharSequence(Document document) {
+        this(document, 0, document.getLength());
+    }
+
+    /**
+     * Creates a view of the given range of the given Document.
+     *
+     * @param document Any Document.
+     * @param start    The offset of the first character in the view.
+     * @param end      The offset just past the last character in the view.
+     */
+    public DocumentCharSequence(Document document, int start, int end) {
+        if (start < 0 || end < start || end > document.getLength()) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + ".." + end);
+        }
+        this.document = document;
+        this.start = start;
+        this.end = end;
+        segment.setPartialReturn(true);
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range 0.." + length());
+        }
+        int offset = start + index;
+        if (segmentStart < 0 || offset < segmentStart || offset >= segmentStart + segment.count) {
+            try {
+                document.getText(offset, end - offset, segment);
+            }
+            catch (BadLocationException e) {
+                throw new IllegalStateException("Document was modified while being read.", e);
+            }
+            segmentStart = offset;
+        }
+        return segment.array[segment.offset + offset - segmentStart];
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to < from || to > length()) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + ".." + to);
+        }
+        return new DocumentCharSequence(document, start + from, start + to);
+    }
+
+    /**
+     * Copies the characters in this view into a new String.
+     *
+     * @return A String containing the text in this view.
+     */
+    @Override
+    public String toString() {
+        try {
+            return document.getText(start, length());
+        }
+        catch (BadLocationException e) {
+            throw new IllegalStateException("Document was modified while being read.", e);
+        }
+    }
+}
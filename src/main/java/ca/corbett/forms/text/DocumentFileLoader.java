@@ -0,0 +1,175 @@
+package ca.corbett.forms.text;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a text file into a Swing Document on a background thread. The file is
+ * memory-mapped a window at a time and decoded in fixed-size chunks, and each chunk is
+ * appended to the Document on the EDT as soon as it is ready. The file contents are never
+ * held in memory as a single String, and the UI stays responsive while the load is running.
+ * <p>
+ * The loader is a SwingWorker: call execute() to start it, cancel(true) to stop it, and
+ * listen for the bound "progress" property (0 to 100) to show progress. Text that was
+ * loaded before a cancellation is left in the Document. The worker's result is the number
+ * of characters that were loaded.
+ * </p>
+ * <p>
+ * Chunks are handed to the EDT with invokeLater(), and at most a few of them can be
+ * waiting there at any time, so a slow EDT slows the load down rather than letting
+ * decoded text pile up in memory.
+ * </p>
+ * <p>
+ * Never call get() on the EDT while the load is running: the loader needs the EDT to
+ * insert its text, so get() would wait forever. To be told when the load is finished, use
+ * whenDone(), or override done(), both of which run on the EDT once all text is inserted.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class DocumentFileLoader extends SwingWorker<Long, Void> {
+
+    private static final int DEFAULT_WINDOW_BYTES = 16 * 1024 * 1024;
+    private static final int DEFAULT_CHUNK_CHARS = 64 * 1024;
+    private static final int MAX_QUEUED_CHUNKS = 4;
+
+    private final Document document;
+    private final Path path;
+    private final Charset charset;
+    private final int windowBytes;
+    private final int chunkChars;
+    private final Semaphore queuedChunks = new Semaphore(MAX_QUEUED_CHUNKS);
+    private final AtomicLong charsInserted = new AtomicLong();
+
+    /**
+     * Creates a loader that will append the contents of the given file to the given Document.
+     * Nothing happens until execute() is invoked.
+     *
+     * @param document The Document to load into. Usually this should be empty.
+     * @param path     The file to load.
+     * @param charset  The character encoding of the file.
+     */
+    public DocumentFileLoader(Document document, Path path, Charset charset) {
+        this(document, path, charset, DEFAULT_WINDOW_BYTES, DEFAULT_CHUNK_CHARS);
+    }
+
+    DocumentFileLoader(Document document, Path path, Charset charset, int windowBytes, int chunkChars) {
+        if (windowBytes < 16 || chunkChars < 16) {
+            throw new IllegalArgumentException("Window and chunk sizes must be at least 16.");
+        }
+        this.document = document;
+        this.path = path;
+        this.charset = charset;
+        this.windowBytes = windowBytes;
+        this.chunkChars = chunkChars;
+    }
+
+    /**
+     * Arranges for the given callback to be invoked on the EDT once this loader is finished,
+     * whether it completed, failed or was cancelled. If it is already finished, the callback
+     * is invoked shortly.
+     *
+     * @param callback The code to run on the EDT when loading is over.
+     * @return This loader.
+     */
+    public DocumentFileLoader whenDone(Runnable callback) {
+        addPropertyChangeListener(event -> {
+            if ("state".equals(event.getPropertyName()) && event.getNewValue() == StateValue.DONE) {
+                callback.run();
+            }
+        });
+        if (isDone()) {
+            SwingUtilities.invokeLater(callback);
+        }
+        return this;
+    }
+
+    @Override
+    protected Long doInBackground() throws Exception {
+        CharsetDecoder decoder = charset.newDecoder()
+                                        .onMalformedInput(CodingErrorAction.REPLACE)
+                                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chunk = CharBuffer.allocate(chunkChars);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            boolean endOfInput = size == 0;
+            while (!endOfInput && !isCancelled()) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                                                      Math.min(windowBytes, size - position));
+                endOfInput = position + window.limit() >= size;
+                while (!isCancelled()) {
+                    CoderResult result = decoder.decode(window, chunk, endOfInput);
+                    if (result.isOverflow()) {
+                        append(chunk);
+                    }
+                    else if (result.isUnderflow()) {
+                        break;
+                    }
+                }
+                // Any bytes left over are an incomplete character at the end of this window;
+                // the next window starts with them:
+                position += window.position();
+                setProgress(size == 0 ? 100 : (int) (position * 100 / size));
+            }
+            if (!isCancelled()) {
+                decoder.decode(ByteBuffer.allocate(0), chunk, true); // no-op unless the file was empty
+                while (decoder.flush(chunk).isOverflow()) {
+                    append(chunk);
+                }
+                append(chunk);
+            }
+        }
+        // Wait for the chunks still queued on the EDT, so that our result (and done()) sees them:
+        queuedChunks.acquire(MAX_QUEUED_CHUNKS);
+        queuedChunks.release(MAX_QUEUED_CHUNKS);
+        if (!isCancelled()) {
+            setProgress(100);
+        }
+        return charsInserted.get();
+    }
+
+    /**
+     * Queues the decoded contents of the given chunk for appending to the end of our Document
+     * on the EDT, and then clears the chunk for reuse. Blocks while too many chunks are
+     * already waiting on the EDT. Chunks that reach the EDT after a cancellation are dropped.
+     */
+    private void append(CharBuffer chunk) throws InterruptedException {
+        chunk.flip();
+        final String text = chunk.toString();
+        chunk.clear();
+        if (text.isEmpty()) {
+            return;
+        }
+        queuedChunks.acquire();
+        SwingUtilities.invokeLater(() -> {
+            try {
+                if (!isCancelled()) {
+                    document.insertString(document.getLength(), text, null);
+                    charsInserted.addAndGet(text.length());
+                }
+            }
+            catch (BadLocationException e) {
+                throw new IllegalStateException(e); // can't happen when appending at getLength()
+            }
+            finally {
+                queuedChunks.release();
+            }
+        });
+    }
+}
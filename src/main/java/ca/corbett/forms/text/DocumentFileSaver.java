@@ -0,0 +1,321 @@
+package ca.corbett.forms.text;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Saves the contents of a Swing Document to a text file on a background thread. Text is
+ * copied out of the Document's storage a chunk at a time and encoded into a small reusable
+ * byte buffer, so normally the Document is never copied into a String.
+ * <p>
+ * The Document is read-locked (via Document.render()) only while each chunk is copied, and
+ * never while writing to disk, so edits are not held up by a slow disk. If the Document is
+ * edited while the save is running, the save starts over, so that the file always reflects
+ * one consistent snapshot of the text. After a few restarts, the last attempt copies the
+ * whole text into memory in a single read-locked step and writes it out after releasing the
+ * lock, so a steady stream of edits can't stop the save from ever finishing. The file is
+ * written to a temporary file next to the target and then moved into place, so a failed or
+ * cancelled save never leaves a half-written file behind. A new file gets the file system's
+ * default permissions; an existing file keeps its own.
+ * </p>
+ * <p>
+ * The saver is a SwingWorker: call execute() to start it and listen for the bound "progress"
+ * property (0 to 100) to show progress. The worker's result is the number of bytes written.
+ * Use whenDone() to be told on the EDT when the save is over.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class DocumentFileSaver extends SwingWorker<Long, Void> {
+
+    private static final int DEFAULT_CHUNK_CHARS = 64 * 1024;
+    private static final int MAX_UNLOCKED_ATTEMPTS = 3;
+
+    private final Document document;
+    private final Path path;
+    private final Charset charset;
+    private final int chunkChars;
+    private final Segment segment = new Segment();
+
+    /**
+     * Creates a saver that will write the contents of the given Document to the given file.
+     * Nothing happens until execute() is invoked.
+     *
+     * @param document The Document to save.
+     * @param path     The file to write. Will be overwritten if it exists.
+     * @param charset  The character encoding to use.
+     */
+    public DocumentFileSaver(Document document, Path path, Charset charset) {
+        this(document, path, charset, DEFAULT_CHUNK_CHARS);
+    }
+
+    DocumentFileSaver(Document document, Path path, Charset charset, int chunkChars) {
+        if (chunkChars < 16) {
+            throw new IllegalArgumentException("Chunk size must be at least 16.");
+        }
+        this.document = document;
+        this.path = path;
+        this.charset = charset;
+        this.chunkChars = chunkChars;
+        segment.setPartialReturn(true);
+    }
+
+    /**
+     * Arranges for the given callback to be invoked on the EDT once this saver is finished,
+     * whether it completed, failed or was cancelled. If it is already finished, the callback
+     * is invoked shortly.
+     *
+     * @param callback The code to run on the EDT when saving is over.
+     * @return This saver.
+     */
+    public DocumentFileSaver whenDone(Runnable callback) {
+        addPropertyChangeListener(event -> {
+            if ("state".equals(event.getPropertyName()) && event.getNewValue() == StateValue.DONE) {
+                callback.run();
+            }
+        });
+        if (isDone()) {
+            SwingUtilities.invokeLater(callback);
+        }
+        return this;
+    }
+
+    @Override
+    protected Long doInBackground() throws Exception {
+        Path target = path.toAbsolutePath();
+        Path tempFile = createSiblingFile(target);
+        try {
+            long bytesWritten;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                bytesWritten = write(channel);
+            }
+            if (isCancelled()) {
+                Files.deleteIfExists(tempFile);
+                return 0L;
+            }
+            if (Files.exists(target)) {
+                try {
+                    Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(target));
+                }
+                catch (UnsupportedOperationException ignored) {
+                    // Not a POSIX file system; the new file gets the default permissions.
+                }
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            setProgress(100);
+            return bytesWritten;
+        }
+        catch (Exception e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates an empty file with a unique name next to the given target. Unlike
+     * Files.createTempFile(), which restricts the file to its owner, this leaves the
+     * permissions to the file system's defaults (the umask, on POSIX systems).
+     */
+    private static Path createSiblingFile(Path target) throws IOException {
+        while (true) {
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36);
+            try {
+                return Files.createFile(target.resolveSibling(target.getFileName() + "." + suffix + ".tmp"));
+            }
+            catch (FileAlreadyExistsException ignored) {
+                // Try another name.
+            }
+        }
+    }
+
+    /**
+     * Writes the Document to the given channel, starting over whenever the Document is
+     * edited in the meantime.
+     */
+    private long write(FileChannel channel) throws IOException, BadLocationException {
+        final AtomicInteger edits = new AtomicInteger();
+        DocumentListener listener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                edits.incrementAndGet();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                edits.incrementAndGet();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        };
+        document.addDocumentListener(listener);
+        try {
+            for (int attempt = 0; attempt < MAX_UNLOCKED_ATTEMPTS; attempt++) {
+                long written = writeSnapshot(channel, edits);
+                if (written >= 0) {
+                    return written;
+                }
+            }
+
+            // Still being edited; take one copy of the whole text under the read lock:
+            final String[] text = {null};
+            final BadLocationException[] failure = {null};
+            document.render(() -> {
+                try {
+                    text[0] = document.getText(0, document.getLength());
+                }
+                catch (BadLocationException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            return writeText(channel, text[0]);
+        }
+        finally {
+            document.removeDocumentListener(listener);
+        }
+    }
+
+    /**
+     * Writes the Document to the given channel from the start, a chunk at a time.
+     * Returns -1 if the Document was edited before the last chunk was copied.
+     */
+    private long writeSnapshot(FileChannel channel, AtomicInteger edits) throws IOException, BadLocationException {
+        channel.truncate(0);
+        channel.position(0);
+        CharsetEncoder encoder = newEncoder();
+        ByteBuffer out = ByteBuffer.allocate((int) (chunkChars * encoder.maxBytesPerChar()));
+        CharBuffer in = CharBuffer.allocate(chunkChars);
+        int expectedEdits = edits.get();
+        int length = document.getLength(); // checked against expectedEdits when the first chunk is copied
+        int position = 0;
+        long written = 0;
+        do {
+            if (isCancelled()) {
+                return written;
+            }
+            int copied = copyChunk(position, Math.min(in.remaining(), length - position), in, edits, expectedEdits);
+            if (copied < 0) {
+                return -1;
+            }
+            position += copied;
+            in.flip();
+            // A high surrogate at the end of the chunk stays in the buffer until its pair arrives:
+            written += encode(encoder, in, out, channel, position >= length);
+            in.compact();
+            setProgress(length == 0 ? 100 : (int) ((long) position * 100 / length));
+        } while (position < length);
+        while (encoder.flush(out).isOverflow()) {
+            written += drain(out, channel);
+        }
+        written += drain(out, channel);
+        return written;
+    }
+
+    /**
+     * Writes the given text to the given channel from the start, a buffer at a time.
+     */
+    private long writeText(FileChannel channel, String text) throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        CharsetEncoder encoder = newEncoder();
+        ByteBuffer out = ByteBuffer.allocate((int) (chunkChars * encoder.maxBytesPerChar()));
+        long written = encode(encoder, CharBuffer.wrap(text), out, channel, true);
+        while (encoder.flush(out).isOverflow()) {
+            written += drain(out, channel);
+        }
+        written += drain(out, channel);
+        setProgress(100);
+        return written;
+    }
+
+    private CharsetEncoder newEncoder() {
+        return charset.newEncoder()
+                      .onMalformedInput(CodingErrorAction.REPLACE)
+                      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Copies the given range of the Document into the given buffer, holding the read lock
+     * only for the copy. Returns the number of characters copied, or -1 if the Document
+     * has been edited since expectedEdits was read.
+     */
+    private int copyChunk(int offset, int count, CharBuffer in, AtomicInteger edits, int expectedEdits)
+            throws BadLocationException {
+        final int[] copied = {-1};
+        final BadLocationException[] failure = {null};
+        document.render(() -> {
+            if (edits.get() != expectedEdits) {
+                return;
+            }
+            try {
+                int total = 0;
+                while (total < count) {
+                    document.getText(offset + total, count - total, segment);
+                    in.put(segment.array, segment.offset, segment.count);
+                    total += segment.count;
+                }
+                copied[0] = total;
+            }
+            catch (BadLocationException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return copied[0];
+    }
+
+    private static long encode(CharsetEncoder encoder, CharBuffer in, ByteBuffer out, FileChannel channel,
+                                boolean endOfInput) throws IOException {
+        long written = 0;
+        while (true) {
+            CoderResult result = encoder.encode(in, out, endOfInput);
+            written += drain(out, channel);
+            if (result.isUnderflow()) {
+                return written;
+            }
+        }
+    }
+
+    private static long drain(ByteBuffer out, FileChannel channel) throws IOException {
+        out.flip();
+        long written = 0;
+        while (out.hasRemaining()) {
+            written += channel.write(out);
+        }
+        out.clear();
+        return written;
+    }
+}
@@ -0,0 +1,89 @@
+package ca.corbett.forms.text;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A Reader that streams the contents of a Swing Document without copying it into a
+ * String first. Text is read directly out of the Document's storage in chunks, using
+ * a Segment with partial return enabled.
+ * <p>
+ * If you read from a background thread, wrap the reading in Document.render() so that
+ * the Document can't be modified while you're reading it.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class DocumentReader extends Reader {
+
+    private final Document document;
+    private final Segment segment = new Segment();
+    private int position;
+    private int mark;
+
+    /**
+     * Creates a Reader over the entire given Document.
+     *
+     * @param document Any Document.
+     */
+    public DocumentReader(Document document) {
+        this.document = document;
+        segment.setPartialReturn(true);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        int remaining = document.getLength() - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        try {
+            document.getText(position, Math.min(length, remaining), segment);
+        }
+        catch (BadLocationException e) {
+            throw new IOException("Document was modified while being read.", e);
+        }
+        System.arraycopy(segment.array, segment.offset, buffer, offset, segment.count);
+        position += segment.count;
+        return segment.count;
+    }
+
+    @Override
+    public long skip(long n) {
+        int skipped = (int) Math.max(0, Math.min(n, document.getLength() - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() {
+        return true;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) {
+        mark = position;
+    }
+
+    @Override
+    public void reset() {
+        position = mark;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
@@ -0,0 +1,284 @@
+package ca.corbett.forms.text;
+
+import javax.swing.UIManager;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DocumentFilter;
+import java.util.Arrays;
+
+/**
+ * A fixed-length input mask, such as "(###) ###-####" for a phone number or "AA-####"
+ * for a part code. The mask is compiled once into a table of slots, one per character
+ * position, and a DocumentFilter created by createDocumentFilter() then checks each
+ * typed or pasted character against the table entry for its position. Each character
+ * therefore costs constant time to accept or reject, and a paste is handled in a single
+ * pass, no matter how long the text is.
+ * <p>
+ * The following characters have special meaning in a mask:
+ * </p>
+ * <ul>
+ *     <li><b>#</b> - any digit</li>
+ *     <li><b>A</b> - any letter</li>
+ *     <li><b>U</b> - any letter, converted to upper case</li>
+ *     <li><b>L</b> - any letter, converted to lower case</li>
+ *     <li><b>*</b> - any letter or digit</li>
+ *     <li><b>?</b> - any character</li>
+ *     <li><b>\</b> - treat the next character as a literal</li>
+ * </ul>
+ * <p>
+ * Every other character is a literal. Literals are filled in automatically as the user
+ * types, but typing or pasting them explicitly also works, so both "5551234567" and
+ * "(555) 123-4567" can be pasted into a phone number mask.
+ * </p>
+ * <p>
+ * The filtered Document always holds a valid prefix of the mask, so the mask is complete
+ * exactly when the text is as long as the mask. Typing overwrites from the caret, as with
+ * most masked inputs, and deleting is only allowed at the end of the text, because removing
+ * characters from the middle would shift the rest of the text into the wrong slots.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class InputMask {
+
+    private static final byte LITERAL = 0;
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 2;
+    private static final byte UPPER = 3;
+    private static final byte LOWER = 4;
+    private static final byte ALPHANUMERIC = 5;
+    private static final byte ANY = 6;
+
+    private final String pattern;
+    private final byte[] slotTypes;
+    private final char[] literals;
+
+    private InputMask(String pattern, byte[] slotTypes, char[] literals) {
+        this.pattern = pattern;
+        this.slotTypes = slotTypes;
+        this.literals = literals;
+    }
+
+    /**
+     * Compiles the given mask pattern. See the class documentation for the syntax.
+     *
+     * @param pattern A mask pattern, such as "(###) ###-####".
+     * @return A compiled InputMask.
+     * @throws IllegalArgumentException If the pattern is empty or ends with an unescaped backslash.
+     */
+    public static InputMask compile(String pattern) {
+        byte[] types = new byte[pattern.length()];
+        char[] literals = new char[pattern.length()];
+        int length = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            byte type;
+            switch (c) {
+                case '#':
+                    type = DIGIT;
+                    break;
+                case 'A':
+                    type = LETTER;
+                    break;
+                case 'U':
+                    type = UPPER;
+                    break;
+                case 'L':
+                    type = LOWER;
+                    break;
+                case '*':
+                    type = ALPHANUMERIC;
+                    break;
+                case '?':
+                    type = ANY;
+                    break;
+                case '\\':
+                    if (++i == pattern.length()) {
+                        throw new IllegalArgumentException("Input mask ends with an unescaped backslash: " + pattern);
+                    }
+                    c = pattern.charAt(i);
+                    type = LITERAL;
+                    break;
+                default:
+                    type = LITERAL;
+                    break;
+            }
+            types[length] = type;
+            literals[length] = c;
+            length++;
+        }
+        if (length == 0) {
+            throw new IllegalArgumentException("Input mask must not be empty.");
+        }
+        return new InputMask(pattern, Arrays.copyOf(types, length), Arrays.copyOf(literals, length));
+    }
+
+    /**
+     * Returns the pattern that this mask was compiled from.
+     *
+     * @return The mask pattern.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the length of a complete value for this mask, including literals.
+     *
+     * @return The mask length.
+     */
+    public int getLength() {
+        return slotTypes.length;
+    }
+
+    /**
+     * Reports whether the given text completely fills this mask. Text that was entered
+     * through this mask's DocumentFilter is always a valid prefix of the mask, so only its
+     * length has to be checked, which makes this a constant-time test.
+     *
+     * @param text Text from a Document filtered by this mask.
+     * @return True if the text fills the mask.
+     */
+    public boolean isComplete(CharSequence text) {
+        return text.length() == slotTypes.length;
+    }
+
+    /**
+     * Reports whether the given text could be typed or pasted into an empty field with this mask.
+     * The text does not have to fill the mask completely.
+     *
+     * @param text Any text.
+     * @return True if the mask would accept the text.
+     */
+    public boolean accepts(CharSequence text) {
+        return conform(0, text, 0) != null;
+    }
+
+    /**
+     * Fits the given input into this mask starting at the given position, filling in literals
+     * as needed. If the input ends at or past the end of the existing text, any literals that
+     * immediately follow it are filled in too.
+     *
+     * @param position       The mask position at which the input starts.
+     * @param input          The characters typed or pasted.
+     * @param existingLength The length of the text that will remain in the Document.
+     * @return The characters to write starting at position, or null if the input doesn't fit.
+     */
+    String conform(int position, CharSequence input, int existingLength) {
+        StringBuilder out = new StringBuilder(input.length() + 4);
+        int slot = position;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            while (slot < slotTypes.length && slotTypes[slot] == LITERAL && literals[slot] != c) {
+                out.append(literals[slot++]);
+            }
+            if (slot >= slotTypes.length) {
+                return null;
+            }
+            char accepted = accept(slot, c);
+            if (accepted == 0) {
+                return null;
+            }
+            out.append(accepted);
+            slot++;
+        }
+        if (slot >= existingLength) {
+            while (slot < slotTypes.length && slotTypes[slot] == LITERAL) {
+                out.append(literals[slot++]);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns the character to store in the given slot for the given input character,
+     * or 0 if the slot doesn't accept that character.
+     */
+    private char accept(int slot, char c) {
+        switch (slotTypes[slot]) {
+            case LITERAL:
+                return c == literals[slot] ? c : 0;
+            case DIGIT:
+                return Character.isDigit(c) ? c : 0;
+            case LETTER:
+                return Character.isLetter(c) ? c : 0;
+            case UPPER:
+                return Character.isLetter(c) ? Character.toUpperCase(c) : 0;
+            case LOWER:
+                return Character.isLetter(c) ? Character.toLowerCase(c) : 0;
+            case ALPHANUMERIC:
+                return Character.isLetterOrDigit(c) ? c : 0;
+            default:
+                return c;
+        }
+    }
+
+    /**
+     * Creates a new DocumentFilter which enforces this mask. Install it on an empty
+     * AbstractDocument; the text of a single-line field is the intended use.
+     *
+     * @return A new DocumentFilter for this mask.
+     */
+    public DocumentFilter createDocumentFilter() {
+        return new MaskFilter();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Enforces the mask on every edit. Inserts and replacements overwrite from their offset,
+     * and removals are only allowed when they run to the end of the text.
+     */
+    private final class MaskFilter extends DocumentFilter {
+
+        @Override
+        public void insertString(FilterBypass fb, int offset, String string, AttributeSet attr) throws BadLocationException {
+            replace(fb, offset, 0, string, attr);
+        }
+
+        @Override
+        public void remove(FilterBypass fb, int offset, int length) throws BadLocationException {
+            int existingLength = fb.getDocument().getLength();
+            if (offset + length < existingLength) {
+                reject();
+                return;
+            }
+            fb.remove(offset, length);
+        }
+
+        @Override
+        public void replace(FilterBypass fb, int offset, int length, String text, AttributeSet attrs) throws BadLocationException {
+            int existingLength = fb.getDocument().getLength();
+            String input = text == null ? "" : text;
+            if (input.isEmpty() && offset + length >= existingLength) {
+                // Clearing everything from here to the end, e.g. setText(""); don't fill in literals:
+                fb.remove(offset, existingLength - offset);
+                return;
+            }
+            // If the selection runs to the end, the text will end where our input does:
+            int remainingLength = offset + length >= existingLength ? offset : existingLength;
+            String conformed = conform(offset, input, remainingLength);
+            if (conformed == null) {
+                reject();
+                return;
+            }
+            int end = offset + conformed.length();
+            if (end < offset + length && offset + length < existingLength) {
+                // replacing a selection in the middle with something shorter would leave a hole:
+                reject();
+                return;
+            }
+            // Overwrite whatever we cover, and if the selection ran to the end, drop the rest of it:
+            int replaced = Math.min(existingLength - offset, Math.max(length, conformed.length()));
+            fb.replace(offset, replaced, conformed, attrs);
+        }
+
+        private void reject() {
+            UIManager.getLookAndFeel().provideErrorFeedback(null);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package ca.corbett.forms.text;
+
+import ca.corbett.forms.validators.LineValidator;
+import ca.corbett.forms.validators.ValidationResult;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.Highlighter;
+import javax.swing.text.JTextComponent;
+import javax.swing.text.Position;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Runs a set of LineValidators over the lines of a text component, and keeps the results
+ * up to date incrementally as the text is edited. Only the lines touched by each edit are
+ * re-validated, so the cost of a keystroke depends on the length of the edited line and
+ * not on the size of the document.
+ * <p>
+ * Invalid lines are remembered in a TreeMap keyed by a Position at the start of each line.
+ * The Document moves Positions automatically as text is inserted and removed above them,
+ * and never changes their order, so entries never need to be renumbered, and finding the
+ * entries for the lines touched by an edit is a logarithmic lookup. The highlights are
+ * painted straight from that map by a single Highlighter entry, which only looks at the
+ * lines inside the area being painted, rather than registering one highlight per invalid
+ * line with the text component's Highlighter.
+ * </p>
+ * <p>
+ * Like the rest of Swing, this class is not thread safe, and should be used on the EDT.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class LineValidationTracker {
+
+    /**
+     * The default color used to highlight invalid lines.
+     */
+    public static final Color DEFAULT_HIGHLIGHT_COLOR = new Color(255, 200, 200);
+
+    private final JTextComponent textComponent;
+    private final List<LineValidator> validators = new ArrayList<>();
+    private final NavigableMap<Position, String> invalidLines =
+            new TreeMap<>(Comparator.comparingInt(Position::getOffset));
+    private Color highlightColor = DEFAULT_HIGHLIGHT_COLOR;
+    private Object highlightTag;
+
+    private final DocumentListener documentListener = new DocumentListener() {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            revalidate(e.getOffset(), e.getOffset() + e.getLength());
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            revalidate(e.getOffset(), e.getOffset());
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            // attribute changes don't affect the text
+        }
+    };
+
+    /**
+     * Creates a LineValidationTracker for the given text component. The tracker
+     * does nothing until at least one LineValidator is added.
+     *
+     * @param textComponent The text component whose lines should be validated.
+     */
+    public LineValidationTracker(JTextComponent textComponent) {
+        this.textComponent = textComponent;
+        textComponent.getDocument().addDocumentListener(documentListener);
+        Highlighter highlighter = textComponent.getHighlighter();
+        if (highlighter != null) {
+            try {
+                highlightTag = highlighter.addHighlight(0, 0, new InvalidLinePainter());
+            }
+            catch (BadLocationException e) {
+                throw new IllegalStateException(e); // offset 0 always exists
+            }
+        }
+    }
+
+    /**
+     * Adds a LineValidator, and re-validates every line in the document.
+     *
+     * @param validator The LineValidator to add.
+     */
+    public void addLineValidator(LineValidator validator) {
+        if (!validators.contains(validator)) {
+            validators.add(validator);
+            revalidateAll();
+        }
+    }
+
+    /**
+     * Removes a LineValidator, and re-validates every line in the document.
+     *
+     * @param validator The LineValidator to remove.
+     */
+    public void removeLineValidator(LineValidator validator) {
+        if (validators.remove(validator)) {
+            revalidateAll();
+        }
+    }
+
+    /**
+     * Returns the number of LineValidators currently registered.
+     *
+     * @return A count of line validators.
+     */
+    public int getLineValidatorCount() {
+        return validators.size();
+    }
+
+    /**
+     * Sets the color used to highlight invalid lines. Existing highlights are updated.
+     *
+     * @param color The new highlight color.
+     */
+    public void setHighlightColor(Color color) {
+        highlightColor = color;
+        textComponent.repaint();
+    }
+
+    /**
+     * Returns the number of lines that are currently invalid.
+     *
+     * @return A count of invalid lines.
+     */
+    public int getInvalidLineCount() {
+        return invalidLines.size();
+    }
+
+    /**
+     * Returns the zero-based indexes of all lines that are currently invalid, in order.
+     *
+     * @return An array of line indexes, which is empty if all lines are valid.
+     */
+    public int[] getInvalidLineIndexes() {
+        Element root = textComponent.getDocument().getDefaultRootElement();
+        int[] indexes = new int[invalidLines.size()];
+        int i = 0;
+        for (Position start : invalidLines.keySet()) {
+            indexes[i++] = root.getElementIndex(start.getOffset());
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns an aggregate result for the whole document. If any line is invalid, the
+     * message identifies the first invalid line and how many others there are.
+     *
+     * @return A ValidationResult for the document as a whole.
+     */
+    public ValidationResult getResult() {
+        if (invalidLines.isEmpty()) {
+            return new ValidationResult();
+        }
+        Map.Entry<Position, String> first = invalidLines.firstEntry();
+        int lineNumber = textComponent.getDocument().getDefaultRootElement().getElementIndex(first.getKey().getOffset()) + 1;
+        String message = "Line " + lineNumber + ": " + first.getValue();
+        int others = invalidLines.size() - 1;
+        if (others > 0) {
+            message += " (and " + others + " more invalid line" + (others == 1 ? "" : "s") + ")";
+        }
+        return new ValidationResult(false, message);
+    }
+
+    /**
+     * Stops tracking the text component, and removes all highlights.
+     */
+    public void dispose() {
+        textComponent.getDocument().removeDocumentListener(documentListener);
+        if (highlightTag != null) {
+            textComponent.getHighlighter().removeHighlight(highlightTag);
+            highlightTag = null;
+        }
+        clear();
+    }
+
+    private void revalidateAll() {
+        clear();
+        Document document = textComponent.getDocument();
+        revalidate(0, document.getLength());
+    }
+
+    private void clear() {
+        if (!invalidLines.isEmpty()) {
+            invalidLines.clear();
+            textComponent.repaint();
+        }
+    }
+
+    /**
+     * Discards and recomputes the results for every line that intersects the given range.
+     */
+    private void revalidate(int startOffset, int endOffset) {
+        if (validators.isEmpty()) {
+            return;
+        }
+        Document document = textComponent.getDocument();
+        Element root = document.getDefaultRootElement();
+        int firstLine = root.getElementIndex(startOffset);
+        int lastLine = root.getElementIndex(endOffset);
+        int rangeStart = root.getElement(firstLine).getStartOffset();
+        int rangeEnd = root.getElement(lastLine).getEndOffset();
+
+        // Throw away any stale entries for these lines. Entries for lines removed by
+        // this edit have had their Positions collapsed into this range by the Document:
+        Map<Position, String> stale = invalidLines.subMap(offset(rangeStart), true, offset(rangeEnd), false);
+        boolean changed = !stale.isEmpty();
+        stale.clear();
+
+        for (int lineIndex = firstLine; lineIndex <= lastLine; lineIndex++) {
+            Element line = root.getElement(lineIndex);
+            int start = line.getStartOffset();
+            int end = Math.min(line.getEndOffset() - 1, document.getLength());
+            String message = validateLine(new DocumentCharSequence(document, start, end));
+            if (message != null) {
+                try {
+                    invalidLines.put(document.createPosition(start), message);
+                    changed = true;
+                }
+                catch (BadLocationException e) {
+                    throw new IllegalStateException("Line " + lineIndex + " is out of range.", e);
+                }
+            }
+        }
+        if (changed) {
+            repaintRange(rangeStart, Math.min(rangeEnd, document.getLength()));
+        }
+    }
+
+    /**
+     * Repaints the rows of the text component that show the given range of the document.
+     */
+    private void repaintRange(int startOffset, int endOffset) {
+        try {
+            Rectangle2D first = textComponent.modelToView2D(startOffset);
+            Rectangle2D last = textComponent.modelToView2D(endOffset);
+            if (first == null || last == null) {
+                return; // not laid out yet, so there is nothing on screen to update
+            }
+            int top = (int) first.getMinY();
+            textComponent.repaint(0, top, textComponent.getWidth(), (int) Math.ceil(last.getMaxY()) - top);
+        }
+        catch (BadLocationException e) {
+            textComponent.repaint();
+        }
+    }
+
+    /**
+     * Runs all validators against the given line, and returns the first error message, or null.
+     */
+    private String validateLine(CharSequence line) {
+        for (LineValidator validator : validators) {
+            ValidationResult result = validator.validateLine(line);
+            if (!result.isValid()) {
+                return result.getMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a fixed Position for looking up map entries by offset.
+     */
+    private static Position offset(int offset) {
+        return () -> offset;
+    }
+
+    /**
+     * Paints a full-width band behind each invalid line that is inside the clip area.
+     * It is registered as a single highlight, and ignores the highlight's own range.
+     */
+    private final class InvalidLinePainter implements Highlighter.HighlightPainter {
+        @Override
+        public void paint(Graphics g, int p0, int p1, Shape bounds, JTextComponent c) {
+            if (invalidLines.isEmpty()) {
+                return;
+            }
+            Rectangle area = g.getClipBounds() != null ? g.getClipBounds() : bounds.getBounds();
+            Document document = c.getDocument();
+            Element root = document.getDefaultRootElement();
+            int firstVisible = c.viewToModel2D(new Point(area.x, area.y));
+            int lastVisible = c.viewToModel2D(new Point(area.x + area.width, area.y + area.height));
+            if (firstVisible < 0 || lastVisible < 0) {
+                return;
+            }
+            int from = root.getElement(root.getElementIndex(firstVisible)).getStartOffset();
+            int to = root.getElement(root.getElementIndex(lastVisible)).getEndOffset();
+            Rectangle fullWidth = bounds.getBounds();
+            g.setColor(highlightColor);
+            try {
+                for (Position start : invalidLines.subMap(offset(from), true, offset(to), false).keySet()) {
+                    Element line = root.getElement(root.getElementIndex(start.getOffset()));
+                    Rectangle2D top = c.modelToView2D(line.getStartOffset());
+                    Rectangle2D bottom = c.modelToView2D(Math.min(line.getEndOffset() - 1, document.getLength()));
+                    if (top != null && bottom != null) {
+                        int y = (int) top.getMinY();
+                        g.fillRect(fullWidth.x, y, fullWidth.width, (int) Math.ceil(bottom.getMaxY()) - y);
+                    }
+                }
+            }
+            catch (BadLocationException e) {
+                // The document changed under us; the next paint will be correct.
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ca.corbett.forms.text;
+
+/**
+ * Can be registered with a TextField to be notified of each individual edit made to its
+ * text. Unlike value changed actions, which only say "something changed", listeners
+ * receive a TextDelta describing exactly which range of text was inserted or removed,
+ * so they can react to the edit without reading the entire field contents.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface TextChangeListener {
+
+    /**
+     * Invoked after each edit to the text.
+     *
+     * @param delta A description of the edit.
+     */
+    void textChanged(TextDelta delta);
+}
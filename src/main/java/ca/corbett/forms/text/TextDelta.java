@@ -0,0 +1,76 @@
+package ca.corbett.forms.text;
+
+import javax.swing.text.Document;
+
+/**
+ * Describes a single edit made to a text Document: either an insertion of some text
+ * at a given offset, or a removal of some number of characters at a given offset.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public final class TextDelta {
+
+    /**
+     * The kinds of edit that a TextDelta can describe.
+     */
+    public enum Type {
+        INSERT,
+        REMOVE
+    }
+
+    private final Document document;
+    private final Type type;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Creates a new TextDelta.
+     *
+     * @param document The Document that was edited.
+     * @param type     Whether text was inserted or removed.
+     * @param offset   The offset at which the edit took place.
+     * @param length   The number of characters inserted or removed.
+     */
+    public TextDelta(Document document, Type type, int offset, int length) {
+        this.document = document;
+        this.type = type;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public Document getDocument() {
+        return document;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * For an INSERT, returns a view of the text that was inserted, without copying it.
+     * For a REMOVE, returns an empty sequence, as the removed text is no longer available.
+     * The returned view is only valid until the Document is next modified.
+     *
+     * @return The inserted text, or an empty CharSequence.
+     */
+    public CharSequence getInsertedText() {
+        if (type == Type.REMOVE) {
+            return "";
+        }
+        return new DocumentCharSequence(document, offset, offset + length);
+    }
+
+    @Override
+    public String toString() {
+        return type + "@" + offset + "+" + length;
+    }
+}
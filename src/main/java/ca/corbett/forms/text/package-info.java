@@ -0,0 +1,7 @@
+/**
+ * This package contains text-handling support classes used by TextField and other
+ * text-based form fields. Most of these classes work directly on a Swing Document,
+ * so that large text content can be read, streamed, searched and validated without
+ * first copying the whole thing into a String.
+ */
+package ca.corbett.forms.text;
@@ -3,8 +3,6 @@ package ca.corbett.forms.validators;
 import ca.corbett.forms.fields.FileField;
 import ca.corbett.forms.fields.FormField;
 
-import java.io.File;
-
 /**
  * A validator for use with FileField to ensure that the selected File
  * is in a location that can be written. Specifically, if you're browsing
@@ -16,6 +14,8 @@ import java.io.File;
  */
 public class FileMustBeCreatableValidator extends FieldValidator<FormField> {
 
+  private static final PathValidator CREATABLE = PathValidator.creatable();
+
   public FileMustBeCreatableValidator(FileField field) {
     super(field);
   }
@@ -26,19 +26,13 @@ public class FileMustBeCreatableValidator extends FieldValidator<FormField> {
     
     // Blank values may be permissible:
     boolean allowBlank = ourField.isAllowBlankValues();
-    if (ourField.getFile() == null) {
+    if (ourField.getPath() == null) {
+      if (!ourField.isBlank()) {
+        return new ValidationResult(); // unparseable path: FileMustExistValidator or FileMustNotExistValidator reports it
+      }
       return allowBlank ? new ValidationResult() : new ValidationResult(false, "Selected location must be writable.");
     }
     
-    File file = ourField.getFile().getParentFile();
-    if (file == null) {
-      file = ourField.getFile(); // wonky case where someone selected the root directory
-    }
-    
-    if (! file.canWrite()) {
-      return new ValidationResult(false, "Selected location must be writable.");
-    }
-    
-    return new ValidationResult();
+    return CREATABLE.validatePath(ourField.getPath());
   }
 }
@@ -3,8 +3,6 @@ package ca.corbett.forms.validators;
 import ca.corbett.forms.fields.FileField;
 import ca.corbett.forms.fields.FormField;
 
-import java.io.File;
-
 /**
  * A FieldValidator that ensures that the chosen Directory can be read.
  * 
@@ -13,6 +11,8 @@ import java.io.File;
  */
 public class FileMustBeReadableValidator extends FieldValidator<FormField> {
 
+  private static final PathValidator READABLE = PathValidator.readable();
+
   public FileMustBeReadableValidator(FileField field) {
     super(field);
   }
@@ -23,15 +23,13 @@ public class FileMustBeReadableValidator extends FieldValidator<FormField> {
 
     // Blank values may be permissable:
     boolean allowBlank = ourField.isAllowBlankValues();
-    if (ourField.getFile() == null) {
+    if (ourField.getPath() == null) {
+      if (!ourField.isBlank()) {
+        return new ValidationResult(); // unparseable path: FileMustExistValidator or FileMustNotExistValidator reports it
+      }
       return allowBlank ? new ValidationResult() : new ValidationResult(false, "Selected location must be readable.");
     }
 
-    File dir = ourField.getFile();
-    if (! dir.canRead()) {
-      return new ValidationResult(false, "Selected location must be readable.");
-    }
-    
-    return new ValidationResult();
+    return READABLE.validatePath(ourField.getPath());
   }
 }
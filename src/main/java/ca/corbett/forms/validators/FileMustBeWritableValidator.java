@@ -3,8 +3,6 @@ package ca.corbett.forms.validators;
 import ca.corbett.forms.fields.FileField;
 import ca.corbett.forms.fields.FormField;
 
-import java.io.File;
-
 /**
  * A FieldValidator that ensures that the chosen File can be written.
  * 
@@ -13,6 +11,8 @@ import java.io.File;
  */
 public class FileMustBeWritableValidator extends FieldValidator<FormField> {
 
+  private static final PathValidator WRITABLE = PathValidator.writable();
+
   public FileMustBeWritableValidator(FileField field) {
     super(field);
   }
@@ -23,15 +23,13 @@ public class FileMustBeWritableValidator extends FieldValidator<FormField> {
 
     // Blank values may be permissible:
     boolean allowBlank = ourField.isAllowBlankValues();
-    if (ourField.getFile() == null) {
+    if (ourField.getPath() == null) {
+      if (!ourField.isBlank()) {
+        return new ValidationResult(); // unparseable path: FileMustExistValidator or FileMustNotExistValidator reports it
+      }
       return allowBlank ? new ValidationResult() : new ValidationResult(false, "Selected location must be writable.");
     }
 
-    File file = ((FileField)field).getFile();
-    if (file == null || ! file.canWrite()) {
-      return new ValidationResult(false, "Selected location must be writable.");
-    }
-    
-    return new ValidationResult();
+    return WRITABLE.validatePath(ourField.getPath());
   }
 }
@@ -3,8 +3,6 @@ package ca.corbett.forms.validators;
 import ca.corbett.forms.fields.FileField;
 import ca.corbett.forms.fields.FormField;
 
-import java.io.File;
-
 /**
  * A FieldValidator that ensures that the chosen Directory exists.
  * 
@@ -13,6 +11,10 @@ import java.io.File;
  */
 public class FileMustExistValidator extends FieldValidator<FormField> {
 
+  private static final PathValidator EXISTS = PathValidator.exists();
+  private static final PathValidator EXISTING_FILE = PathValidator.existingFile();
+  private static final PathValidator EXISTING_DIRECTORY = PathValidator.existingDirectory();
+
   public FileMustExistValidator(FileField field) {
     super(field);
   }
@@ -23,20 +25,19 @@ public class FileMustExistValidator extends FieldValidator<FormField> {
 
     // Blank values may be permissible:
     boolean allowBlank = ourField.isAllowBlankValues();
-    if (ourField.getFile() == null) {
+    if (ourField.getPath() == null) {
+      if (!ourField.isBlank()) {
+        return new ValidationResult(false, "Not a valid path.");
+      }
       return allowBlank ? new ValidationResult() : new ValidationResult(false, "Value cannot be blank.");
     }
 
-    File file = ourField.getFile();
-    if (! file.exists()) {
-      return new ValidationResult(false, "File or directory must exist.");
-    }
-    if (ourField.getSelectionType() == FileField.SelectionType.ExistingDirectory && ! file.isDirectory()) {
-      return new ValidationResult(false, "Input must be a directory, not a file.");
+    if (ourField.getSelectionType() == FileField.SelectionType.ExistingDirectory) {
+      return EXISTING_DIRECTORY.validatePath(ourField.getPath());
     }
-    if (ourField.getSelectionType() == FileField.SelectionType.ExistingFile && file.isDirectory()) {
-      return new ValidationResult(false, "Input must be a file, not a directory.");
+    if (ourField.getSelectionType() == FileField.SelectionType.ExistingFile) {
+      return EXISTING_FILE.validatePath(ourField.getPath());
     }
-    return new ValidationResult();
+    return EXISTS.validatePath(ourField.getPath());
   }
 }
@@ -3,8 +3,6 @@ package ca.corbett.forms.validators;
 import ca.corbett.forms.fields.FileField;
 import ca.corbett.forms.fields.FormField;
 
-import java.io.File;
-
 /**
  * The opposite of FileMustExistValidator, this one ensures that the selected file or directory
  * does not already exist (such as for a save dialog).
@@ -14,6 +12,8 @@ import java.io.File;
  */
 public class FileMustNotExistValidator extends FieldValidator<FormField> {
 
+  private static final PathValidator NOT_EXISTS = PathValidator.notExists();
+
   public FileMustNotExistValidator(FileField field) {
     super(field);
   }
@@ -24,14 +24,13 @@ public class FileMustNotExistValidator extends FieldValidator<FormField> {
 
     // Blank values may be permissible:
     boolean allowBlank = ourField.isAllowBlankValues();
-    if (ourField.getFile() == null) {
+    if (ourField.getPath() == null) {
+      if (!ourField.isBlank()) {
+        return new ValidationResult(false, "Not a valid path.");
+      }
       return allowBlank ? new ValidationResult() : new ValidationResult(false, "Value cannot be empty.");
     }
 
-    File file = ourField.getFile();
-    if (file.exists()) {
-      return new ValidationResult(false, "File or directory already exists.");
-    }
-    return new ValidationResult();
+    return NOT_EXISTS.validatePath(ourField.getPath());
   }
 }
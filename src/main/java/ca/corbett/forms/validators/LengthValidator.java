@@ -0,0 +1,56 @@
+package ca.corbett.forms.validators;
+
+import ca.corbett.forms.fields.TextField;
+
+/**
+ * A TextValidator that ensures the length of a TextField's value falls within a given
+ * range. The length is read straight from the field's Document, so this check costs the
+ * same regardless of how much text the field holds.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class LengthValidator extends TextValidator {
+
+    private final int minLength;
+    private final int maxLength;
+
+    /**
+     * Creates a LengthValidator with the given inclusive bounds.
+     *
+     * @param textField The TextField to validate.
+     * @param minLength The minimum allowed length, in characters.
+     * @param maxLength The maximum allowed length, in characters.
+     */
+    public LengthValidator(TextField textField, int minLength, int maxLength) {
+        super(textField);
+        if (minLength < 0 || maxLength < minLength) {
+            throw new IllegalArgumentException("Invalid length range " + minLength + ".." + maxLength);
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Creates a LengthValidator that only enforces a maximum length.
+     *
+     * @param textField The TextField to validate.
+     * @param maxLength The maximum allowed length, in characters.
+     * @return A new LengthValidator with a minimum length of zero.
+     */
+    public static LengthValidator maxLength(TextField textField, int maxLength) {
+        return new LengthValidator(textField, 0, maxLength);
+    }
+
+    @Override
+    protected ValidationResult validate(CharSequence text) {
+        int length = text.length();
+        if (length < minLength) {
+            return new ValidationResult(false, "Value must be at least " + minLength + " characters.");
+        }
+        if (length > maxLength) {
+            return new ValidationResult(false, "Value must be at most " + maxLength + " characters.");
+        }
+        return new ValidationResult();
+    }
+}
@@ -0,0 +1,48 @@
+package ca.corbett.forms.validators;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Validates a single line of text in a multi-line TextField. Unlike a FieldValidator,
+ * which looks at the whole field at once, a LineValidator is only ever shown one line,
+ * so a TextField can re-check just the lines touched by each edit. This is a good fit
+ * for structured text such as CSV rows or key=value settings.
+ * <p>
+ *     Add line validators with TextField.addLineValidator(). Invalid lines are highlighted
+ *     in place, and the field as a whole fails validation while any line is invalid.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface LineValidator {
+
+    /**
+     * Validates the given line. The CharSequence is a view of the field's Document which
+     * does not include the line terminator, and is only valid for the duration of this call.
+     *
+     * @param line The text of a single line.
+     * @return A ValidationResult which describes whether or not the line is valid.
+     */
+    ValidationResult validateLine(CharSequence line);
+
+    /**
+     * Returns a LineValidator that requires each line to entirely match the given pattern.
+     * Blank lines are always allowed. The returned validator reuses a single Matcher, so
+     * like the rest of Swing it should only be used from the EDT.
+     *
+     * @param pattern The pattern that each non-blank line must match.
+     * @param message The validation message for lines that don't match.
+     * @return A new LineValidator.
+     */
+    static LineValidator matching(Pattern pattern, String message) {
+        final Matcher matcher = pattern.matcher("");
+        return line -> {
+            boolean valid = TextValidator.isBlank(line) || matcher.reset(line).matches();
+            matcher.reset("");
+            return valid ? new ValidationResult() : new ValidationResult(false, message);
+        };
+    }
+}
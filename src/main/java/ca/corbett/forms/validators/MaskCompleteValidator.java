@@ -0,0 +1,47 @@
+package ca.corbett.forms.validators;
+
+import ca.corbett.forms.fields.TextField;
+import ca.corbett.forms.text.InputMask;
+
+/**
+ * A TextValidator that ensures a masked TextField has been filled in completely.
+ * Because the mask only ever lets valid characters into the field, this is a simple
+ * length check and costs nothing to run, however often the field is validated.
+ * See TextField.setInputMask().
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class MaskCompleteValidator extends TextValidator {
+
+    private final boolean allowBlank;
+
+    /**
+     * Creates a MaskCompleteValidator for a field that must always be filled in.
+     *
+     * @param textField A TextField with an input mask.
+     */
+    public MaskCompleteValidator(TextField textField) {
+        this(textField, false);
+    }
+
+    /**
+     * Creates a MaskCompleteValidator, optionally allowing the field to be left empty.
+     *
+     * @param textField  A TextField with an input mask.
+     * @param allowBlank If true, an empty field is also considered valid.
+     */
+    public MaskCompleteValidator(TextField textField, boolean allowBlank) {
+        super(textField);
+        this.allowBlank = allowBlank;
+    }
+
+    @Override
+    protected ValidationResult validate(CharSequence text) {
+        InputMask mask = ((TextField)field).getInputMask();
+        if (mask == null || mask.isComplete(text) || (allowBlank && text.length() == 0)) {
+            return new ValidationResult();
+        }
+        return new ValidationResult(false, "Value must be in format: " + mask.getPattern());
+    }
+}
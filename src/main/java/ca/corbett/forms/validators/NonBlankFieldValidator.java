@@ -1,6 +1,5 @@
 package ca.corbett.forms.validators;
 
-import ca.corbett.forms.fields.FormField;
 import ca.corbett.forms.fields.TextField;
 
 /**
@@ -9,17 +8,16 @@ import ca.corbett.forms.fields.TextField;
  * @author scorbo2
  * @since 2019-11-23
  */
-public class NonBlankFieldValidator extends FieldValidator<FormField> {
+public class NonBlankFieldValidator extends TextValidator {
 
   public NonBlankFieldValidator(TextField formField) {
     super(formField);
   }
   
   @Override
-  public ValidationResult validate() {
+  protected ValidationResult validate(CharSequence text) {
     ValidationResult result = new ValidationResult();
-    String currentStr = ((TextField)field).getText();
-    if (currentStr.trim().isEmpty()) {
+    if (isBlank(text)) {
       result.setResult(false, "Value cannot be blank.");
     }
     return result;
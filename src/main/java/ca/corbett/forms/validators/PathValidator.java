@@ -0,0 +1,136 @@
+package ca.corbett.forms.validators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Validates a single file system Path. Unlike a FieldValidator, a PathValidator isn't tied
+ * to a field, so the same check can be applied to the one path in a FileField or to every
+ * path in a MultiFileField. Implementations must be safe to call from any thread, since
+ * MultiFileField runs them in parallel on background threads.
+ * <p>
+ *     The static factory methods cover the checks that the FileMust... validators perform,
+ *     with the same messages. Those validators delegate to these.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface PathValidator {
+
+    /**
+     * Validates the given path.
+     *
+     * @param path The path to check. Never null.
+     * @return A ValidationResult which describes whether or not the path is valid.
+     */
+    ValidationResult validatePath(Path path);
+
+    /**
+     * Returns a PathValidator that requires the path to exist, as either a file or a directory.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator exists() {
+        return path -> Files.exists(path)
+                ? new ValidationResult()
+                : new ValidationResult(false, "File or directory must exist.");
+    }
+
+    /**
+     * Returns a PathValidator that requires the path to exist and not be a directory.
+     * This costs a single attribute read.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator existingFile() {
+        return path -> {
+            BasicFileAttributes attributes = readAttributes(path);
+            if (attributes == null) {
+                return new ValidationResult(false, "File or directory must exist.");
+            }
+            return attributes.isDirectory()
+                    ? new ValidationResult(false, "Input must be a file, not a directory.")
+                    : new ValidationResult();
+        };
+    }
+
+    /**
+     * Returns a PathValidator that requires the path to exist and be a directory.
+     * This costs a single attribute read.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator existingDirectory() {
+        return path -> {
+            BasicFileAttributes attributes = readAttributes(path);
+            if (attributes == null) {
+                return new ValidationResult(false, "File or directory must exist.");
+            }
+            return attributes.isDirectory()
+                    ? new ValidationResult()
+                    : new ValidationResult(false, "Input must be a directory, not a file.");
+        };
+    }
+
+    /**
+     * Returns a PathValidator that requires the path to not exist yet.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator notExists() {
+        return path -> Files.exists(path)
+                ? new ValidationResult(false, "File or directory already exists.")
+                : new ValidationResult();
+    }
+
+    /**
+     * Returns a PathValidator that requires the path to be readable.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator readable() {
+        return path -> Files.isReadable(path)
+                ? new ValidationResult()
+                : new ValidationResult(false, "Selected location must be readable.");
+    }
+
+    /**
+     * Returns a PathValidator that requires the path to be writable.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator writable() {
+        return path -> Files.isWritable(path)
+                ? new ValidationResult()
+                : new ValidationResult(false, "Selected location must be writable.");
+    }
+
+    /**
+     * Returns a PathValidator that requires the path's parent directory to be writable,
+     * so that a new file can be created there. For a root directory, which has no parent,
+     * the root itself must be writable.
+     *
+     * @return A PathValidator.
+     */
+    static PathValidator creatable() {
+        return path -> {
+            Path location = path.getParent() == null ? path : path.getParent();
+            return Files.isWritable(location)
+                    ? new ValidationResult()
+                    : new ValidationResult(false, "Selected location must be writable.");
+        };
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ca.corbett.forms.validators;
+
+import ca.corbett.forms.fields.TextField;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A TextValidator that ensures a TextField's entire value matches a regular expression.
+ * The pattern is matched directly against the field's Document, and a single Matcher
+ * is reused across validations, so no copy of the text is made.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class PatternValidator extends TextValidator {
+
+    private final Matcher matcher;
+    private final String message;
+
+    /**
+     * Creates a PatternValidator.
+     *
+     * @param textField The TextField to validate.
+     * @param pattern   The pattern that the entire value must match.
+     * @param message   The validation message to show when the value doesn't match,
+     *                  for example "Value must be a postal code like A1A 1A1."
+     */
+    public PatternValidator(TextField textField, Pattern pattern, String message) {
+        super(textField);
+        this.matcher = pattern.matcher("");
+        this.message = message;
+    }
+
+    @Override
+    protected ValidationResult validate(CharSequence text) {
+        boolean matches = matcher.reset(text).matches();
+        matcher.reset(""); // don't hold on to the Document view
+        return matches ? new ValidationResult() : new ValidationResult(false, message);
+    }
+}
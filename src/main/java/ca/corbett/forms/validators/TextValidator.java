@@ -0,0 +1,82 @@
+package ca.corbett.forms.validators;
+
+import ca.corbett.forms.fields.FormField;
+import ca.corbett.forms.fields.TextField;
+
+/**
+ * A base class for validators that check the text of a TextField. Rather than
+ * calling getText(), which copies the entire contents of the field into a new String,
+ * subclasses are handed a CharSequence view that reads directly out of the field's
+ * underlying Document. Blank checks, length limits and pattern matching can therefore
+ * run without allocating, no matter how large the text is.
+ * <p>
+ *     The static helpers in this class, such as isBlank() and trimStart()/trimEnd(),
+ *     work directly on a CharSequence and follow the same rules as String.trim(), so
+ *     that subclasses can do the common things without materializing the text.
+ * </p>
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public abstract class TextValidator extends FieldValidator<FormField> {
+
+    public TextValidator(TextField textField) {
+        super(textField);
+    }
+
+    @Override
+    public final ValidationResult validate() {
+        return validate(((TextField)field).getCharSequence());
+    }
+
+    /**
+     * Validates the given text. The CharSequence is a view of the field's Document and
+     * is only valid for the duration of this call; don't hold on to it.
+     *
+     * @param text The current contents of the field.
+     * @return A ValidationResult which describes whether or not the text is valid.
+     */
+    protected abstract ValidationResult validate(CharSequence text);
+
+    /**
+     * Reports whether the given text is empty or consists only of whitespace,
+     * using the same definition of whitespace as String.trim().
+     *
+     * @param text Any CharSequence.
+     * @return True if the text is blank.
+     */
+    public static boolean isBlank(CharSequence text) {
+        return trimStart(text) == text.length();
+    }
+
+    /**
+     * Returns the index of the first character in the given text that String.trim()
+     * would keep, or the length of the text if it is blank.
+     *
+     * @param text Any CharSequence.
+     * @return The start index of the trimmed text.
+     */
+    public static int trimStart(CharSequence text) {
+        int length = text.length();
+        int index = 0;
+        while (index < length && text.charAt(index) <= ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index just past the last character in the given text that String.trim()
+     * would keep, or zero if the text is blank.
+     *
+     * @param text Any CharSequence.
+     * @return The end index of the trimmed text.
+     */
+    public static int trimEnd(CharSequence text) {
+        int index = text.length();
+        while (index > 0 && text.charAt(index - 1) <= ' ') {
+            index--;
+        }
+        return index;
+    }
+}
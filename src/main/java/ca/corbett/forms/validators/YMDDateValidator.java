@@ -12,7 +12,14 @@ import java.text.SimpleDateFormat;
  * @author scorbo2
  * @since 2019-11-24
  */
-public class YMDDateValidator extends FieldValidator<TextField> {
+public class YMDDateValidator extends TextValidator {
+
+  /**
+   * Only this many characters of the trimmed value are handed to the date parser,
+   * which is far more than any date needs, so that a field containing a huge amount
+   * of text is never copied in full.
+   */
+  private static final int MAX_PARSE_LENGTH = 64;
 
   private final boolean allowBlankValues;
   private final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
@@ -27,14 +34,15 @@ public class YMDDateValidator extends FieldValidator<TextField> {
   }
   
   @Override
-  public ValidationResult validate() {
+  protected ValidationResult validate(CharSequence text) {
     ValidationResult result = new ValidationResult();
-    String currentStr = field.getText().trim();
-    if (currentStr.isEmpty() && allowBlankValues) {
+    int start = trimStart(text);
+    int end = trimEnd(text);
+    if (start >= end && allowBlankValues) {
       return result;
     }
     try {
-      format.parse(currentStr);
+      format.parse(text.subSequence(start, Math.max(start, Math.min(end, start + MAX_PARSE_LENGTH))).toString());
     }
     catch (ParseException e) {
       result.setResult(false, "Value must be in format: yyyy-mm-dd");
@@ -10,5 +10,12 @@
  *     To create your own FieldValidator, you must extend the abstract FieldValidator
  *     class and implement the validate() method with your logic.
  * </p>
+ * <p>
+ *     Validators for TextFields should extend TextValidator instead. It hands your
+ *     validate() method a CharSequence view of the field's Document rather than a copy
+ *     of its text, which keeps validation cheap for large, multi-line fields. The
+ *     NonBlankFieldValidator, YMDDateValidator, LengthValidator and PatternValidator
+ *     classes in this package are all built this way.
+ * </p>
  */
 package ca.corbett.forms.validators;
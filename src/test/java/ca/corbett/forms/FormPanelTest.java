@@ -1,13 +1,17 @@
 package ca.corbett.forms;
 
+import ca.corbett.forms.fields.CheckBoxField;
 import ca.corbett.forms.fields.NumberField;
 import ca.corbett.forms.fields.TextField;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FormPanelTest {
 
@@ -42,4 +46,29 @@ class FormPanelTest {
         assertNull(formPanel.getFormField("textField1"));
     }
 
+    @Test
+    public void testSetFieldValues_shouldRebindIdentifiedFields() {
+        TextField textField = new TextField("Text:", 12, 1, true);
+        textField.setIdentifier("text");
+        CheckBoxField checkBox = new CheckBoxField("Check", false);
+        checkBox.setIdentifier("check");
+        TextField unnamed = new TextField("Unnamed:", 12, 1, true);
+        unnamed.setText("untouched");
+        FormPanel formPanel = new FormPanel(List.of(textField, checkBox, unnamed));
+
+        formPanel.setFieldValues(Map.of("text", "row 1", "check", true));
+        assertEquals("row 1", textField.getText());
+        assertTrue(checkBox.isChecked());
+        assertEquals("untouched", unnamed.getText());
+
+        Map<String, Object> values = formPanel.getFieldValues();
+        assertEquals(2, values.size());
+        assertEquals("row 1", values.get("text"));
+        assertEquals(Boolean.TRUE, values.get("check"));
+
+        formPanel.setFieldValues(Map.of("text", "row 2"));
+        assertEquals("row 2", textField.getText());
+        assertTrue(checkBox.isChecked());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package ca.corbett.forms;
+
+import ca.corbett.forms.fields.CheckBoxField;
+import ca.corbett.forms.fields.TextField;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormUndoManagerTest {
+
+    @Test
+    public void testUndoRedo_acrossFields() {
+        TextField textField = new TextField("Text:", 12, 1, true);
+        CheckBoxField checkBox = new CheckBoxField("Check", false);
+        FormUndoManager undoManager = new FormUndoManager(new FormPanel(List.of(textField, checkBox)));
+
+        textField.setText("hello");
+        checkBox.setChecked(true);
+
+        undoManager.undo();
+        assertFalse(checkBox.isChecked());
+        assertEquals("hello", textField.getText());
+
+        undoManager.undo();
+        assertEquals("", textField.getText());
+        assertFalse(undoManager.canUndo());
+
+        undoManager.redo();
+        undoManager.redo();
+        assertEquals("hello", textField.getText());
+        assertTrue(checkBox.isChecked());
+        assertFalse(undoManager.canRedo());
+    }
+
+    @Test
+    public void testTyping_shouldMergeIntoOneEntry() throws BadLocationException {
+        TextField textField = new TextField("Text:", 12, 1, true);
+        FormUndoManager undoManager = new FormUndoManager(new FormPanel(List.of(textField)));
+        Document document = ((JTextComponent) textField.getFieldComponent()).getDocument();
+
+        for (char c : "typing".toCharArray()) {
+            document.insertString(document.getLength(), String.valueOf(c), null);
+        }
+        assertEquals(1, undoManager.getHistorySize());
+
+        undoManager.undo();
+        assertEquals("", textField.getText());
+    }
+
+    @Test
+    public void testReplace_shouldUndoAsOneEntry() throws Exception {
+        TextField textField = new TextField("Text:", 12, 1, true);
+        FormUndoManager undoManager = new FormUndoManager(new FormPanel(List.of(textField)));
+
+        textField.setText("hello");
+        textField.setText("world");
+        assertEquals(2, undoManager.getHistorySize());
+
+        undoManager.undo();
+        assertEquals("hello", textField.getText());
+        undoManager.redo();
+        assertEquals("world", textField.getText());
+
+        // On the EDT, everything done while handling one event is one entry:
+        SwingUtilities.invokeAndWait(() -> {
+            textField.setText("one");
+            textField.setText("two");
+        });
+        assertEquals(3, undoManager.getHistorySize());
+        undoManager.undo();
+        assertEquals("world", textField.getText());
+    }
+
+    @Test
+    public void testHistory_shouldStayWithinLimits() {
+        TextField textField = new TextField("Text:", 12, 4, true);
+        FormUndoManager undoManager = new FormUndoManager(new FormPanel(List.of(textField)), 5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            textField.setText("value " + i);
+        }
+        assertTrue(undoManager.getHistorySize() <= 5);
+        assertTrue(undoManager.getRetainedChars() <= 100);
+
+        // A single edit bigger than the budget can't be kept at all:
+        textField.setText("x".repeat(500));
+        assertTrue(undoManager.getRetainedChars() <= 100);
+    }
+}
@@ -0,0 +1,114 @@
+package ca.corbett.forms.binding;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fields.FormField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A simple timing harness (not a unit test) that compares FormBinder against
+ * binding the same form through plain reflection with Method.invoke().
+ * Run the main() method directly; results are printed to stdout.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class FormBinderBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final String[] TEXT_PROPERTIES = {"a", "b", "c", "d", "e"};
+    private static final String[] NUMBER_PROPERTIES = {"f", "g", "h", "i", "j"};
+
+    public static class Row {
+        private String a, b, c, d, e;
+        private int f, g, h, i, j;
+
+        public String getA() { return a; }
+        public void setA(String a) { this.a = a; }
+        public String getB() { return b; }
+        public void setB(String b) { this.b = b; }
+        public String getC() { return c; }
+        public void setC(String c) { this.c = c; }
+        public String getD() { return d; }
+        public void setD(String d) { this.d = d; }
+        public String getE() { return e; }
+        public void setE(String e) { this.e = e; }
+        public int getF() { return f; }
+        public void setF(int f) { this.f = f; }
+        public int getG() { return g; }
+        public void setG(int g) { this.g = g; }
+        public int getH() { return h; }
+        public void setH(int h) { this.h = h; }
+        public int getI() { return i; }
+        public void setI(int i) { this.i = i; }
+        public int getJ() { return j; }
+        public void setJ(int j) { this.j = j; }
+    }
+
+    public static void main(String[] args) throws Exception {
+        FormPanel formPanel = new FormPanel();
+        for (String name : TEXT_PROPERTIES) {
+            TextField field = new TextField(name, 10, 1, true);
+            field.setIdentifier(name);
+            field.setText(name + " value");
+            formPanel.addFormField(field);
+        }
+        for (String name : NUMBER_PROPERTIES) {
+            NumberField field = new NumberField(name, 7, 0, 100, 1);
+            field.setIdentifier(name);
+            formPanel.addFormField(field);
+        }
+        FormBinder<Row> binder = new FormBinder<>(Row.class, formPanel).bindByIdentifier();
+
+        List<Row> rows = new ArrayList<>(ROWS);
+        for (int n = 0; n < ROWS; n++) {
+            rows.add(new Row());
+        }
+
+        // Look the setters up once, as any sensible hand-written binding would:
+        List<FormField> fields = formPanel.getFormFields();
+        Method[] setters = new Method[fields.size()];
+        for (int n = 0; n < setters.length; n++) {
+            FormField field = fields.get(n);
+            String name = field.getIdentifier();
+            String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            setters[n] = Row.class.getMethod(setterName, field instanceof NumberField ? int.class : String.class);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (Row row : rows) {
+                writeWithReflection(fields, setters, row);
+            }
+            long reflection = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (Row row : rows) {
+                binder.writeTo(row);
+            }
+            long bound = System.nanoTime() - start;
+
+            System.out.printf("round %d: reflection %d ms, FormBinder %d ms (%d rows x %d fields)%n",
+                              round, reflection / 1_000_000, bound / 1_000_000, ROWS, formPanel.getFieldCount());
+        }
+    }
+
+    /**
+     * The naive approach: call each pre-resolved setter with Method.invoke().
+     */
+    private static void writeWithReflection(List<FormField> fields, Method[] setters, Row row) throws Exception {
+        for (int n = 0; n < setters.length; n++) {
+            FormField field = fields.get(n);
+            if (field instanceof NumberField) {
+                setters[n].invoke(row, ((NumberField) field).getCurrentValue().intValue());
+            }
+            else {
+                setters[n].invoke(row, ((TextField) field).getText());
+            }
+        }
+    }
+}
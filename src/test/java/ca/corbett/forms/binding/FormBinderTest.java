@@ -0,0 +1,223 @@
+package ca.corbett.forms.binding;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fields.CheckBoxField;
+import ca.corbett.forms.fields.ComboField;
+import ca.corbett.forms.fields.FileField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.JSpinner;
+import java.math.BigDecimal;
+import java.io.File;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormBinderTest {
+
+    @TempDir
+    Path tempDir;
+
+    public enum Size {SMALL, LARGE}
+
+    public static class Customer {
+        private String name;
+        private int age;
+        private boolean active;
+        private Size size;
+        private Path home;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getAge() { return age; }
+        public void setAge(int age) { this.age = age; }
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+        public Size getSize() { return size; }
+        public void setSize(Size size) { this.size = size; }
+        public Path getHome() { return home; }
+        public void setHome(Path home) { this.home = home; }
+    }
+
+    public static class Document {
+        private Path location;
+        private File backup;
+        private String source;
+
+        public Path getLocation() { return location; }
+        public void setLocation(Path location) { this.location = location; }
+        public File getBackup() { return backup; }
+        public void setBackup(File backup) { this.backup = backup; }
+        public String getSource() { return source; }
+        public void setSource(String source) { this.source = source; }
+    }
+
+    public static class Counter {
+        private BigInteger total;
+        private AtomicInteger hits;
+        private Long count;
+        private BigDecimal price;
+        private Integer limit;
+
+        public BigInteger getTotal() { return total; }
+        public void setTotal(BigInteger total) { this.total = total; }
+        public AtomicInteger getHits() { return hits; }
+        public void setHits(AtomicInteger hits) { this.hits = hits; }
+        public Long getCount() { return count; }
+        public void setCount(Long count) { this.count = count; }
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+        public Integer getLimit() { return limit; }
+        public void setLimit(Integer limit) { this.limit = limit; }
+    }
+
+    private FormPanel buildForm() {
+        TextField name = new TextField("Name:", 12, 1, true);
+        name.setIdentifier("name");
+        NumberField age = new NumberField("Age:", 0, 0, 150, 1);
+        age.setIdentifier("age");
+        CheckBoxField active = new CheckBoxField("Active", false);
+        active.setIdentifier("active");
+        ComboField size = new ComboField("Size:", List.of("SMALL", "LARGE"), 0, false);
+        size.setIdentifier("size");
+        TextField home = new TextField("Home:", 12, 1, true);
+        home.setIdentifier("home");
+        return new FormPanel(List.of(name, age, active, size, home));
+    }
+
+    @Test
+    public void testReadFromAndWriteTo_roundTrip() {
+        FormPanel formPanel = buildForm();
+        FormBinder<Customer> binder = new FormBinder<>(Customer.class, formPanel).bindByIdentifier();
+        assertEquals(5, binder.getBindingCount());
+
+        Customer customer = new Customer();
+        customer.setName("Alice");
+        customer.setAge(42);
+        customer.setActive(true);
+        customer.setSize(Size.LARGE);
+        customer.setHome(Path.of("/home/alice"));
+        binder.readFrom(customer);
+
+        assertEquals("Alice", ((TextField) formPanel.getFormField("name")).getText());
+        assertEquals(42, ((NumberField) formPanel.getFormField("age")).getCurrentValue().intValue());
+        assertTrue(((CheckBoxField) formPanel.getFormField("active")).isChecked());
+        assertEquals("LARGE", ((ComboField) formPanel.getFormField("size")).getSelectedItem());
+
+        Customer copy = new Customer();
+        binder.writeTo(copy);
+        assertEquals("Alice", copy.getName());
+        assertEquals(42, copy.getAge());
+        assertTrue(copy.isActive());
+        assertEquals(Size.LARGE, copy.getSize());
+        assertEquals(Path.of("/home/alice"), copy.getHome());
+    }
+
+    @Test
+    public void testBind_withUnknownNames_shouldThrow() {
+        FormBinder<Customer> binder = new FormBinder<>(Customer.class, buildForm());
+        assertThrows(IllegalArgumentException.class, () -> binder.bind("nope", "name"));
+        assertThrows(IllegalArgumentException.class, () -> binder.bind("name", "nope"));
+    }
+
+    @Test
+    public void testBind_withBigIntegerProperty_shouldConvert() {
+        NumberField total = new NumberField("Total:", 7, 0, 100, 1);
+        FormBinder<Counter> binder = new FormBinder<>(Counter.class, new FormPanel(List.of(total)));
+        binder.bind(total, "total");
+
+        Counter counter = new Counter();
+        binder.writeTo(counter);
+        assertEquals(BigInteger.valueOf(7), counter.getTotal());
+    }
+
+    @Test
+    public void testBind_withUnsupportedNumberType_shouldThrow() {
+        NumberField hits = new NumberField("Hits:", 0, 0, 100, 1);
+        FormBinder<Counter> binder = new FormBinder<>(Counter.class, new FormPanel(List.of(hits)));
+        assertThrows(IllegalArgumentException.class, () -> binder.bind(hits, "hits"));
+    }
+
+    @Test
+    public void testReadFrom_withLongPropertyOnIntField_shouldKeepIntegerModel() {
+        NumberField count = new NumberField("Count:", 0, 0, 100, 1);
+        FormBinder<Counter> binder = new FormBinder<>(Counter.class, new FormPanel(List.of(count)));
+        binder.bind(count, "count");
+
+        Counter counter = new Counter();
+        counter.setCount(12L);
+        binder.readFrom(counter);
+        assertEquals(Integer.valueOf(12), count.getCurrentValue());
+        assertEquals(Integer.valueOf(13), ((JSpinner) count.getFieldComponent()).getModel().getNextValue());
+
+        binder.writeTo(counter);
+        assertEquals(Long.valueOf(12), counter.getCount());
+    }
+
+    @Test
+    public void testReadFrom_withBigDecimalPropertyOnDoubleField_shouldKeepDoubleModel() {
+        NumberField price = new NumberField("Price:", 0.0, 0.0, 100.0, 0.5);
+        FormBinder<Counter> binder = new FormBinder<>(Counter.class, new FormPanel(List.of(price)));
+        binder.bind(price, "price");
+
+        Counter counter = new Counter();
+        counter.setPrice(new BigDecimal("2.5"));
+        binder.readFrom(counter);
+        assertEquals(Double.valueOf(2.5), price.getCurrentValue());
+        assertEquals(Double.valueOf(3.0), ((JSpinner) price.getFieldComponent()).getModel().getNextValue());
+
+        binder.writeTo(counter);
+        assertEquals(0, new BigDecimal("2.5").compareTo(counter.getPrice()));
+    }
+
+    @Test
+    public void testReadFrom_withNullIntegerProperty_shouldUseMinimum() {
+        NumberField limit = new NumberField("Limit:", 50, 10, 100, 1);
+        FormBinder<Counter> binder = new FormBinder<>(Counter.class, new FormPanel(List.of(limit)));
+        binder.bind(limit, "limit");
+
+        binder.readFrom(new Counter());
+        assertEquals(Integer.valueOf(10), limit.getCurrentValue());
+    }
+
+    @Test
+    public void testBind_withFileFieldOnZipFileSystem_shouldConvert() throws Exception {
+        URI uri = URI.create("jar:" + tempDir.resolve("test.zip").toUri());
+        try (FileSystem zip = FileSystems.newFileSystem(uri, Map.of("create", "true"))) {
+            FileField location = new FileField("Location:", null, 20, FileField.SelectionType.NonExistingFile, true);
+            FileField backup = new FileField("Backup:", null, 20, FileField.SelectionType.NonExistingFile, true);
+            FileField source = new FileField("Source:", null, 20, FileField.SelectionType.NonExistingFile, true);
+            location.setFileSystem(zip);
+            source.setFileSystem(zip);
+            FormBinder<Document> binder = new FormBinder<>(Document.class,
+                                                           new FormPanel(List.of(location, backup, source)));
+            binder.bind(location, "location").bind(backup, "backup").bind(source, "source");
+
+            Document document = new Document();
+            document.setLocation(zip.getPath("/data/a.txt"));
+            document.setBackup(tempDir.resolve("b.txt").toFile());
+            document.setSource("/data/c.txt");
+            binder.readFrom(document);
+            assertEquals(zip.getPath("/data/a.txt"), location.getPath());
+            assertEquals(zip.getPath("/data/c.txt"), source.getPath());
+
+            Document copy = new Document();
+            binder.writeTo(copy);
+            assertEquals(zip.getPath("/data/a.txt"), copy.getLocation());
+            assertEquals(tempDir.resolve("b.txt").toFile(), copy.getBackup());
+            assertEquals("/data/c.txt", copy.getSource());
+        }
+    }
+}
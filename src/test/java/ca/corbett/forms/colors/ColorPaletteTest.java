@@ -0,0 +1,30 @@
+package ca.corbett.forms.colors;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ColorPaletteTest {
+
+    @Test
+    public void testParseHex_shouldAcceptLongAndShortForms() {
+        assertEquals(new Color(0x33, 0x66, 0xCC), ColorPalette.parseHex("#3366CC"));
+        assertEquals(new Color(0x33, 0x66, 0xCC), ColorPalette.parseHex(" 3366cc "));
+        assertEquals(new Color(0x33, 0x66, 0xCC), ColorPalette.parseHex("#36c"));
+        assertNull(ColorPalette.parseHex("#3366C"));
+        assertNull(ColorPalette.parseHex("#GGHHII"));
+        assertNull(ColorPalette.parseHex("+12345"));
+        assertNull(ColorPalette.parseHex(""));
+    }
+
+    @Test
+    public void testToHex_shouldRoundTrip() {
+        Color color = new Color(0x12, 0xAB, 0xEF, 0x80);
+        assertEquals("#12ABEF", ColorPalette.toHex(color));
+        assertEquals(new Color(0x12, 0xAB, 0xEF), ColorPalette.parseHex(ColorPalette.toHex(color)));
+        assertEquals(50, ColorPalette.SWATCHES.size());
+    }
+}
@@ -0,0 +1,63 @@
+package ca.corbett.forms.colors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.List;
+import java.util.prefs.Preferences;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecentColorsTest {
+
+    private Preferences node;
+
+    @BeforeEach
+    public void setUp() {
+        node = Preferences.userRoot().node("ca/corbett/forms/test/RecentColorsTest");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        node.removeNode();
+    }
+
+    @Test
+    public void testAdd_shouldKeepMostRecentFirstAndStayBounded() {
+        RecentColors recent = new RecentColors(node, "colors", 3);
+        recent.add(Color.RED);
+        recent.add(Color.GREEN);
+        recent.add(Color.BLUE);
+        recent.add(Color.RED);
+        assertEquals(List.of(Color.RED, Color.BLUE, Color.GREEN), recent.getColors());
+
+        recent.add(new Color(10, 20, 30, 40));
+        assertEquals(List.of(new Color(10, 20, 30, 40), Color.RED, Color.BLUE), recent.getColors());
+    }
+
+    @Test
+    public void testGetColors_shouldReloadPersistedList() {
+        RecentColors recent = new RecentColors(node, "colors", 5);
+        recent.add(Color.ORANGE);
+        recent.add(new Color(1, 2, 3, 4));
+
+        RecentColors reloaded = new RecentColors(node, "colors", 5);
+        assertEquals(List.of(new Color(1, 2, 3, 4), Color.ORANGE), reloaded.getColors());
+        assertEquals(4, reloaded.getColors().get(0).getAlpha());
+
+        reloaded.clear();
+        assertTrue(new RecentColors(node, "colors", 5).getColors().isEmpty());
+    }
+
+    @Test
+    public void testGetColors_shouldSkipGarbageInStore() {
+        node.put("colors", "ffff0000,not-a-color,,ff00ff00");
+        RecentColors recent = new RecentColors(node, "colors", 5);
+        assertEquals(List.of(Color.RED, Color.GREEN), recent.getColors());
+        assertThrows(IllegalArgumentException.class, () -> new RecentColors(node, "colors", 0));
+    }
+}
@@ -0,0 +1,103 @@
+package ca.corbett.forms.completion;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathSuggestionSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGetSuggestions_shouldCompleteNamesInTypedDirectory() throws Exception {
+        Files.createFile(tempDir.resolve("report.txt"));
+        Files.createFile(tempDir.resolve("Readme.md"));
+        Files.createFile(tempDir.resolve(".hidden"));
+        Files.createDirectory(tempDir.resolve("results"));
+        String dir = tempDir.toString() + File.separator;
+        PathSuggestionSource source = new PathSuggestionSource(new DirectoryListingCache(8, 60_000), false);
+
+        List<String> suggestions = source.getSuggestions(dir + "re", 10);
+        assertEquals(3, suggestions.size());
+        assertTrue(suggestions.contains(dir + "results" + File.separator));
+        assertTrue(suggestions.contains(dir + "Readme.md"));
+
+        assertEquals(List.of(dir + ".hidden"), source.getSuggestions(dir + ".", 10));
+        assertEquals(3, source.getSuggestions(dir, 10).size());
+        assertTrue(source.getSuggestions("no separator", 10).isEmpty());
+        assertTrue(source.getSuggestions(dir + "missing" + File.separator, 10).isEmpty());
+
+        PathSuggestionSource directories = new PathSuggestionSource(new DirectoryListingCache(8, 60_000), true);
+        assertEquals(List.of(dir + "results" + File.separator), directories.getSuggestions(dir + "r", 10));
+        // Again, this time from the cached listing:
+        assertEquals(List.of(dir + "results" + File.separator), directories.getSuggestions(dir + "r", 10));
+    }
+
+    @Test
+    public void testLoad_shouldStreamLargeDirectoryInBatches() throws Exception {
+        for (int i = 0; i < DirectoryListingCache.BATCH_SIZE * 3; i++) {
+            Files.createFile(tempDir.resolve("file" + i));
+        }
+        DirectoryListingCache cache = new DirectoryListingCache(8, 60_000);
+        List<Integer> batchSizes = new ArrayList<>();
+
+        assertTrue(cache.load(tempDir, batch -> batchSizes.add(batch.size()), () -> false));
+        assertEquals(List.of(256, 256, 256), batchSizes);
+        assertEquals(768, cache.getIfFresh(tempDir).size());
+
+        cache.clear();
+        assertFalse(cache.load(tempDir, batch -> { }, () -> true));
+        assertNull(cache.getIfFresh(tempDir));
+    }
+
+    @Test
+    public void testGetIfFresh_shouldInvalidateWhenDirectoryChanges() throws Exception {
+        Files.createFile(tempDir.resolve("one"));
+        DirectoryListingCache cache = new DirectoryListingCache(8, 60_000);
+        FileTime modified = FileTime.fromMillis(Files.getLastModifiedTime(tempDir).toMillis() - 10_000);
+        Files.setLastModifiedTime(tempDir, modified);
+        cache.load(tempDir, batch -> { }, () -> false);
+
+        // A change that doesn't touch the modification time is not noticed:
+        Files.createFile(tempDir.resolve("two"));
+        Files.setLastModifiedTime(tempDir, modified);
+        assertEquals(1, cache.getIfFresh(tempDir).size());
+
+        Files.setLastModifiedTime(tempDir, FileTime.fromMillis(modified.toMillis() + 5_000));
+        assertNull(cache.getIfFresh(tempDir));
+        assertEquals(0, cache.size());
+
+        DirectoryListingCache expired = new DirectoryListingCache(8, 0);
+        expired.load(tempDir, batch -> { }, () -> false);
+        assertNull(expired.getIfFresh(tempDir));
+    }
+
+    @Test
+    public void testCache_shouldEvictLeastRecentlyUsedDirectory() throws Exception {
+        Path a = Files.createDirectory(tempDir.resolve("a"));
+        Path b = Files.createDirectory(tempDir.resolve("b"));
+        Path c = Files.createDirectory(tempDir.resolve("c"));
+        DirectoryListingCache cache = new DirectoryListingCache(2, 60_000);
+        cache.load(a, batch -> { }, () -> false);
+        cache.load(b, batch -> { }, () -> false);
+        assertNotNull(cache.getIfFresh(a));
+        cache.load(c, batch -> { }, () -> false);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getIfFresh(a));
+        assertNull(cache.getIfFresh(b));
+    }
+}
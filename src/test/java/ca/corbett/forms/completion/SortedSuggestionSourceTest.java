@@ -0,0 +1,46 @@
+package ca.corbett.forms.completion;
+
+import ca.corbett.forms.fields.TextField;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedSuggestionSourceTest {
+
+    @Test
+    public void testGetSuggestions_shouldMatchPrefixIgnoringCase() throws Exception {
+        SortedSuggestionSource source = SortedSuggestionSource.buildInBackground(
+                Arrays.asList("banana", "Apple", "apricot", "APPLE", "avocado", "Apple", null, "applesauce")).get();
+
+        assertEquals(6, source.size());
+        assertEquals(List.of("APPLE", "Apple", "applesauce"), source.getSuggestions("app", 10));
+        assertEquals(List.of("APPLE", "Apple"), source.getSuggestions("APP", 2));
+        assertEquals(5, source.countMatches("a"));
+        assertEquals(0, source.countMatches("cherry"));
+        assertTrue(source.getSuggestions("z", 10).isEmpty());
+    }
+
+    @Test
+    public void testTextField_shouldLookUpSuggestionsInBackground() throws Exception {
+        TextField textField = new TextField("Fruit:", 12, 1, true);
+        textField.setSuggestionSource(new SortedSuggestionSource(List.of("apple", "apricot", "banana")));
+        SwingUtilities.invokeAndWait(() -> {
+            textField.setText("ap"); // caret only follows edits made on the EDT
+            textField.getAutoCompleter().updateSuggestions();
+        });
+        List<String> suggestions = List.of();
+        for (int i = 0; i < 100 && suggestions.isEmpty(); i++) {
+            Thread.sleep(10);
+            AtomicReference<List<String>> current = new AtomicReference<>();
+            SwingUtilities.invokeAndWait(() -> current.set(textField.getAutoCompleter().getCurrentSuggestions()));
+            suggestions = current.get();
+        }
+        assertEquals(List.of("apple", "apricot"), suggestions);
+    }
+}
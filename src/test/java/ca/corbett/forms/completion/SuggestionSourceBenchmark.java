@@ -0,0 +1,80 @@
+package ca.corbett.forms.completion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A simple timing harness (not a unit test) that measures how long it takes to build a
+ * SortedSuggestionSource with 1M and 10M entries, and the average lookup latency for short
+ * prefixes, compared to filtering a plain List. Run the main() method directly with a
+ * generous heap (for example -Xmx3g); results are printed to stdout.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class SuggestionSourceBenchmark {
+
+    private static final int LOOKUPS = 100_000;
+    private static final int LIST_FILTER_LOOKUPS = 20;
+    private static final String ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ0123456789";
+
+    public static void main(String[] args) {
+        for (int size : new int[]{1_000_000, 10_000_000}) {
+            Random random = new Random(size);
+            List<String> vocabulary = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                vocabulary.add(randomPartNumber(random, 10));
+            }
+
+            long start = System.nanoTime();
+            SortedSuggestionSource source = new SortedSuggestionSource(vocabulary);
+            long buildMs = (System.nanoTime() - start) / 1_000_000;
+
+            String[] prefixes = new String[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                prefixes[i] = randomPartNumber(random, 1 + random.nextInt(4)).toLowerCase();
+            }
+            for (int round = 0; round < 3; round++) {
+                int found = 0;
+                start = System.nanoTime();
+                for (String prefix : prefixes) {
+                    found += source.getSuggestions(prefix, 10).size();
+                }
+                double lookupUs = (System.nanoTime() - start) / 1_000.0 / LOOKUPS;
+
+                start = System.nanoTime();
+                for (int i = 0; i < LIST_FILTER_LOOKUPS; i++) {
+                    filterList(vocabulary, prefixes[i], 10);
+                }
+                double filterUs = (System.nanoTime() - start) / 1_000.0 / LIST_FILTER_LOOKUPS;
+
+                System.out.printf("%,d entries (built in %d ms), round %d: sorted array %.2f us per lookup, "
+                                          + "list filter %.0f us per lookup (%d found)%n",
+                                  source.size(), buildMs, round, lookupUs, filterUs, found);
+            }
+        }
+    }
+
+    private static String randomPartNumber(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The naive approach: scan the whole list and sort the matches.
+     */
+    private static List<String> filterList(List<String> vocabulary, String prefix, int maxResults) {
+        List<String> matches = new ArrayList<>();
+        for (String s : vocabulary) {
+            if (s.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                matches.add(s);
+            }
+        }
+        matches.sort(String.CASE_INSENSITIVE_ORDER);
+        return matches.subList(0, Math.min(maxResults, matches.size()));
+    }
+}
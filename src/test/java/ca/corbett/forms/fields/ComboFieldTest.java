@@ -0,0 +1,109 @@
+package ca.corbett.forms.fields;
+
+import ca.corbett.forms.models.OptionLoader;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComboFieldTest {
+
+    @Test
+    public void testLoadOptions_shouldLoadInChunksAndApplySelection() throws Exception {
+        ComboField comboField = onEdt(() -> new ComboField("Items:", List.of("placeholder"), 0, false));
+        OptionLoader<String> loader = onEdt(() -> comboField.loadOptions(() -> items("Item", 5_000), "Item 4321"));
+        loader.get();
+        waitForLoads(comboField);
+
+        assertEquals(5_000, comboField.getOptionCount());
+        assertEquals("Item 4321", comboField.getSelectedItem());
+        assertFalse(comboField.isLoading());
+    }
+
+    @Test
+    public void testLoadOptions_shouldDiscardStaleLoads() throws Exception {
+        ComboField comboField = onEdt(() -> new ComboField("Items:", List.of("placeholder"), 0, false));
+        CountDownLatch release = new CountDownLatch(1);
+        OptionLoader<String> stale = onEdt(() -> comboField.loadOptions(() -> {
+            release.await();
+            return items("Stale", 2_000);
+        }, null));
+        assertTrue(onEdt(comboField::isLoading));
+
+        OptionLoader<String> fresh = onEdt(() -> comboField.loadOptions(() -> items("Fresh", 10), null));
+        release.countDown();
+        fresh.get();
+        waitForLoads(comboField);
+
+        assertTrue(stale.isCancelled());
+        assertEquals(10, comboField.getOptionCount());
+        assertEquals("Fresh 0", comboField.getSelectedItem());
+    }
+
+    @Test
+    public void testCascadeFrom_shouldReloadChildWhenParentChanges() throws Exception {
+        ComboField country = onEdt(() -> new ComboField("Country:", List.of("Canada", "USA"), 0, false));
+        ComboField region = onEdt(() -> new ComboField("Region:", List.of(), -1, false));
+        ComboField city = onEdt(() -> new ComboField("City:", List.of(), -1, false));
+        onEdt(() -> {
+            region.cascadeFrom(country, value -> items(value, 3));
+            city.cascadeFrom(region, value -> value == null ? List.of() : items(value + " city", 2));
+            return null;
+        });
+        waitForLoads(region, city);
+        assertEquals("Canada 0", region.getSelectedItem());
+        assertEquals("Canada 0 city 0", city.getSelectedItem());
+
+        onEdt(() -> {
+            country.setSelectedItem("USA");
+            return null;
+        });
+        waitForLoads(region, city);
+        assertEquals("USA 0", region.getSelectedItem());
+        assertEquals("USA 0 city 0", city.getSelectedItem());
+    }
+
+    private static List<String> items(String prefix, int count) {
+        List<String> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(prefix + " " + i);
+        }
+        return items;
+    }
+
+    private static void waitForLoads(ComboField... fields) throws Exception {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            flushEdt();
+            boolean loading = false;
+            for (ComboField field : fields) {
+                loading |= onEdt(field::isLoading);
+            }
+            if (!loading) {
+                flushEdt();
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void flushEdt() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            SwingUtilities.invokeAndWait(() -> {
+            });
+        }
+    }
+
+    private static <T> T onEdt(Supplier<T> supplier) throws Exception {
+        AtomicReference<T> result = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> result.set(supplier.get()));
+        return result.get();
+    }
+}
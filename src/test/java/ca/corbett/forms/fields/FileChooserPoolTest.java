@@ -0,0 +1,78 @@
+package ca.corbett.forms.fields;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JFileChooser;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.plaf.FileChooserUI;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileChooserPoolTest {
+
+    @BeforeEach
+    public void setup() {
+        FileChooserPool.clear();
+    }
+
+    @Test
+    public void testFileFieldConstruction_shouldNotCreateChoosers() {
+        int before = FileChooserPool.getCreatedCount();
+        for (int i = 0; i < 100; i++) {
+            new FileField("File " + i, new File("/tmp"), 20, FileField.SelectionType.ExistingDirectory);
+            new FileField("File " + i, null, 20, FileField.SelectionType.NonExistingFile, true);
+        }
+        assertEquals(before, FileChooserPool.getCreatedCount());
+    }
+
+    @Test
+    public void testAcquireRelease_shouldReuseChooserPerMode() {
+        JFileChooser files = FileChooserPool.acquire(JFileChooser.FILES_ONLY, null);
+        files.setFileFilter(new FileNameExtensionFilter("Text", "txt"));
+        FileChooserPool.release(files);
+        assertEquals(1, FileChooserPool.getIdleCount(JFileChooser.FILES_ONLY));
+        assertEquals(0, FileChooserPool.getIdleCount(JFileChooser.DIRECTORIES_ONLY));
+
+        int created = FileChooserPool.getCreatedCount();
+        JFileChooser again = FileChooserPool.acquire(JFileChooser.FILES_ONLY, null);
+        assertSame(files, again);
+        assertEquals(created, FileChooserPool.getCreatedCount());
+        assertEquals(1, again.getChoosableFileFilters().length);
+        assertNull(again.getSelectedFile());
+
+        JFileChooser dirs = FileChooserPool.acquire(JFileChooser.DIRECTORIES_ONLY, null);
+        assertEquals(JFileChooser.DIRECTORIES_ONLY, dirs.getFileSelectionMode());
+        assertEquals(created + 1, FileChooserPool.getCreatedCount());
+    }
+
+    @Test
+    public void testAcquire_withUnknownMode_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> FileChooserPool.acquire(42, null));
+    }
+
+    @Test
+    public void testAcquire_afterLookAndFeelChange_shouldUpdateUI() throws Exception {
+        LookAndFeel original = UIManager.getLookAndFeel();
+        JFileChooser chooser = FileChooserPool.acquire(JFileChooser.FILES_ONLY, null);
+        FileChooserUI oldUI = chooser.getUI();
+        FileChooserPool.release(chooser);
+        try {
+            UIManager.setLookAndFeel(new MetalLookAndFeel());
+            JFileChooser again = FileChooserPool.acquire(JFileChooser.FILES_ONLY, null);
+            assertSame(chooser, again);
+            assertNotSame(oldUI, again.getUI());
+        }
+        finally {
+            UIManager.setLookAndFeel(original);
+        }
+    }
+}
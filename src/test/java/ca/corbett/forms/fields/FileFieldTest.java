@@ -0,0 +1,96 @@
+package ca.corbett.forms.fields;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.JTextField;
+import java.io.File;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileFieldTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGetPath_shouldCacheUntilTextChanges() {
+        FileField field = new FileField("File:", tempDir.toFile(), 20, FileField.SelectionType.ExistingDirectory);
+        Path path = field.getPath();
+        assertEquals(tempDir.toAbsolutePath(), path);
+        assertSame(path, field.getPath());
+        assertEquals(tempDir.toFile().getAbsoluteFile(), field.getFile());
+
+        ((JTextField) field.getFieldComponent()).setText(tempDir.resolve("other").toString());
+        assertNotSame(path, field.getPath());
+        assertEquals(tempDir.resolve("other"), field.getPath());
+
+        field.setFile(null);
+        assertNull(field.getPath());
+        assertTrue(field.isBlank());
+        assertNull(field.getFieldValue());
+    }
+
+    @Test
+    public void testValidate_withZipFileSystem_shouldUseNioChecks() throws Exception {
+        URI uri = URI.create("jar:" + tempDir.resolve("test.zip").toUri());
+        try (FileSystem zip = FileSystems.newFileSystem(uri, Map.of("create", "true"))) {
+            Files.createDirectory(zip.getPath("/data"));
+            Files.write(zip.getPath("/data/input.txt"), new byte[] {1, 2, 3});
+
+            FileField field = new FileField("Input:", null, 20, FileField.SelectionType.ExistingFile);
+            field.setPathCompletionEnabled(true);
+            field.setFileSystem(zip);
+            assertFalse(field.isPathCompletionEnabled()); // completion only reads the default file system
+            field.setPath(zip.getPath("/data/input.txt"));
+            assertTrue(field.validate());
+            assertEquals(zip.getPath("/data/input.txt"), field.getFieldValue());
+
+            field.setPath(zip.getPath("/data"));
+            assertFalse(field.validate());
+            field.setPath(zip.getPath("/data/missing.txt"));
+            assertFalse(field.validate());
+
+            field.setSelectionType(FileField.SelectionType.NonExistingFile);
+            assertTrue(field.validate());
+
+            assertThrows(IllegalArgumentException.class, () -> field.setPath(tempDir));
+
+            field.setFileSystem(FileSystems.getDefault());
+            assertTrue(field.isPathCompletionEnabled());
+        }
+    }
+
+    @Test
+    public void testSetFieldValue_shouldAcceptFileOrPath() {
+        FileField field = new FileField("File:", null, 20, FileField.SelectionType.NonExistingFile, true);
+        field.setFieldValue(tempDir.resolve("a.txt"));
+        assertEquals(tempDir.resolve("a.txt").toFile(), field.getFieldValue());
+        field.setFieldValue(new File(tempDir.toFile(), "b.txt"));
+        assertEquals(tempDir.resolve("b.txt"), field.getPath());
+        assertTrue(field.validate());
+    }
+
+    @Test
+    public void testGetFile_withUnparseableText_shouldStillReturnFile() {
+        FileField field = new FileField("File:", null, 20, FileField.SelectionType.NonExistingFile, true);
+        ((JTextField) field.getFieldComponent()).setText("bad\u0000name");
+        assertNull(field.getPath());
+        assertEquals(new File("bad\u0000name"), field.getFile());
+
+        ((JTextField) field.getFieldComponent()).setText("  ");
+        assertNull(field.getFile());
+    }
+}
@@ -0,0 +1,48 @@
+package ca.corbett.forms.fields;
+
+import ca.corbett.forms.validators.LineValidator;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import java.util.regex.Pattern;
+
+/**
+ * A simple timing harness (not a unit test) that measures the cost of a single keystroke
+ * in a multi-line TextField with a LineValidator attached, as the document grows from
+ * 1,000 to 100,000 lines. Run the main() method directly; results are printed to stdout.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class LineValidationBenchmark {
+
+    private static final int KEYSTROKES = 10_000;
+
+    public static void main(String[] args) throws BadLocationException {
+        for (int round = 0; round < 3; round++) {
+            for (int lines : new int[]{1_000, 10_000, 100_000}) {
+                StringBuilder content = new StringBuilder();
+                for (int i = 0; i < lines; i++) {
+                    content.append(i % 10 == 0 ? "broken line\n" : "key" + i + "=value\n");
+                }
+                TextField textField = TextField.createLargeTextField("Settings:", 40, 10);
+                textField.setText(content.toString());
+                textField.addLineValidator(LineValidator.matching(Pattern.compile("\\w+=\\w*"), "Expected key=value."));
+
+                // Type and delete characters in the middle of the document:
+                Document document = textField.getDocument();
+                int offset = textField.getDocument().getDefaultRootElement().getElement(lines / 2).getStartOffset();
+                long start = System.nanoTime();
+                for (int i = 0; i < KEYSTROKES; i++) {
+                    document.insertString(offset, "x", null);
+                    document.remove(offset, 1);
+                }
+                long elapsed = System.nanoTime() - start;
+                System.out.printf("round %d, %,d lines (%,d invalid): %.2f us per keystroke%n",
+                                  round, lines, textField.getInvalidLineIndexes().length,
+                                  elapsed / 1_000.0 / (KEYSTROKES * 2));
+            }
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,124 @@
+package ca.corbett.forms.fields;
+
+import ca.corbett.forms.validators.ValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.SwingUtilities;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiFileFieldTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testValidate_withManyPaths_shouldSummarizeInvalidOnes() throws Exception {
+        List<Path> existing = new ArrayList<>();
+        List<Path> missing = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            existing.add(Files.createFile(tempDir.resolve("file" + i + ".txt")));
+        }
+        for (int i = 0; i < 1000; i++) {
+            missing.add(tempDir.resolve("missing" + i + ".txt"));
+        }
+
+        AtomicReference<MultiFileField> fieldRef = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            MultiFileField field = new MultiFileField("Inputs:", existing, 8, FileField.SelectionType.ExistingFile);
+            assertEquals(1000, field.addPaths(missing));
+            assertEquals(0, field.addPaths(existing.subList(0, 10))); // duplicates are ignored
+            assertEquals(3000, field.getPathCount());
+            fieldRef.set(field);
+        });
+        waitForValidation(fieldRef.get());
+
+        SwingUtilities.invokeAndWait(() -> {
+            MultiFileField field = fieldRef.get();
+            assertFalse(field.validate());
+            String tooltip = field.getValidationLabel().getToolTipText();
+            assertTrue(tooltip.contains("1,000 of 3,000"), tooltip);
+            assertTrue(tooltip.contains("(and 990 more)"), tooltip);
+            assertEquals(1000, field.getInvalidPaths().size());
+            assertFalse(field.isValidationPending());
+
+            assertEquals(1000, field.removePaths(missing));
+        });
+        waitForValidation(fieldRef.get());
+        SwingUtilities.invokeAndWait(() -> {
+            assertTrue(fieldRef.get().validate());
+            assertEquals(existing, fieldRef.get().getPaths());
+        });
+    }
+
+    @Test
+    public void testValidate_withThrowingValidator_shouldMarkPathInvalid() throws Exception {
+        Path good = Files.createFile(tempDir.resolve("good.txt"));
+        Path bad = Files.createFile(tempDir.resolve("bad.txt"));
+        AtomicReference<MultiFileField> fieldRef = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            MultiFileField field = new MultiFileField("Inputs:", null, 4, FileField.SelectionType.ExistingFile);
+            field.addPathValidator(path -> {
+                if (path.endsWith("bad.txt")) {
+                    throw new IllegalStateException("boom");
+                }
+                return new ValidationResult();
+            });
+            field.addPaths(List.of(good, bad));
+            fieldRef.set(field);
+        });
+        waitForValidation(fieldRef.get());
+
+        SwingUtilities.invokeAndWait(() -> {
+            MultiFileField field = fieldRef.get();
+            assertFalse(field.validate());
+            assertEquals(1, field.getInvalidPaths().size());
+            assertTrue(field.getInvalidPaths().get(bad).contains("boom"));
+        });
+    }
+
+    /**
+     * Waits (off the EDT) until the field's background validation has been delivered.
+     */
+    private static void waitForValidation(MultiFileField field) throws Exception {
+        AtomicBoolean pending = new AtomicBoolean(true);
+        for (int i = 0; i < 1000 && pending.get(); i++) {
+            SwingUtilities.invokeAndWait(() -> pending.set(field.isValidationPending()));
+            if (pending.get()) {
+                Thread.sleep(10);
+            }
+        }
+        assertFalse(pending.get());
+    }
+
+    @Test
+    public void testValidate_whenEmpty_shouldHonourAllowEmpty() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            MultiFileField required = new MultiFileField("Inputs:", null, 4, FileField.SelectionType.ExistingFile);
+            assertFalse(required.validate());
+            MultiFileField optional = new MultiFileField("Inputs:", null, 4,
+                                                         FileField.SelectionType.ExistingFile, true);
+            assertTrue(optional.validate());
+        });
+    }
+
+    @Test
+    public void testSetFieldValue_shouldAcceptFilesOrPaths() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            MultiFileField field = new MultiFileField("Outputs:", null, 4, FileField.SelectionType.NonExistingFile);
+            field.setFieldValue(List.of(new File(tempDir.toFile(), "a.txt"), tempDir.resolve("b.txt")));
+            assertEquals(List.of(tempDir.resolve("a.txt"), tempDir.resolve("b.txt")), field.getFieldValue());
+            assertTrue(field.validate());
+        });
+    }
+}
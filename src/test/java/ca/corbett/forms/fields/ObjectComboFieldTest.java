@@ -0,0 +1,60 @@
+package ca.corbett.forms.fields;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ObjectComboFieldTest {
+
+    private static final class Customer {
+        final int id;
+        final String name;
+
+        Customer(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testSelectByKey_shouldReturnTypedValues() {
+        Customer alice = new Customer(17, "Alice");
+        Customer bob = new Customer(42, "Bob");
+        ObjectComboField<Customer> field = new ObjectComboField<>("Customer:", List.of(alice, bob),
+                                                                  c -> c.name, c -> c.id);
+        assertSame(alice, field.getSelectedItem());
+
+        field.setSelectedKey(42);
+        assertSame(bob, field.getSelectedItem());
+        assertEquals(42, field.getSelectedKey());
+        assertEquals(1, field.getSelectedIndex());
+
+        // A different instance with the same key is the same option:
+        field.setSelectedItem(new Customer(17, "Alice (stale copy)"));
+        assertSame(alice, field.getSelectedItem());
+
+        field.setSelectedKey(99); // no such customer
+        assertSame(alice, field.getSelectedItem());
+        field.setSelectedIndex(-1);
+        assertNull(field.getSelectedKey());
+    }
+
+    @Test
+    public void testLabels_shouldBeComputedOncePerOption() {
+        AtomicInteger calls = new AtomicInteger();
+        Customer alice = new Customer(17, "Alice");
+        ObjectComboField<Customer> field = new ObjectComboField<>("Customer:", List.of(alice), c -> {
+            calls.incrementAndGet();
+            return c.name;
+        });
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Alice", field.getLabel(alice));
+        }
+        assertEquals(1, calls.get());
+    }
+}
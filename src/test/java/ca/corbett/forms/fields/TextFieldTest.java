@@ -0,0 +1,85 @@
+package ca.corbett.forms.fields;
+
+import ca.corbett.forms.text.TextDelta;
+import ca.corbett.forms.validators.LineValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextFieldTest {
+
+    @Test
+    public void testLargeTextField_streamingAccess() throws IOException {
+        TextField textField = TextField.createLargeTextField("Log:", 40, 10);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        content.append("last");
+        textField.setText(content.toString());
+
+        assertTrue(textField.isLargeDocumentMode());
+        assertEquals(content.length(), textField.getTextLength());
+        assertEquals(10_001, textField.getLineCount());
+        assertEquals("line 5000", textField.getLine(5000).toString());
+        assertEquals("last", textField.getLine(10_000).toString());
+        assertTrue(Pattern.compile("line 9999\\nlast$").matcher(textField.getCharSequence()).find());
+
+        try (BufferedReader reader = new BufferedReader(textField.getTextReader())) {
+            assertEquals(content.toString(), reader.lines().collect(Collectors.joining("\n")));
+        }
+    }
+
+    @Test
+    public void testTextChangeListener_shouldReceiveDeltas() {
+        TextField textField = new TextField("Text:", 12, 3, true);
+        List<String> deltas = new ArrayList<>();
+        textField.addTextChangeListener(delta -> deltas.add(delta + ":" + delta.getInsertedText()));
+
+        textField.setText("hello");
+        textField.setText("bye");
+
+        assertEquals(List.of(TextDelta.Type.INSERT + "@0+5:hello",
+                             TextDelta.Type.REMOVE + "@0+5:",
+                             TextDelta.Type.INSERT + "@0+3:bye"), deltas);
+    }
+
+    @Test
+    public void testLineValidator_shouldTrackInvalidLinesAcrossEdits() throws BadLocationException {
+        TextField textField = new TextField("Settings:", 30, 5, true);
+        textField.setText("a=1\nbad\nb=2\nalso bad\n");
+        textField.addLineValidator(LineValidator.matching(Pattern.compile("\\w+=\\w*"), "Expected key=value."));
+        assertArrayEquals(new int[]{1, 3}, textField.getInvalidLineIndexes());
+        assertFalse(textField.validate());
+        assertEquals("Line 2: Expected key=value. (and 1 more invalid line) \n",
+                     textField.getValidationLabel().getToolTipText());
+
+        Document document = textField.getDocument();
+        document.insertString(0, "x=0\n\n", null); // lines shift down by two
+        assertArrayEquals(new int[]{3, 5}, textField.getInvalidLineIndexes());
+
+        document.insertString(document.getText(0, document.getLength()).indexOf("bad"), "c=", null);
+        assertArrayEquals(new int[]{5}, textField.getInvalidLineIndexes());
+
+        int start = document.getText(0, document.getLength()).indexOf("also bad");
+        document.remove(start - 1, "also bad".length() + 1); // join with the previous line
+        assertArrayEquals(new int[0], textField.getInvalidLineIndexes());
+        assertTrue(textField.validate());
+
+        textField.setText("nope");
+        assertArrayEquals(new int[]{0}, textField.getInvalidLineIndexes());
+    }
+}
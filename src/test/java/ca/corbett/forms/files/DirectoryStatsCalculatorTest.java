@@ -0,0 +1,119 @@
+package ca.corbett.forms.files;
+
+import ca.corbett.forms.fields.FileField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.SwingUtilities;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryStatsCalculatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCalculate_shouldSummarizeWholeTreeAndCache() throws Exception {
+        long newest = createTree();
+        DirectoryStatsCalculator calculator = new DirectoryStatsCalculator(4);
+        List<DirectoryStats> received = new CopyOnWriteArrayList<>();
+        CountDownLatch complete = new CountDownLatch(1);
+        SwingUtilities.invokeAndWait(() -> calculator.calculate(tempDir, stats -> {
+            received.add(stats);
+            if (stats.isComplete()) {
+                complete.countDown();
+            }
+        }));
+        assertTrue(complete.await(10, TimeUnit.SECONDS));
+
+        DirectoryStats stats = received.get(received.size() - 1);
+        assertFalse(received.get(0).isComplete());
+        assertEquals(39, stats.getFileCount());
+        assertEquals(12, stats.getDirectoryCount());
+        assertEquals(39 * 100, stats.getTotalBytes());
+        assertEquals(newest, stats.getNewestModified().toMillis());
+
+        AtomicReference<DirectoryStats> cached = new AtomicReference<>();
+        AtomicReference<DirectoryStatsCalculator.Walk> walk = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> walk.set(calculator.calculate(tempDir.resolve("."), cached::set)));
+        assertSame(stats, cached.get());
+        assertTrue(walk.get().isDone());
+    }
+
+    @Test
+    public void testFileField_shouldShowStatsForSelectedDirectory() throws Exception {
+        createTree();
+        DirectoryStatsCalculator.getShared().invalidate(tempDir);
+        AtomicReference<FileField> field = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            field.set(new FileField("Dir:", tempDir.toFile(), 20, FileField.SelectionType.ExistingDirectory));
+            field.get().setShowDirectoryStats(true);
+        });
+        long deadline = System.currentTimeMillis() + 10_000;
+        DirectoryStats stats = null;
+        while (System.currentTimeMillis() < deadline && (stats == null || !stats.isComplete())) {
+            Thread.sleep(20);
+            AtomicReference<DirectoryStats> current = new AtomicReference<>();
+            SwingUtilities.invokeAndWait(() -> current.set(field.get().getDirectoryStats()));
+            stats = current.get();
+        }
+        assertTrue(stats != null && stats.isComplete());
+        assertEquals(39, stats.getFileCount());
+
+        SwingUtilities.invokeAndWait(() -> field.get().setShowDirectoryStats(false));
+        assertNull(field.get().getDirectoryStats());
+    }
+
+    @Test
+    public void testFormatSize() {
+        assertEquals("1 byte", DirectoryStats.formatSize(1));
+        assertEquals("1023 bytes", DirectoryStats.formatSize(1023));
+        assertEquals("1.5 KB", DirectoryStats.formatSize(1536));
+        assertEquals("2.0 GB", DirectoryStats.formatSize(2L * 1024 * 1024 * 1024));
+    }
+
+    /**
+     * Creates 3 top-level directories, each with 3 subdirectories, with 3 files of
+     * 100 bytes in each directory (plus 3 in the root), and returns the newest mtime.
+     */
+    private long createTree() throws Exception {
+        long base = 1_700_000_000_000L;
+        long newest = 0;
+        int fileNumber = 0;
+        for (int i = 0; i < 3; i++) {
+            Path top = Files.createDirectory(tempDir.resolve("top" + i));
+            for (int j = 0; j < 3; j++) {
+                Path sub = Files.createDirectory(top.resolve("sub" + j));
+                for (int k = 0; k < 3; k++) {
+                    newest = Math.max(newest, createFile(sub.resolve("file" + k), base + fileNumber++ * 1000));
+                }
+            }
+            for (int k = 0; k < 3; k++) {
+                newest = Math.max(newest, createFile(top.resolve("file" + k), base + fileNumber++ * 1000));
+            }
+        }
+        for (int k = 0; k < 3; k++) {
+            newest = Math.max(newest, createFile(tempDir.resolve("file" + k), base + fileNumber++ * 1000));
+        }
+        return newest;
+    }
+
+    private long createFile(Path path, long modified) throws Exception {
+        Files.write(path, new byte[100]);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modified));
+        return modified;
+    }
+}
@@ -0,0 +1,77 @@
+package ca.corbett.forms.files;
+
+import ca.corbett.forms.fields.FileField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.SwingUtilities;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileWatchRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testWatch_shouldNotifyWhenMissingPathIsCreated() throws Exception {
+        Path target = tempDir.resolve("later").resolve("output.txt");
+        Path sibling = tempDir.resolve("sibling.txt");
+        List<Path> changes = new CopyOnWriteArrayList<>();
+        FileWatchRegistry.Listener listener = changes::add;
+        FileWatchRegistry.Listener siblingListener = changes::add;
+        FileWatchRegistry registry = FileWatchRegistry.getShared();
+        int before = registry.getWatchedDirectoryCount();
+
+        registry.watch(target, listener);
+        registry.watch(sibling, siblingListener);
+        assertEquals(before + 1, registry.getWatchedDirectoryCount()); // both share tempDir's key
+
+        Files.createDirectory(tempDir.resolve("later"));
+        waitFor(() -> !changes.isEmpty());
+        assertEquals(List.of(target), changes);
+
+        registry.unwatch(listener);
+        registry.unwatch(siblingListener);
+        assertEquals(before, registry.getWatchedDirectoryCount());
+    }
+
+    @Test
+    public void testFileField_shouldRevalidateWhenSelectedFileIsDeleted() throws Exception {
+        Path file = Files.createFile(tempDir.resolve("input.txt"));
+        AtomicReference<FileField> field = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            field.set(new FileField("Input:", file.toFile(), 20, FileField.SelectionType.ExistingFile));
+            field.get().setLiveValidation(true);
+            assertTrue(field.get().validate());
+        });
+        assertNull(field.get().getValidationLabel().getToolTipText());
+
+        Files.delete(file);
+        waitFor(() -> field.get().getValidationLabel().getToolTipText() != null);
+        assertNotNull(field.get().getValidationLabel().getToolTipText());
+
+        SwingUtilities.invokeAndWait(() -> field.get().setLiveValidation(false));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            AtomicReference<Boolean> met = new AtomicReference<>();
+            SwingUtilities.invokeAndWait(() -> met.set(condition.getAsBoolean()));
+            if (met.get()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package ca.corbett.forms.fonts;
+
+import ca.corbett.forms.fields.FormField;
+import ca.corbett.forms.fields.LabelField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+
+import java.awt.Font;
+import java.awt.font.TextAttribute;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * A simple measurement harness (not a unit test) that compares the memory cost of creating
+ * fonts directly, the way FormField, FontDialog and LabelField used to, against getting
+ * them from FontCache. It reports bytes allocated per operation, using the HotSpot
+ * per-thread allocation counter, and the heap retained per form field. Run the main()
+ * method directly; results are printed to stdout.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class FontCacheBenchmark {
+
+    private static final int OPERATIONS = 100_000;
+    private static final int FIELDS = 20_000;
+    private static final String[] FAMILIES = {Font.SERIF, Font.SANS_SERIF, Font.MONOSPACED, Font.DIALOG};
+    private static final Map<TextAttribute, Integer> UNDERLINE = Map.of(TextAttribute.UNDERLINE,
+                                                                        TextAttribute.UNDERLINE_ON);
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Font base = new Font(Font.DIALOG, Font.PLAIN, 12);
+        for (int round = 0; round < 3; round++) {
+            System.out.printf("round %d:%n", round);
+            report(threads, "field label font, new Font()", i -> new Font("SansSerif", Font.PLAIN, 12));
+            report(threads, "field label font, FontCache", i -> FontCache.get(Font.SANS_SERIF, Font.PLAIN, 12));
+            report(threads, "dialog font change, 2x new Font()", i -> {
+                new Font(FAMILIES[i & 3], i % 4, 12);
+                return new Font(FAMILIES[i & 3], i % 4, 14);
+            });
+            report(threads, "dialog font change, 2x FontCache", i -> {
+                FontCache.get(FAMILIES[i & 3], i % 4, 12);
+                return FontCache.get(FAMILIES[i & 3], i % 4, 14);
+            });
+            report(threads, "hyperlink, deriveFont(attributes)", i -> {
+                Map<TextAttribute, Object> attributes = new HashMap<>(base.getAttributes());
+                attributes.put(TextAttribute.UNDERLINE, TextAttribute.UNDERLINE_ON);
+                return base.deriveFont(attributes);
+            });
+            report(threads, "hyperlink, FontCache.derive", i -> FontCache.derive(base, UNDERLINE));
+        }
+
+        System.out.printf("retained heap per field, %,d fields of each type:%n", FIELDS);
+        measureFields("TextField", i -> new TextField("Text:", 10, 1, true));
+        measureFields("NumberField", i -> new NumberField("Number:", 1, 0, 10, 1));
+        measureFields("LabelField", i -> new LabelField("Label:", "value"));
+        System.out.printf("all fields share one label font: %s%n",
+                          new TextField("a", 1, 1, true).getFieldLabelFont()
+                                  == new LabelField("b", "c").getFieldLabelFont());
+    }
+
+    private static void report(com.sun.management.ThreadMXBean threads, String name, IntFunction<Font> operation) {
+        long thread = Thread.currentThread().getId();
+        Object sink = null;
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink = operation.apply(i);
+        }
+        long bytes = threads.getThreadAllocatedBytes(thread) - before;
+        System.out.printf("  %-36s %8.1f bytes allocated per operation%s%n",
+                          name, (double) bytes / OPERATIONS, sink == null ? "?" : "");
+    }
+
+    private static void measureFields(String name, IntFunction<FormField> factory) {
+        List<FormField> fields = new ArrayList<>(FIELDS);
+        long before = usedHeap();
+        for (int i = 0; i < FIELDS; i++) {
+            fields.add(factory.apply(i));
+        }
+        long after = usedHeap();
+        System.out.printf("  %-36s %8.1f bytes per field (%d retained)%n",
+                          name, (double) (after - before) / FIELDS, fields.size());
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,74 @@
+package ca.corbett.forms.fonts;
+
+import ca.corbett.forms.fields.LabelField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.AbstractAction;
+import javax.swing.JLabel;
+import java.awt.Font;
+import java.awt.event.ActionEvent;
+import java.awt.font.TextAttribute;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FontCacheTest {
+
+    @Test
+    public void testGet_shouldShareEqualFonts() {
+        Font font = FontCache.get(Font.SERIF, Font.BOLD, 13);
+        assertEquals(new Font(Font.SERIF, Font.BOLD, 13), font);
+        assertSame(font, FontCache.get(Font.SERIF, Font.BOLD, 13));
+        Font derived = FontCache.derive(FontCache.get(Font.SERIF, Font.PLAIN, 20), Font.BOLD, 13f);
+        assertEquals(font, derived);
+        assertSame(derived, FontCache.derive(FontCache.get(Font.SERIF, Font.PLAIN, 20), Font.BOLD, 13f));
+        assertNotSame(font, FontCache.get(Font.SERIF, Font.BOLD, 14));
+    }
+
+    @Test
+    public void testDerive_withAttributes_shouldMatchDeriveFont() {
+        Font base = FontCache.get(Font.DIALOG, Font.PLAIN, 12);
+        Map<TextAttribute, Integer> underline = Map.of(TextAttribute.UNDERLINE, TextAttribute.UNDERLINE_ON);
+        Font underlined = FontCache.derive(base, underline);
+        assertEquals(base.deriveFont(underline), underlined);
+        assertSame(underlined, FontCache.derive(FontCache.get(Font.DIALOG, Font.PLAIN, 12), underline));
+
+        // Deriving a new size from an underlined font keeps the underline:
+        Font bigger = FontCache.derive(underlined, Font.PLAIN, 18f);
+        assertEquals(underlined.deriveFont(Font.PLAIN, 18f), bigger);
+        assertEquals(TextAttribute.UNDERLINE_ON, bigger.getAttributes().get(TextAttribute.UNDERLINE));
+    }
+
+    @Test
+    public void testFields_shouldShareLabelFonts() {
+        TextField text = new TextField("Text:", 10, 1, true);
+        NumberField number = new NumberField("Number:", 1, 0, 10, 1);
+        assertSame(text.getFieldLabelFont(), number.getFieldLabelFont());
+
+        LabelField first = new LabelField("Label:", "first");
+        LabelField second = new LabelField("Label:", "second");
+        AbstractAction action = new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+            }
+        };
+        first.setHyperlink(action);
+        second.setHyperlink(action);
+        Font firstFont = ((JLabel) first.getFieldComponent()).getFont();
+        assertSame(firstFont, ((JLabel) second.getFieldComponent()).getFont());
+        assertEquals(TextAttribute.UNDERLINE_ON, firstFont.getAttributes().get(TextAttribute.UNDERLINE));
+    }
+
+    @Test
+    public void testCache_shouldStayBounded() {
+        for (int size = 1; size <= FontCache.MAX_SIZE + 50; size++) {
+            FontCache.get(Font.MONOSPACED, Font.PLAIN, size);
+        }
+        assertTrue(FontCache.size() <= FontCache.MAX_SIZE);
+    }
+}
@@ -0,0 +1,37 @@
+package ca.corbett.forms.fonts;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FontCatalogTest {
+
+    @Test
+    public void testGetSystemFamilies_shouldReturnSameImmutableList() {
+        List<String> families = FontCatalog.getSystemFamilies();
+        assertTrue(FontCatalog.isLoaded());
+        assertSame(families, FontCatalog.getSystemFamilies());
+        assertThrows(UnsupportedOperationException.class, () -> families.add("Nonexistent"));
+        for (String family : families) {
+            assertTrue(FontCatalog.isSystemFamily(family));
+            assertTrue(FontCatalog.isSystemFamily(family.toUpperCase()));
+        }
+        assertFalse(FontCatalog.isSystemFamily("No Such Font Family 12345"));
+    }
+
+    @Test
+    public void testIsBuiltIn_shouldRecognizeLogicalFamilies() {
+        for (String family : FontCatalog.BUILT_IN_FAMILIES) {
+            assertTrue(FontCatalog.isBuiltInFamily(family));
+            assertTrue(FontCatalog.isBuiltIn(new Font(family, Font.PLAIN, 12)));
+        }
+        assertFalse(FontCatalog.isBuiltInFamily("Arial"));
+        assertFalse(FontCatalog.isBuiltInFamily("serif")); // logical names are case-sensitive here
+    }
+}
@@ -0,0 +1,61 @@
+package ca.corbett.forms.fonts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A simple timing harness (not a unit test) that measures how long FontListModel takes to
+ * filter 5,000 font family names as a user types a query one character at a time, then
+ * deletes it again. Run the main() method directly; results are printed to stdout. The
+ * first rounds include JIT compilation, so look at the later ones.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class FontListModelBenchmark {
+
+    private static final int FAMILIES = 5_000;
+    private static final String[] WORDS = {"Sans", "Serif", "Mono", "Bold", "Light", "Condensed", "Display",
+            "Text", "Book", "Pro", "Noto", "DejaVu", "Liberation", "Ubuntu", "Source", "Code", "Han", "Arabic"};
+    private static final String[] QUERIES = {"noto sans", "mono", "serif bold", "liberation", "code pro"};
+
+    public static void main(String[] args) {
+        Random random = new Random(FAMILIES);
+        List<String> families = new ArrayList<>(FAMILIES);
+        for (int i = 0; i < FAMILIES; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int words = 2 + random.nextInt(3); words > 0; words--) {
+                name.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            families.add(name.append(i).toString());
+        }
+        FontListModel model = new FontListModel();
+        model.setFamilies(List.copyOf(families));
+
+        for (int round = 0; round < 20; round++) {
+            int keystrokes = 0;
+            long worstNanos = 0;
+            long start = System.nanoTime();
+            for (String query : QUERIES) {
+                for (int length = 1; length <= query.length(); length++) {
+                    worstNanos = Math.max(worstNanos, timeFilter(model, query.substring(0, length)));
+                    keystrokes++;
+                }
+                for (int length = query.length() - 1; length >= 0; length--) {
+                    worstNanos = Math.max(worstNanos, timeFilter(model, query.substring(0, length)));
+                    keystrokes++;
+                }
+            }
+            double averageUs = (System.nanoTime() - start) / 1_000.0 / keystrokes;
+            System.out.printf("round %d: %,d families, %d keystrokes, %.1f us average, %.1f us worst%n",
+                              round, FAMILIES, keystrokes, averageUs, worstNanos / 1_000.0);
+        }
+    }
+
+    private static long timeFilter(FontListModel model, String filter) {
+        long start = System.nanoTime();
+        model.setFilter(filter);
+        return System.nanoTime() - start;
+    }
+}
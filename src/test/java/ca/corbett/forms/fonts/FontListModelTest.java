@@ -0,0 +1,96 @@
+package ca.corbett.forms.fonts;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FontListModelTest {
+
+    private static final List<String> FAMILIES = List.of("Arial", "Courier New", "DejaVu Sans", "DejaVu Sans Mono",
+                                                         "DejaVu Serif", "Liberation Mono", "Liberation Sans",
+                                                         "Noto Sans Bold", "Times New Roman");
+
+    @Test
+    public void testSetFilter_shouldMatchEveryTokenIgnoringCase() {
+        FontListModel model = new FontListModel();
+        model.setFamilies(FAMILIES);
+        assertEquals(FAMILIES, contents(model));
+
+        model.setFilter("SANS");
+        assertEquals(List.of("DejaVu Sans", "DejaVu Sans Mono", "Liberation Sans", "Noto Sans Bold"), contents(model));
+        model.setFilter("sans mono");
+        assertEquals(List.of("DejaVu Sans Mono"), contents(model));
+        model.setFilter("mono sans");
+        assertEquals(List.of("DejaVu Sans Mono"), contents(model));
+        model.setFilter("  mono ");
+        assertEquals(List.of("DejaVu Sans Mono", "Liberation Mono"), contents(model));
+        model.setFilter("");
+        assertEquals(FAMILIES, contents(model));
+        assertEquals(2, model.indexOf("DejaVu Sans"));
+        model.setFilter("xyz");
+        assertEquals(-1, model.indexOf("DejaVu Sans"));
+        assertEquals(FAMILIES.size(), model.getUnfilteredSize());
+    }
+
+    @Test
+    public void testSetFilter_shouldFireEventsForChangedRowsOnly() {
+        FontListModel model = new FontListModel();
+        model.setFamilies(FAMILIES);
+        List<String> mirror = new ArrayList<>(FAMILIES);
+        model.addListDataListener(new MirrorListener(model, mirror));
+
+        for (String filter : new String[]{"dejavu", "liberation", "dejavu sans", "s", "", "o", "on", "n"}) {
+            model.setFilter(filter);
+            assertEquals(contents(model), mirror, filter);
+        }
+        model.setFamilies(FontCatalog.BUILT_IN_FAMILIES);
+        assertEquals(contents(model), mirror);
+    }
+
+    private static List<String> contents(FontListModel model) {
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < model.getSize(); i++) {
+            contents.add(model.getElementAt(i));
+        }
+        return contents;
+    }
+
+    /**
+     * Applies each event to a plain list, the way a JList would, to prove the events
+     * describe the change exactly.
+     */
+    private static final class MirrorListener implements ListDataListener {
+        private final FontListModel model;
+        private final List<String> mirror;
+
+        MirrorListener(FontListModel model, List<String> mirror) {
+            this.model = model;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                mirror.add(i, "?");
+            }
+            contentsChanged(e);
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            mirror.subList(e.getIndex0(), e.getIndex1() + 1).clear();
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                mirror.set(i, model.getElementAt(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ca.corbett.forms.fonts;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FontPreviewRendererTest {
+
+    @Test
+    public void testRenderer_shouldShowTextUntilPreviewIsCached() throws Exception {
+        FontPreviewRenderer.clearCache();
+        String[] families = FontCatalog.BUILT_IN_FAMILIES.toArray(new String[0]);
+        AtomicReference<JList<String>> list = new AtomicReference<>();
+        AtomicReference<FontPreviewRenderer> renderer = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            list.set(new JList<>(families));
+            renderer.set(FontPreviewRenderer.install(list.get()));
+            assertEquals(FontPreviewRenderer.CELL_HEIGHT, list.get().getFixedCellHeight());
+
+            JLabel label = render(list.get(), renderer.get(), families[0]);
+            assertEquals(families[0], label.getText());
+            assertNull(label.getIcon());
+        });
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (FontPreviewRenderer.getCachedCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        SwingUtilities.invokeAndWait(() -> {
+            JLabel label = render(list.get(), renderer.get(), families[0]);
+            assertNull(label.getText());
+            assertNotNull(label.getIcon());
+            assertEquals(FontPreviewRenderer.CELL_HEIGHT, label.getIcon().getIconHeight());
+        });
+        assertEquals(1, FontPreviewRenderer.getCachedCount());
+    }
+
+    private static JLabel render(JList<String> list, FontPreviewRenderer renderer, String family) {
+        return (JLabel) renderer.getListCellRendererComponent(list, family, 0, false, false);
+    }
+}
@@ -0,0 +1,83 @@
+package ca.corbett.forms.models;
+
+import ca.corbett.forms.fields.ComboField;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ListComboBoxModelTest {
+
+    @Test
+    public void testFilter_shouldNarrowAndWidenAndTrackAppends() {
+        List<String> items = new ArrayList<>(List.of("Alberta", "British Columbia", "Manitoba", "New Brunswick",
+                                                     "Newfoundland", "Nova Scotia", "Ontario"));
+        ListComboBoxModel<String> model = new ListComboBoxModel<>(items);
+        assertEquals(7, model.getSize());
+        assertEquals(4, model.indexOf("Newfoundland"));
+        assertEquals(-1, model.indexOf("Yukon"));
+
+        model.setFilter("N");
+        assertEquals(5, model.getSize());
+        model.setFilter("new");
+        assertEquals(List.of("New Brunswick", "Newfoundland"), List.of(model.getElementAt(0), model.getElementAt(1)));
+        assertEquals(2, model.getSize());
+        model.setFilter("ta");
+        assertEquals(List.of("Alberta", "Ontario"), List.of(model.getElementAt(0), model.getElementAt(1)));
+
+        items.add("Yukon");
+        items.add("Saskatchewan");
+        model.itemsAppended(7);
+        assertEquals(2, model.getSize());
+        assertEquals(8, model.indexOf("Saskatchewan"));
+        model.setFilter("an");
+        assertEquals(3, model.getSize()); // Manitoba, Newfoundland, Saskatchewan
+        model.setFilter(null);
+        assertEquals(9, model.getSize());
+        assertEquals("British Columbia", model.getLongestItem());
+    }
+
+    @Test
+    public void testVirtualComboField_shouldWrapListAndSelectByValue() {
+        List<String> options = new ArrayList<>();
+        for (int i = 0; i < 150_000; i++) {
+            options.add("Option " + i);
+        }
+        ComboField comboField = ComboField.createVirtualComboField("Lookup:", options, 0);
+        assertEquals(150_000, comboField.getOptionCount());
+
+        comboField.setSelectedItem("Option 123456");
+        assertEquals(123_456, comboField.getSelectedIndex());
+        assertSame(options.get(123_456), comboField.getSelectedItem());
+
+        comboField.setSelectedItem("Not an option");
+        assertEquals("Option 123456", comboField.getSelectedItem());
+
+        comboField.setFilterText("99999");
+        comboField.setSelectedIndex(99_999);
+        assertEquals("Option 99999", comboField.getSelectedItem());
+    }
+
+    @Test
+    public void testGetLabel_shouldOnlyCacheModelItems() {
+        AtomicInteger calls = new AtomicInteger();
+        ListComboBoxModel<String> model = new ListComboBoxModel<>(new ArrayList<>(List.of("one", "two")), item -> {
+            calls.incrementAndGet();
+            return item.toUpperCase();
+        });
+        String listed = model.getElementAt(0);
+        assertEquals("ONE", model.getLabel(listed));
+        assertEquals("ONE", model.getLabel(listed));
+        assertEquals(1, calls.get());
+
+        // Free text typed into an editable combo box is labelled, but not remembered:
+        String typed = "typed text";
+        assertEquals("TYPED TEXT", model.getLabel(typed));
+        assertEquals("TYPED TEXT", model.getLabel(typed));
+        assertEquals(3, calls.get());
+    }
+}
@@ -0,0 +1,75 @@
+package ca.corbett.forms.templates;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fields.CheckBoxField;
+import ca.corbett.forms.fields.ColorField;
+import ca.corbett.forms.fields.ComboField;
+import ca.corbett.forms.fields.LabelField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.List;
+
+/**
+ * A simple timing harness (not a unit test) that compares stamping 1,000 forms from a
+ * FormTemplate against building the same forms imperatively, and against re-parsing
+ * the spec for every form. Run the main() method directly; results are printed to stdout.
+ *
+ * @author scorbo2
+ * @since 2026-10-18
+ */
+public class FormTemplateBenchmark {
+
+    private static final int FORMS = 1_000;
+
+    private static final String SPEC = "label text=\"Looking for basic Swing components? No problem!\" font=SansSerif,BOLD,18 margins=24,4,24,4,4\n"
+            + "text label=\"Single-line text:\" cols=15\n"
+            + "text label=\"Multi-line text:\" cols=18 rows=4\n"
+            + "checkbox label=\"Checkboxes\" checked=true\n"
+            + "combo label=\"Comboboxes:\" options=\"Option 1|Option 2|Option 3\"\n"
+            + "color label=\"Color chooser:\" color=#0000ff\n"
+            + "number label=\"Number chooser:\" value=0 min=0 max=100 step=1\n";
+
+    public static void main(String[] args) {
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < FORMS; i++) {
+                buildImperatively();
+            }
+            long imperative = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < FORMS; i++) {
+                FormTemplate.compile(SPEC).stamp();
+            }
+            long stamped = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < FORMS; i++) {
+                new FormSpecParser().parse(SPEC).stamp();
+            }
+            long reparsed = System.nanoTime() - start;
+
+            System.out.printf("round %d, %d forms: imperative %d ms, cached template %d ms, parse every time %d ms%n",
+                              round, FORMS, imperative / 1_000_000, stamped / 1_000_000, reparsed / 1_000_000);
+        }
+    }
+
+    private static FormPanel buildImperatively() {
+        FormPanel formPanel = new FormPanel();
+        LabelField headerLabel = new LabelField("Looking for basic Swing components? No problem!");
+        headerLabel.setFont(new Font("SansSerif", Font.BOLD, 18));
+        headerLabel.setMargins(24, 4, 24, 4, 4);
+        formPanel.addFormField(headerLabel);
+        formPanel.addFormField(new TextField("Single-line text:", 15, 1, true));
+        formPanel.addFormField(new TextField("Multi-line text:", 18, 4, true));
+        formPanel.addFormField(new CheckBoxField("Checkboxes", true));
+        formPanel.addFormField(new ComboField("Comboboxes:", List.of("Option 1", "Option 2", "Option 3"), 0, false));
+        formPanel.addFormField(new ColorField("Color chooser:", Color.BLUE));
+        formPanel.addFormField(new NumberField("Number chooser:", 0, 0, 100, 1));
+        formPanel.render();
+        return formPanel;
+    }
+}
@@ -0,0 +1,65 @@
+package ca.corbett.forms.templates;
+
+import ca.corbett.forms.FormPanel;
+import ca.corbett.forms.fields.ComboField;
+import ca.corbett.forms.fields.NumberField;
+import ca.corbett.forms.fields.TextField;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormTemplateTest {
+
+    private static final String SPEC = "# A test form\n"
+            + "form alignment=TOP_LEFT\n"
+            + "label text=\"Header label\" font=SansSerif,BOLD,18 margins=24,4,24,4,4\n"
+            + "text id=name label=\"Name:\" cols=15 allowBlank=false help=\"Your \\\"full\\\" name\"\n"
+            + "text id=date label=\"Date:\" cols=10 validators=ymdDate value=2020-01-01\n"
+            + "combo id=tier label=\"Tier:\" options=\"Bronze|Silver|Gold\" selected=1\n"
+            + "number id=count label=\"Count:\" value=3 min=0 max=10 step=1\n";
+
+    @Test
+    public void testStamp_shouldCreateConfiguredFields() {
+        FormPanel formPanel = FormTemplate.compile(SPEC).stamp();
+        assertEquals(5, formPanel.getFieldCount());
+        assertEquals(FormPanel.Alignment.TOP_LEFT, formPanel.getAlignment());
+
+        TextField name = (TextField) formPanel.getFormField("name");
+        assertEquals("Your \"full\" name", name.getHelpText());
+        assertFalse(name.validate());
+
+        assertTrue(formPanel.getFormField("date").validate());
+        assertEquals("Silver", ((ComboField) formPanel.getFormField("tier")).getSelectedItem());
+        assertEquals(3, ((NumberField) formPanel.getFormField("count")).getCurrentValue().intValue());
+    }
+
+    @Test
+    public void testCompile_sameContent_shouldReturnCachedTemplate() {
+        FormTemplate first = FormTemplate.compile(SPEC);
+        FormTemplate second = FormTemplate.compile(new StringBuilder(SPEC).toString());
+        assertSame(first, second);
+        assertNotSame(first.stamp().getFormField("name"), second.stamp().getFormField("name"));
+    }
+
+    @Test
+    public void testCompile_withErrors_shouldReportLineNumber() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> FormTemplate.compile("text id=a\nbogus id=b\n"));
+        assertTrue(e.getMessage().contains("line 2"));
+        assertThrows(IllegalArgumentException.class, () -> FormTemplate.compile("text cols=abc"));
+        assertThrows(IllegalArgumentException.class, () -> FormTemplate.compile("checkbox colour=red"));
+    }
+
+    @Test
+    public void testCompile_manySpecs_shouldStayWithinCacheLimit() {
+        for (int i = 0; i < FormTemplate.MAX_CACHED_TEMPLATES * 2; i++) {
+            FormTemplate.compile("text id=field" + i + "\n");
+        }
+        assertTrue(FormTemplate.getCacheSize() <= FormTemplate.MAX_CACHED_TEMPLATES);
+    }
+}
@@ -0,0 +1,107 @@
+package ca.corbett.forms.text;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.text.PlainDocument;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DocumentFileIOTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLoadAndSave_withMultiByteCharsAcrossWindows_shouldRoundTrip() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            content.append("line ").append(i).append(" héllo 世界 😀\n");
+        }
+        Path source = tempDir.resolve("source.txt");
+        Files.writeString(source, content, StandardCharsets.UTF_8);
+
+        // Deliberately tiny, odd-sized windows and chunks so that characters straddle the boundaries:
+        PlainDocument document = new PlainDocument();
+        DocumentFileLoader loader = new DocumentFileLoader(document, source, StandardCharsets.UTF_8, 37, 29);
+        loader.execute();
+        assertEquals(content.length(), loader.get().longValue());
+        assertEquals(content.toString(), document.getText(0, document.getLength()));
+
+        Path target = tempDir.resolve("target.txt");
+        DocumentFileSaver saver = new DocumentFileSaver(document, target, StandardCharsets.UTF_8, 29);
+        saver.execute();
+        assertEquals(Files.size(source), saver.get().longValue());
+        assertEquals(content.toString(), Files.readString(target, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLoadAndSave_emptyFile() throws Exception {
+        Path source = tempDir.resolve("empty.txt");
+        Files.createFile(source);
+        PlainDocument document = new PlainDocument();
+        DocumentFileLoader loader = new DocumentFileLoader(document, source, StandardCharsets.UTF_8);
+        loader.execute();
+        assertEquals(0L, loader.get().longValue());
+
+        Path target = tempDir.resolve("empty-out.txt");
+        DocumentFileSaver saver = new DocumentFileSaver(document, target, StandardCharsets.UTF_8);
+        saver.execute();
+        assertEquals(0L, saver.get().longValue());
+        assertEquals(0L, Files.size(target));
+    }
+
+    @Test
+    public void testWhenDone_shouldRunOnEdtAfterAllTextIsInserted() throws Exception {
+        Path source = tempDir.resolve("source.txt");
+        Files.writeString(source, "x".repeat(10_000), StandardCharsets.UTF_8);
+        PlainDocument document = new PlainDocument();
+        CountDownLatch done = new CountDownLatch(1);
+        int[] lengthWhenDone = {-1};
+        new DocumentFileLoader(document, source, StandardCharsets.UTF_8, 64, 16).whenDone(() -> {
+            lengthWhenDone[0] = document.getLength();
+            done.countDown();
+        }).execute();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(10_000, lengthWhenDone[0]);
+    }
+
+    @Test
+    public void testSave_shouldOverwriteWithoutLeavingTempFiles() throws Exception {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "new content", null);
+        Path target = tempDir.resolve("target.txt");
+        Files.writeString(target, "old content that is longer", StandardCharsets.UTF_8);
+
+        DocumentFileSaver saver = new DocumentFileSaver(document, target, StandardCharsets.UTF_8);
+        saver.execute();
+        saver.get();
+        assertEquals("new content", Files.readString(target, StandardCharsets.UTF_8));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testSave_newFile_shouldGetDefaultPermissions() throws Exception {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "hello", null);
+        Path target = tempDir.resolve("new.txt");
+        DocumentFileSaver saver = new DocumentFileSaver(document, target, StandardCharsets.UTF_8);
+        saver.execute();
+        saver.get();
+
+        Path reference = Files.createFile(tempDir.resolve("reference.txt"));
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(target));
+    }
+}
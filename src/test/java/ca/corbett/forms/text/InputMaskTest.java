@@ -0,0 +1,83 @@
+package ca.corbett.forms.text;
+
+import ca.corbett.forms.fields.TextField;
+import ca.corbett.forms.validators.MaskCompleteValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputMaskTest {
+
+    @Test
+    public void testTyping_shouldFillLiteralsAndRejectInvalidChars() throws BadLocationException {
+        TextField textField = new TextField("Phone:", 15, 1, true);
+        textField.setInputMask(InputMask.compile("(###) ###-####"));
+        Document document = textField.getDocument();
+
+        for (char c : "555x1234567".toCharArray()) {
+            document.insertString(document.getLength(), String.valueOf(c), null);
+        }
+        assertEquals("(555) 123-4567", textField.getText());
+        assertTrue(textField.getInputMask().isComplete(textField.getCharSequence()));
+
+        document.insertString(document.getLength(), "8", null); // mask is full
+        assertEquals("(555) 123-4567", textField.getText());
+
+        document.remove(document.getLength() - 1, 1);
+        assertEquals("(555) 123-456", textField.getText());
+        document.remove(2, 1); // can't punch a hole in the middle
+        assertEquals("(555) 123-456", textField.getText());
+
+        document.insertString(1, "9", null); // typing overwrites
+        assertEquals("(955) 123-456", textField.getText());
+    }
+
+    @Test
+    public void testPaste_withOrWithoutLiterals() {
+        TextField textField = new TextField("Code:", 15, 1, true);
+        textField.setInputMask(InputMask.compile("UU-####"));
+        textField.setText("ab1234");
+        assertEquals("AB-1234", textField.getText());
+        textField.setText("cd-5678");
+        assertEquals("CD-5678", textField.getText());
+        textField.setText("cd-56789"); // too long, so the whole edit is rejected
+        assertEquals("CD-5678", textField.getText());
+    }
+
+    @Test
+    public void testSetInputMask_shouldKeepConformingTextAndValidateCompleteness() {
+        TextField textField = new TextField("Code:", 15, 1, true);
+        textField.setText("ab12");
+        textField.setInputMask(InputMask.compile("UU-####"));
+        assertEquals("AB-12", textField.getText());
+
+        MaskCompleteValidator validator = new MaskCompleteValidator(textField);
+        assertFalse(validator.validate().isValid());
+        textField.setText("AB-1234");
+        assertTrue(validator.validate().isValid());
+        textField.setText("");
+        assertTrue(new MaskCompleteValidator(textField, true).validate().isValid());
+
+        TextField multiLine = new TextField("Notes:", 15, 4, true);
+        assertThrows(IllegalStateException.class, () -> multiLine.setInputMask(InputMask.compile("###")));
+    }
+
+    @Test
+    public void testClear_withLeadingLiteral_shouldLeaveFieldEmpty() {
+        TextField textField = new TextField("Phone:", 15, 1, true);
+        textField.setInputMask(InputMask.compile("(###) ###-####"));
+        textField.setText("5551234567");
+        assertEquals("(555) 123-4567", textField.getText());
+
+        textField.setText("");
+        assertEquals("", textField.getText());
+        assertTrue(new MaskCompleteValidator(textField, true).validate().isValid());
+        assertFalse(new MaskCompleteValidator(textField).validate().isValid());
+    }
+}
@@ -0,0 +1,46 @@
+package ca.corbett.forms.validators;
+
+import ca.corbett.forms.fields.TextField;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextValidatorTest {
+
+    @Test
+    public void testTrimHelpers_shouldMatchStringTrim() {
+        for (String s : new String[]{"", "   ", " a ", "\t\nab c\r\n", "abc"}) {
+            assertEquals(s.trim().isEmpty(), TextValidator.isBlank(s));
+            if (!s.trim().isEmpty()) {
+                assertEquals(s.trim(), s.substring(TextValidator.trimStart(s), TextValidator.trimEnd(s)));
+            }
+        }
+    }
+
+    @Test
+    public void testBuiltInValidators() {
+        TextField textField = new TextField("Text:", 12, 3, true);
+        NonBlankFieldValidator nonBlank = new NonBlankFieldValidator(textField);
+        YMDDateValidator date = new YMDDateValidator(textField);
+        LengthValidator length = new LengthValidator(textField, 2, 12);
+        PatternValidator pattern = new PatternValidator(textField, Pattern.compile("\\s*\\d{4}-\\d{2}-\\d{2}\\s*"),
+                                                        "Not a date.");
+
+        textField.setText(" \n ");
+        assertFalse(nonBlank.validate().isValid());
+        assertFalse(date.validate().isValid());
+        assertTrue(length.validate().isValid());
+        assertFalse(pattern.validate().isValid());
+
+        textField.setText("  2026-10-18\n");
+        assertTrue(nonBlank.validate().isValid());
+        assertTrue(date.validate().isValid());
+        assertFalse(length.validate().isValid());
+        assertTrue(pattern.validate().isValid());
+        assertTrue(new YMDDateValidator(textField, true).validate().isValid());
+    }
+}